@@ -0,0 +1,78 @@
+package com.ssafy.bookshy.domain.chat.service;
+
+import net.coobird.thumbnailator.Thumbnails;
+import org.openjdk.jmh.annotations.*;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ 채팅 이미지 1장 변환 시간 (chatImageExecutor 처리량 산정용)
+ *
+ * - chained: 원본 → 중간 크기 → 썸네일 (ChatImageProcessor 경로, 큰 원본은 한 번만 디코딩)
+ * - eachFromOriginal: 원본에서 중간 크기와 썸네일을 각각 생성 (이전 경로)
+ *
+ * 원본은 휴대폰 사진 크기의 잡음 섞인 JPEG로 만들어 디코딩·리샘플링 비용이 실제와 비슷하도록 합니다.
+ * 풀 처리량(장/초) ≈ chat.image.workers × 1000 / 측정값(ms)
+ * 실행: ./gradlew jmh -Pjmh.includes=ChatImageRenditionBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class ChatImageRenditionBenchmark {
+
+    @Param({"1600x1200", "4032x3024"})
+    public String size;
+
+    private Path dir;
+    private File original;
+    private File medium;
+    private File thumb;
+
+    @Setup
+    public void setUp() throws IOException {
+        String[] wh = size.split("x");
+        int width = Integer.parseInt(wh[0]);
+        int height = Integer.parseInt(wh[1]);
+
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Random random = new Random(42);
+        for (int y = 0; y < height; y++) {
+            for (int x = 0; x < width; x++) {
+                int base = (x * 255 / width) << 16 | (y * 255 / height) << 8;
+                image.setRGB(x, y, base | random.nextInt(64));
+            }
+        }
+
+        dir = Files.createTempDirectory("chat-image-bench");
+        original = dir.resolve("original.jpg").toFile();
+        medium = dir.resolve("medium.jpg").toFile();
+        thumb = dir.resolve("thumb.jpg").toFile();
+        ImageIO.write(image, "jpg", original);
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        for (File file : new File[]{original, medium, thumb}) {
+            Files.deleteIfExists(file.toPath());
+        }
+        Files.deleteIfExists(dir);
+    }
+
+    @Benchmark
+    public void chained() throws IOException {
+        ChatImageProcessor.writeRenditions(original, medium, thumb);
+    }
+
+    @Benchmark
+    public void eachFromOriginal() throws IOException {
+        Thumbnails.of(original).size(1080, 1080).outputQuality(0.85).toFile(medium);
+        Thumbnails.of(original).size(240, 240).outputQuality(0.8).toFile(thumb);
+    }
+}
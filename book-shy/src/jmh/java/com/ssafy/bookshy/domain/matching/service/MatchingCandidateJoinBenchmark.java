@@ -0,0 +1,112 @@
+package com.ssafy.bookshy.domain.matching.service;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgeBook;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.*;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ 후보별 쿼리 경로 vs 집합 쿼리 + 메모리 조인 경로
+ *
+ * DB 없이 간선 데이터를 (wisher, holder) 색인 맵으로 흉내 내고, 쿼리 1회의 왕복 비용은 ROUND_TRIP_TOKENS만큼의
+ * CPU 소모로 고정합니다. 후보별 경로는 후보마다 쿼리 2회, 집합 경로는 후보 수와 관계없이 쿼리 2회입니다.
+ * 실제 DB 왕복(수백 µs~ms)보다 훨씬 작은 비용으로도 후보 수가 늘수록 차이가 선형으로 벌어지는지 확인하는 용도입니다.
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=MatchingCandidateJoinBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class MatchingCandidateJoinBenchmark {
+
+    private static final long ME = 0L;
+    private static final int BOOKS_PER_SIDE = 3;
+    private static final long ROUND_TRIP_TOKENS = 2_000;
+
+    @Param({"10", "100", "1000", "10000"})
+    public int candidates;
+
+    // (wisher, holder) → 간선 도서 행
+    private Map<Long, Map<Long, List<MatchEdgeBook>>> edges;
+    private List<Long> candidateIds;
+
+    record Row(Long partnerId, Long bookId, String title) implements MatchEdgeBook {
+        @Override public Long getPartnerId() { return partnerId; }
+        @Override public Long getBookId() { return bookId; }
+        @Override public String getTitle() { return title; }
+    }
+
+    @Setup
+    public void setUp() {
+        edges = new HashMap<>();
+        candidateIds = new ArrayList<>(candidates);
+        Random random = new Random(42);
+        for (long partner = 1; partner <= candidates; partner++) {
+            candidateIds.add(partner);
+            // 절반은 양방향, 나머지는 한쪽만
+            boolean mutual = random.nextBoolean();
+            for (int i = 0; i < BOOKS_PER_SIDE; i++) {
+                long theirBook = partner * 100 + i;
+                addEdge(ME, partner, new Row(partner, theirBook, "their-" + theirBook));
+                if (mutual) {
+                    long myBook = 1_000_000L + partner * 100 + i;
+                    addEdge(partner, ME, new Row(partner, myBook, "mine-" + myBook));
+                }
+            }
+        }
+    }
+
+    /** 후보마다 "상대가 가진 내 찜 도서", "상대가 원하는 내 도서"를 각각 조회 (쿼리 2N회) */
+    @Benchmark
+    public void perCandidateQueries(Blackhole bh) {
+        List<Long> matched = new ArrayList<>();
+        for (Long partner : candidateIds) {
+            List<MatchEdgeBook> theirs = query(ME, List.of(partner));
+            List<MatchEdgeBook> mine = query(partner, List.of(ME));
+            if (!theirs.isEmpty() && !mine.isEmpty()) {
+                matched.add(partner);
+                bh.consume(theirs);
+                bh.consume(mine);
+            }
+        }
+        bh.consume(matched);
+    }
+
+    /** 집합 쿼리 2회 후 메모리 조인 */
+    @Benchmark
+    public void setQueriesAndJoin(Blackhole bh) {
+        Map<Long, Map<Long, String>> theirs = MatchingCandidateJoin.groupByPartner(query(ME, candidateIds));
+        Map<Long, Map<Long, String>> mine = MatchingCandidateJoin.groupByPartner(queryWishedBy(theirs.keySet()));
+        bh.consume(MatchingCandidateJoin.mutualPartners(theirs, mine));
+        bh.consume(mine);
+    }
+
+    // wisher가 holders에게서 원하는 도서 행 (쿼리 1회)
+    private List<MatchEdgeBook> query(Long wisher, Collection<Long> holders) {
+        Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+        List<MatchEdgeBook> rows = new ArrayList<>();
+        Map<Long, List<MatchEdgeBook>> byHolder = edges.getOrDefault(wisher, Map.of());
+        for (Long holder : holders) {
+            rows.addAll(byHolder.getOrDefault(holder, List.of()));
+        }
+        return rows;
+    }
+
+    // partners가 나에게서 원하는 도서 행 (쿼리 1회)
+    private List<MatchEdgeBook> queryWishedBy(Collection<Long> partners) {
+        Blackhole.consumeCPU(ROUND_TRIP_TOKENS);
+        List<MatchEdgeBook> rows = new ArrayList<>();
+        for (Long partner : partners) {
+            rows.addAll(edges.getOrDefault(partner, Map.of()).getOrDefault(ME, List.of()));
+        }
+        return rows;
+    }
+
+    private void addEdge(long wisher, long holder, MatchEdgeBook row) {
+        edges.computeIfAbsent(wisher, k -> new HashMap<>())
+                .computeIfAbsent(holder, k -> new ArrayList<>())
+                .add(row);
+    }
+}
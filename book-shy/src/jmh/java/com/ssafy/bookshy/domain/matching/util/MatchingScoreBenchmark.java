@@ -0,0 +1,92 @@
+package com.ssafy.bookshy.domain.matching.util;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ 후보 점수 계산: 후보별 스칼라 계산 vs 좌표 배치 계산 vs 거리 재사용 배치 계산
+ *
+ * - scalar: 후보마다 하버사인 + LocalDateTime 비교 (기존 경로)
+ * - batchWithCoordinates: 원시 배열 + 근사 거리 사전 필터 + 현재 시각 1회
+ * - batchWithDistances: 위치 인덱스가 계산한 거리를 그대로 사용 (매칭 엔진 경로)
+ *
+ * 후보의 절반은 반경(20km) 안, 절반은 밖에 두어 사전 필터 효과도 함께 측정합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=MatchingScoreBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class MatchingScoreBenchmark {
+
+    private static final double MY_LAT = 37.5665;
+    private static final double MY_LON = 126.9780;
+
+    @Param({"10000", "100000", "1000000"})
+    public int candidates;
+
+    private double[] lats;
+    private double[] lons;
+    private double[] distances;
+    private float[] temperatures;
+    private long[] lastActive;
+    private Float[] boxedTemperatures;
+    private LocalDateTime[] lastActiveTimes;
+    private double[] scores;
+
+    @Setup
+    public void setUp() {
+        Random random = new Random(42);
+        lats = new double[candidates];
+        lons = new double[candidates];
+        distances = new double[candidates];
+        temperatures = new float[candidates];
+        lastActive = new long[candidates];
+        boxedTemperatures = new Float[candidates];
+        lastActiveTimes = new LocalDateTime[candidates];
+        scores = new double[candidates];
+
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < candidates; i++) {
+            // 약 ±0.15도(반경 안) 또는 ±1도(대부분 반경 밖)
+            double spread = i % 2 == 0 ? 0.15 : 1.0;
+            lats[i] = MY_LAT + (random.nextDouble() * 2 - 1) * spread;
+            lons[i] = MY_LON + (random.nextDouble() * 2 - 1) * spread;
+            distances[i] = MatchingScoreCalculator.calculateDistance(MY_LAT, MY_LON, lats[i], lons[i]);
+            temperatures[i] = 30 + random.nextFloat() * 40;
+            boxedTemperatures[i] = temperatures[i];
+            lastActiveTimes[i] = now.minusHours(random.nextInt(24 * 14));
+            lastActive[i] = lastActiveTimes[i].atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+        }
+    }
+
+    @Benchmark
+    public void scalar(Blackhole bh) {
+        for (int i = 0; i < candidates; i++) {
+            double distKm = MatchingScoreCalculator.calculateDistance(MY_LAT, MY_LON, lats[i], lons[i]);
+            double raw = MatchingScoreCalculator.distanceScore(distKm)
+                    + MatchingScoreCalculator.temperatureScore(boxedTemperatures[i])
+                    + MatchingScoreCalculator.activityScore(lastActiveTimes[i]);
+            bh.consume(Math.min((raw / 14.0) * 100.0, 100.0));
+            bh.consume(distKm);
+        }
+    }
+
+    @Benchmark
+    public double[] batchWithCoordinates() {
+        MatchingScoreCalculator.scoreBatch(MY_LAT, MY_LON, lats, lons, temperatures, lastActive,
+                candidates, System.currentTimeMillis(), scores, distances);
+        return scores;
+    }
+
+    @Benchmark
+    public double[] batchWithDistances() {
+        MatchingScoreCalculator.scoreBatch(distances, temperatures, lastActive,
+                candidates, System.currentTimeMillis(), scores);
+        return scores;
+    }
+}
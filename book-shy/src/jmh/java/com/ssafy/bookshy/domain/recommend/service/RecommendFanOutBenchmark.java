@@ -0,0 +1,104 @@
+package com.ssafy.bookshy.domain.recommend.service;
+
+import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * ⏱️ 추천 결과가 없을 때의 응답 시간 분포: 마감 후 대체 추천 시작 vs 대체 추천 미리 시작
+ *
+ * 실제 설정(마감 3000ms, 단건 조회 제한 2000ms)을 1/10로 줄여 마감 300ms, 대체 추천 20~200ms로 흉내 냅니다.
+ * - emptySources: 추천 유형이 모두 30~80ms 안에 빈 결과를 반환
+ * - slowSource: 한 추천 유형이 마감을 넘김 (나머지는 빈 결과)
+ *
+ * SampleTime 모드라 p50/p90/p99가 함께 출력됩니다. 기대치(실제 설정 기준):
+ * - afterDeadline: 최악 마감 + 조회 제한 ≈ 5초, 빈 결과 시에도 추천 유형 시간 + 대체 추천 시간
+ * - speculative: 최악 마감 ≈ 3초, 빈 결과 시 max(추천 유형 시간, 대체 추천 시간)
+ *
+ * 실행: ./gradlew jmh -Pjmh.includes=RecommendFanOutBenchmark
+ */
+@BenchmarkMode(Mode.SampleTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+@Warmup(iterations = 1, time = 5)
+@Measurement(iterations = 3, time = 10)
+public class RecommendFanOutBenchmark {
+
+    private static final long DEADLINE_MS = 300;
+
+    @Param({"emptySources", "slowSource"})
+    public String scenario;
+
+    private ThreadPoolTaskExecutor recommendExecutor;
+    private ThreadPoolTaskExecutor lookupExecutor;
+    private RecommendFanOut fanOut;
+    private Map<String, Supplier<List<BookListResponseDto>>> sources;
+
+    @Setup
+    public void setUp() {
+        recommendExecutor = executor("bench-recommend-");
+        lookupExecutor = executor("bench-lookup-");
+        fanOut = new RecommendFanOut(null, recommendExecutor, lookupExecutor, new SimpleMeterRegistry(),
+                DEADLINE_MS, 200);
+
+        sources = new LinkedHashMap<>();
+        sources.put("category", () -> empty(30, 80));
+        sources.put("author", () -> empty(30, 80));
+        sources.put("similar", "slowSource".equals(scenario) ? () -> empty(400, 450) : () -> empty(30, 80));
+    }
+
+    @TearDown
+    public void tearDown() {
+        recommendExecutor.shutdown();
+        lookupExecutor.shutdown();
+    }
+
+    /** 이전 경로: 추천 유형이 끝난(또는 마감된) 뒤에야 대체 추천 시작 */
+    @Benchmark
+    public List<BookListResponseDto> afterDeadline() {
+        List<BookListResponseDto> books = fanOut.collect(sources);
+        return books.isEmpty() ? fallback() : books;
+    }
+
+    /** 현재 경로: 대체 추천을 함께 시작해 같은 마감 시간 안에서 사용 */
+    @Benchmark
+    public List<BookListResponseDto> speculative() {
+        return fanOut.collect(sources, RecommendFanOutBenchmark::fallback);
+    }
+
+    private static List<BookListResponseDto> fallback() {
+        sleep(ThreadLocalRandom.current().nextLong(20, 201));
+        return List.of(BookListResponseDto.builder().itemId(615014L).title("기본 추천").build());
+    }
+
+    private static List<BookListResponseDto> empty(long minMs, long maxMs) {
+        sleep(ThreadLocalRandom.current().nextLong(minMs, maxMs + 1));
+        return List.of();
+    }
+
+    private static void sleep(long ms) {
+        try {
+            Thread.sleep(ms);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ThreadPoolTaskExecutor executor(String prefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(16);
+        executor.setMaxPoolSize(16);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix(prefix);
+        executor.initialize();
+        return executor;
+    }
+}
@@ -0,0 +1,93 @@
+package com.ssafy.bookshy.external.aladin;
+
+import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
+import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ⏱️ 알라딘 검색 응답 1건 파싱: 문자열 → AladinItem → DTO (이전 경로) vs 바이트 → DTO
+ *
+ * - stringToItemTo*: 본문 바이트를 문자열로 만든 뒤 AladinItem 목록으로 파싱하고 DTO로 다시 옮김
+ * - bytesTo*: 바이트에서 바로 파싱해 DTO를 만듦 (목록 DTO는 쓰지 않는 필드를 문자열로 만들지 않음)
+ *
+ * 본문은 OptResult=bookinfo 검색 응답과 비슷한 크기·구성(한글 제목·설명, HTML 엔티티, bookinfo 객체)으로 만듭니다.
+ * 지연은 µs/op, 할당량은 gc 프로파일러의 gc.alloc.rate.norm(B/op)으로 비교합니다.
+ * 실행: ./gradlew jmh -Pjmh.includes=AladinResponseParserBenchmark
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class AladinResponseParserBenchmark {
+
+    @Param({"10", "50"})
+    public int items;
+
+    private final AladinResponseParser parser = new AladinResponseParser();
+    private byte[] body;
+
+    @Setup
+    public void setUp() {
+        StringBuilder json = new StringBuilder("{\"version\":\"20131101\",\"totalResults\":")
+                .append(items).append(",\"startIndex\":1,\"itemsPerPage\":").append(items)
+                .append(",\"query\":\"소설\",\"item\":[");
+        for (int i = 0; i < items; i++) {
+            if (i > 0) json.append(',');
+            json.append("{\"title\":\"작별하지 않는다 ").append(i).append(" &amp; 다른 이야기\",")
+                    .append("\"link\":\"http://www.aladin.co.kr/shop/wproduct.aspx?ItemId=").append(i).append("\",")
+                    .append("\"author\":\"한강 (지은이)\",\"pubDate\":\"2021-09-09\",")
+                    .append("\"description\":\"").append("제주 4·3을 정면으로 다룬 장편소설. ".repeat(8)).append("\",")
+                    .append("\"isbn\":\"K").append(i).append("\",\"isbn13\":\"97889364").append(10000 + i).append("\",")
+                    .append("\"itemId\":").append(1_000_000 + i).append(",\"priceSales\":12600,\"priceStandard\":14000,")
+                    .append("\"mallType\":\"BOOK\",\"stockStatus\":\"\",\"mileage\":700,")
+                    .append("\"cover\":\"https://image.aladin.co.kr/product/").append(i).append("/cover200.jpg\",")
+                    .append("\"categoryId\":50993,\"categoryName\":\"국내도서>소설/시/희곡>한국소설>2000년대 이후 한국소설\",")
+                    .append("\"publisher\":\"문학동네\",\"salesPoint\":").append(100_000 - i).append(',')
+                    .append("\"adult\":false,\"fixedPrice\":true,\"customerReviewRank\":10,")
+                    .append("\"bookinfo\":{\"subTitle\":\"\",\"originalTitle\":\"\",\"itemPage\":332,")
+                    .append("\"toc\":\"<p>1부 새<br/>2부 밤<br/>3부 불꽃</p>\",")
+                    .append("\"authors\":[{\"authorType\":\"author\",\"authorid\":1,\"desc\":\"지은이\",\"name\":\"한강\"}]}}");
+        }
+        body = json.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public List<BookResponseDto> stringToItemToBook() throws IOException {
+        List<BookResponseDto> books = new ArrayList<>();
+        for (AladinItem item : parser.parseItems(new String(body, StandardCharsets.UTF_8))) {
+            books.add(BookResponseDto.fromAladin(item));
+        }
+        return books;
+    }
+
+    @Benchmark
+    public List<BookResponseDto> bytesToBook() throws IOException {
+        return parser.parseBooks(body);
+    }
+
+    @Benchmark
+    public List<BookListResponseDto> stringToItemToBookList() throws IOException {
+        List<BookListResponseDto> books = new ArrayList<>();
+        for (AladinItem item : parser.parseItems(new String(body, StandardCharsets.UTF_8))) {
+            books.add(BookListResponseDto.builder()
+                    .itemId(item.itemId())
+                    .title(item.title())
+                    .author(item.author())
+                    .publisher(item.publisher())
+                    .coverImageUrl(item.cover())
+                    .description(item.description())
+                    .build());
+        }
+        return books;
+    }
+
+    @Benchmark
+    public List<BookListResponseDto> bytesToBookList() throws IOException {
+        return parser.parseBookList(body);
+    }
+}
@@ -0,0 +1,105 @@
+package com.ssafy.bookshy.common.config;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.ThreadPoolExecutor;
+
+/**
+ * 🧵 요청 스레드 밖에서 돌리는 작업용 스레드 풀
+ */
+@Configuration
+public class ExecutorConfig {
+
+    /**
+     * 🖼️ 채팅 이미지 변환 풀 (CPU 바운드)
+     * - 큐가 가득 차면 거절하고 메시지는 PROCESSING으로 남김 (요청 스레드에서 대신 변환하지 않음)
+     *   거절된 메시지는 ChatImageProcessor#retryPending이 주기적으로 다시 제출
+     * - 처리량 ≈ workers / 이미지 1장 변환 시간 (ChatImageRenditionBenchmark로 측정, 원본 크기에 비례)
+     *   큐는 queue-capacity × 변환 시간 ÷ workers 동안의 업로드 폭주를 흡수
+     */
+    @Bean(name = "chatImageExecutor")
+    public ThreadPoolTaskExecutor chatImageExecutor(
+            @Value("${chat.image.workers:#{T(java.lang.Math).max(2, T(java.lang.Runtime).getRuntime().availableProcessors() / 2)}}") int workers,
+            @Value("${chat.image.queue-capacity:100}") int queueCapacity) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("chat-image-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.setWaitForTasksToCompleteOnShutdown(true);
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 📚 알라딘 캐시 백그라운드 갱신 풀 (I/O 바운드)
+     * - 갱신은 최선 노력이므로 큐가 가득 차면 거절하고 기존 값을 계속 사용
+     */
+    @Bean(name = "aladinRefreshExecutor")
+    public ThreadPoolTaskExecutor aladinRefreshExecutor(
+            @Value("${aladin.cache.refresh-workers:2}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(200);
+        executor.setThreadNamePrefix("aladin-refresh-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    /**
+     * 🎯 추천 유형(카테고리/작가/유사 유저) 동시 실행 풀 (I/O 바운드)
+     * - 큐가 가득 차면 거절하고 해당 추천 유형은 빈 결과로 처리 (요청 스레드가 대신 실행하면 마감 시간을 지킬 수 없음)
+     */
+    @Bean(name = "recommendExecutor")
+    public ThreadPoolTaskExecutor recommendExecutor(
+            @Value("${recommend.fan-out.workers:12}") int workers,
+            @Value("${recommend.fan-out.queue-capacity:60}") int queueCapacity) {
+        return ioBoundExecutor(workers, queueCapacity, "recommend-");
+    }
+
+    /**
+     * 📖 추천 도서 단건 조회(알라딘) 동시 실행 풀
+     * - 추천 유형 작업이 이 풀의 결과를 기다리므로 recommendExecutor와 분리 (같은 풀이면 서로 기다리다 고갈됨)
+     */
+    @Bean(name = "recommendLookupExecutor")
+    public ThreadPoolTaskExecutor recommendLookupExecutor(
+            @Value("${recommend.lookup.workers:16}") int workers,
+            @Value("${recommend.lookup.queue-capacity:200}") int queueCapacity) {
+        return ioBoundExecutor(workers, queueCapacity, "recommend-lookup-");
+    }
+
+    /**
+     * 🔁 교환 사이클 탐색 풀 (CPU 바운드, 주기 작업 전용)
+     * - 공용 ForkJoinPool을 쓰지 않아 parallel stream 등 다른 작업과 코어를 다투지 않음
+     * - 한 번에 한 탐색만 돌고 작업 수는 workers × 4이므로 큐는 그보다 넉넉하게, 넘치면 거절 (탐색 실패 → 다음 주기 재시도)
+     */
+    @Bean(name = "cycleSearchExecutor")
+    public ThreadPoolTaskExecutor cycleSearchExecutor(
+            @Value("${matching.cycle.workers:#{T(java.lang.Math).max(1, T(java.lang.Runtime).getRuntime().availableProcessors() / 2)}}") int workers) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(workers * 8);
+        executor.setThreadNamePrefix("cycle-search-");
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+
+    private ThreadPoolTaskExecutor ioBoundExecutor(int workers, int queueCapacity, String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(workers);
+        executor.setMaxPoolSize(workers);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setRejectedExecutionHandler(new ThreadPoolExecutor.AbortPolicy());
+        executor.initialize();
+        return executor;
+    }
+}
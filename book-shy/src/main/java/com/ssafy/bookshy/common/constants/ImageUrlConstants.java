@@ -11,6 +11,7 @@ public class ImageUrlConstants {
     // 채팅방 사진 업로드
     public static final String CHAT_IMAGE_BASE_URL = "https://k12d204.p.ssafy.io/images/chat/";
     public static final String CHAT_IMAGE_THUMB_BASE_URL = "https://k12d204.p.ssafy.io/images/chat/thumb/";
+    public static final String CHAT_IMAGE_MEDIUM_BASE_URL = "https://k12d204.p.ssafy.io/images/chat/medium/";
 
 
 
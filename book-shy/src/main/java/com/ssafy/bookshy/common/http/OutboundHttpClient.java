@@ -0,0 +1,218 @@
+package com.ssafy.bookshy.common.http;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.hc.client5.http.HttpRoute;
+import org.apache.hc.client5.http.async.methods.SimpleHttpRequest;
+import org.apache.hc.client5.http.async.methods.SimpleHttpResponse;
+import org.apache.hc.client5.http.async.methods.SimpleRequestBuilder;
+import org.apache.hc.client5.http.config.ConnectionConfig;
+import org.apache.hc.client5.http.config.RequestConfig;
+import org.apache.hc.client5.http.impl.async.CloseableHttpAsyncClient;
+import org.apache.hc.client5.http.impl.async.HttpAsyncClients;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManager;
+import org.apache.hc.client5.http.impl.nio.PoolingAsyncClientConnectionManagerBuilder;
+import org.apache.hc.core5.concurrent.FutureCallback;
+import org.apache.hc.core5.http.ContentType;
+import org.apache.hc.core5.http.HttpHost;
+import org.apache.hc.core5.io.CloseMode;
+import org.apache.hc.core5.pool.PoolStats;
+import org.apache.hc.core5.util.TimeValue;
+import org.apache.hc.core5.util.Timeout;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.io.InterruptedIOException;
+import java.net.URI;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeoutException;
+import java.util.function.ToDoubleFunction;
+
+/**
+ * 🌐 외부 API 공용 비동기 HTTP 클라이언트 (Apache HttpClient 5, 연결 풀)
+ *
+ * - 호스트(route)별 연결 풀과 keep-alive로 연결을 재사용합니다.
+ * - 연결/응답/풀 대기 시간을 모두 제한하여, 느린 외부 API가 요청 스레드를 무한히 붙잡지 않도록 합니다.
+ * - 호출은 I/O 스레드에서 처리되고 결과는 CompletableFuture로 돌려줍니다.
+ *
+ * 지표 (upstream 태그 = 호출 측이 지정한 외부 API 이름):
+ * - http.client.outbound: 요청 지연 (outcome=SUCCESS|CLIENT_ERROR|SERVER_ERROR|TIMEOUT|ERROR)
+ * - http.client.pool.leased / pending / available / max: 외부 API 호스트별 연결 풀 사용량 (pending > 0이면 포화)
+ */
+@Slf4j
+@Component
+public class OutboundHttpClient {
+
+    private final MeterRegistry meterRegistry;
+    private final PoolingAsyncClientConnectionManager connectionManager;
+    private final CloseableHttpAsyncClient client;
+    // 요청별 설정은 이 값을 복사해 바꿈 (새로 만들면 풀 대기 시간이 HttpClient 기본값 3분으로 돌아감)
+    private final RequestConfig defaultRequestConfig;
+    private final Map<String, HttpRoute> routesByUpstream = new ConcurrentHashMap<>();
+
+    public OutboundHttpClient(MeterRegistry meterRegistry,
+                              @Value("${http.client.max-total:200}") int maxTotal,
+                              @Value("${http.client.max-per-route:50}") int maxPerRoute,
+                              @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                              @Value("${http.client.response-timeout-ms:5000}") long responseTimeoutMs,
+                              @Value("${http.client.pool-timeout-ms:1000}") long poolTimeoutMs,
+                              @Value("${http.client.idle-evict-ms:30000}") long idleEvictMs) {
+        this.meterRegistry = meterRegistry;
+        this.connectionManager = PoolingAsyncClientConnectionManagerBuilder.create()
+                .setMaxConnTotal(maxTotal)
+                .setMaxConnPerRoute(maxPerRoute)
+                .setDefaultConnectionConfig(ConnectionConfig.custom()
+                        .setConnectTimeout(Timeout.ofMilliseconds(connectTimeoutMs))
+                        .setSocketTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                        .build())
+                .build();
+        this.defaultRequestConfig = RequestConfig.custom()
+                .setConnectionRequestTimeout(Timeout.ofMilliseconds(poolTimeoutMs))
+                .setResponseTimeout(Timeout.ofMilliseconds(responseTimeoutMs))
+                .build();
+        this.client = HttpAsyncClients.custom()
+                .setConnectionManager(connectionManager)
+                .setDefaultRequestConfig(defaultRequestConfig)
+                .evictIdleConnections(TimeValue.ofMilliseconds(idleEvictMs))
+                .evictExpiredConnections()
+                .build();
+        this.client.start();
+    }
+
+    /**
+     * GET 요청 후 응답 본문을 문자열로 반환합니다.
+     */
+    public CompletableFuture<String> getString(String upstream, URI uri) {
+        return execute(upstream, SimpleRequestBuilder.get(uri).build())
+                .thenApply(OutboundHttpClient::bodyAsString);
+    }
+
+    /**
+     * GET 요청 후 응답 본문을 바이트 그대로 반환합니다.
+     * 문자열 변환 없이 스트리밍 파서에 넘길 때 사용하며, 문자셋 해석은 호출 측(파서)이 맡습니다.
+     */
+    public CompletableFuture<byte[]> getBytes(String upstream, URI uri) {
+        return execute(upstream, SimpleRequestBuilder.get(uri).build())
+                .thenApply(SimpleHttpResponse::getBodyBytes);
+    }
+
+    /**
+     * JSON 본문으로 POST 요청 후 응답 본문을 문자열로 반환합니다.
+     *
+     * @param responseTimeout 이 요청에만 적용할 응답 대기 시간 (null이면 기본값)
+     */
+    public CompletableFuture<String> postJson(String upstream, URI uri, Map<String, String> headers,
+                                              String json, Timeout responseTimeout) {
+        SimpleRequestBuilder builder = SimpleRequestBuilder.post(uri)
+                .setBody(json, ContentType.APPLICATION_JSON);
+        headers.forEach(builder::addHeader);
+        SimpleHttpRequest request = builder.build();
+        if (responseTimeout != null) {
+            request.setConfig(RequestConfig.copy(defaultRequestConfig).setResponseTimeout(responseTimeout).build());
+        }
+        return execute(upstream, request).thenApply(OutboundHttpClient::bodyAsString);
+    }
+
+    /**
+     * 요청을 비동기로 실행합니다. 4xx/5xx 응답은 OutboundHttpException으로 실패 처리됩니다.
+     */
+    public CompletableFuture<SimpleHttpResponse> execute(String upstream, SimpleHttpRequest request) {
+        registerPoolGauges(upstream, request);
+
+        CompletableFuture<SimpleHttpResponse> result = new CompletableFuture<>();
+        Timer.Sample sample = Timer.start(meterRegistry);
+
+        client.execute(request, new FutureCallback<>() {
+            @Override
+            public void completed(SimpleHttpResponse response) {
+                int status = response.getCode();
+                if (status >= 400) {
+                    record(sample, upstream, status >= 500 ? "SERVER_ERROR" : "CLIENT_ERROR");
+                    result.completeExceptionally(new OutboundHttpException(upstream, status, bodyAsString(response)));
+                    return;
+                }
+                record(sample, upstream, "SUCCESS");
+                result.complete(response);
+            }
+
+            @Override
+            public void failed(Exception ex) {
+                boolean timeout = ex instanceof InterruptedIOException || ex instanceof TimeoutException;
+                record(sample, upstream, timeout ? "TIMEOUT" : "ERROR");
+                log.warn("⚠️ 외부 API 호출 실패 - upstream: {}, uri: {}, reason: {}",
+                        upstream, request.getRequestUri(), ex.toString());
+                result.completeExceptionally(ex);
+            }
+
+            @Override
+            public void cancelled() {
+                record(sample, upstream, "ERROR");
+                result.cancel(false);
+            }
+        });
+        return result;
+    }
+
+    @PreDestroy
+    public void close() {
+        client.close(CloseMode.GRACEFUL);
+    }
+
+    private void record(Timer.Sample sample, String upstream, String outcome) {
+        sample.stop(Timer.builder("http.client.outbound")
+                .tag("upstream", upstream)
+                .tag("outcome", outcome)
+                .register(meterRegistry));
+    }
+
+    // 외부 API별 첫 요청 시 해당 호스트의 풀 게이지 등록
+    private void registerPoolGauges(String upstream, SimpleHttpRequest request) {
+        if (routesByUpstream.containsKey(upstream)) {
+            return;
+        }
+        routesByUpstream.computeIfAbsent(upstream, name -> {
+            HttpRoute route = routeOf(request);
+            poolGauge("http.client.pool.leased", name, route, PoolStats::getLeased);
+            poolGauge("http.client.pool.pending", name, route, PoolStats::getPending);
+            poolGauge("http.client.pool.available", name, route, PoolStats::getAvailable);
+            poolGauge("http.client.pool.max", name, route, PoolStats::getMax);
+            return route;
+        });
+    }
+
+    private void poolGauge(String name, String upstream, HttpRoute route, ToDoubleFunction<PoolStats> value) {
+        Gauge.builder(name, connectionManager, manager -> value.applyAsDouble(manager.getStats(route)))
+                .tag("upstream", upstream)
+                .register(meterRegistry);
+    }
+
+    private static HttpRoute routeOf(SimpleHttpRequest request) {
+        String scheme = request.getScheme();
+        boolean secure = "https".equalsIgnoreCase(scheme);
+        int port = request.getAuthority().getPort();
+        if (port < 0) {
+            port = secure ? 443 : 80;
+        }
+        return new HttpRoute(new HttpHost(scheme, request.getAuthority().getHostName(), port), null, secure);
+    }
+
+    // Content-Type에 문자셋이 없으면 UTF-8로 해석 (HttpClient 기본값은 ISO-8859-1)
+    private static String bodyAsString(SimpleHttpResponse response) {
+        byte[] body = response.getBodyBytes();
+        if (body == null) {
+            return null;
+        }
+        ContentType contentType = response.getContentType();
+        Charset charset = contentType != null && contentType.getCharset() != null
+                ? contentType.getCharset()
+                : StandardCharsets.UTF_8;
+        return new String(body, charset);
+    }
+}
@@ -0,0 +1,19 @@
+package com.ssafy.bookshy.common.http;
+
+import lombok.Getter;
+
+/**
+ * 🌐 외부 API가 오류 상태 코드(4xx, 5xx)로 응답한 경우
+ */
+@Getter
+public class OutboundHttpException extends RuntimeException {
+
+    private final String upstream;
+    private final int status;
+
+    public OutboundHttpException(String upstream, int status, String body) {
+        super(upstream + " 응답 오류 - status: " + status + ", body: " + body);
+        this.upstream = upstream;
+        this.status = status;
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.bookshy.common.websocket;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 📡 WebSocket 발행 진입점
+ *
+ * - local 모드(기본): 이 서버의 심플 브로커로만 전송 (기존 동작)
+ * - redis 모드: 이 서버의 구독자에게 바로 전송하고, 같은 메시지를 Redis 채널(ws:relay:{destination})로 발행하여
+ *   해당 destination을 구독 중인 다른 서버가 각자 자기 세션에 전달합니다.
+ *   (구독 관리는 {@link WebSocketRelaySubscriptionTracker})
+ *
+ * 서비스 코드는 SimpMessagingTemplate 대신 이 컴포넌트로 /topic 메시지를 보냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class WebSocketRelay {
+
+    static final String CHANNEL_PREFIX = "ws:relay:";
+
+    private final SimpMessagingTemplate messagingTemplate;
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Getter
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @Value("${websocket.relay.mode:local}")
+    private String mode;
+
+    public void send(String destination, Object payload) {
+        messagingTemplate.convertAndSend(destination, payload);
+
+        if (!"redis".equals(mode)) {
+            return;
+        }
+        try {
+            String envelope = objectMapper.writeValueAsString(Map.of(
+                    "origin", nodeId,
+                    "destination", destination,
+                    "payload", payload));
+            redisTemplate.convertAndSend(channelOf(destination), envelope);
+        } catch (Exception e) {
+            log.error("❌ WebSocket 릴레이 발행 실패 - destination: {}", destination, e);
+        }
+    }
+
+    static String channelOf(String destination) {
+        return CHANNEL_PREFIX + destination;
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.bookshy.common.websocket;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🛰️ WebSocket 릴레이 구독 관리 (websocket.relay.mode=redis일 때만 활성)
+ *
+ * - 이 서버의 STOMP 세션이 구독 중인 destination만 Redis 채널을 구독합니다. (첫 구독 시 추가, 마지막 해제 시 제거)
+ * - 다른 서버가 발행한 메시지를 받아 이 서버의 심플 브로커로 전달합니다. 자기 자신이 발행한 메시지는 이미 전달했으므로 무시합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "websocket.relay.mode", havingValue = "redis")
+public class WebSocketRelaySubscriptionTracker implements MessageListener {
+
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketRelay webSocketRelay;
+    private final ObjectMapper objectMapper;
+
+    // 세션 ID → (구독 ID → destination)
+    private final Map<String, Map<String, String>> subscriptionsBySession = new ConcurrentHashMap<>();
+    // destination → 이 서버의 구독 수
+    private final Map<String, Integer> subscriberCounts = new ConcurrentHashMap<>();
+
+    @EventListener
+    public void handleSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (accessor.getSessionId() == null || accessor.getSubscriptionId() == null
+                || destination == null || !destination.startsWith("/topic/")) {
+            return;
+        }
+
+        subscriptionsBySession.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>())
+                .put(accessor.getSubscriptionId(), destination);
+        increment(destination);
+    }
+
+    @EventListener
+    public void handleUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = accessor.getSessionId() != null
+                ? subscriptionsBySession.get(accessor.getSessionId())
+                : null;
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+
+        String destination = subscriptions.remove(accessor.getSubscriptionId());
+        if (destination != null) {
+            decrement(destination);
+        }
+    }
+
+    @EventListener
+    public void handleDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = subscriptionsBySession.remove(event.getSessionId());
+        if (subscriptions != null) {
+            subscriptions.values().forEach(this::decrement);
+        }
+    }
+
+    /**
+     * 📥 다른 서버에서 발행된 메시지를 이 서버의 구독자에게 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (webSocketRelay.getNodeId().equals(envelope.path("origin").asText())) {
+                return;
+            }
+            messagingTemplate.convertAndSend(envelope.path("destination").asText(), envelope.path("payload"));
+        } catch (Exception e) {
+            log.error("❌ WebSocket 릴레이 수신 처리 실패", e);
+        }
+    }
+
+    private void increment(String destination) {
+        subscriberCounts.compute(destination, (key, count) -> {
+            if (count == null) {
+                redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(WebSocketRelay.channelOf(key)));
+                return 1;
+            }
+            return count + 1;
+        });
+    }
+
+    private void decrement(String destination) {
+        subscriberCounts.computeIfPresent(destination, (key, count) -> {
+            if (count <= 1) {
+                redisMessageListenerContainer.removeMessageListener(this, new ChannelTopic(WebSocketRelay.channelOf(key)));
+                return null;
+            }
+            return count - 1;
+        });
+    }
+}
@@ -1,6 +1,5 @@
 package com.ssafy.bookshy.domain.book.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.ssafy.bookshy.common.response.CommonResponse;
 import com.ssafy.bookshy.domain.book.dto.*;
 import com.ssafy.bookshy.domain.book.entity.Book;
@@ -100,10 +99,9 @@ public class BookController {
             @RequestParam Long itemId,
             @AuthenticationPrincipal Users user
     ) throws Exception {
-        JsonNode node = aladinClient.searchByItemId(itemId);
-        JsonNode item = node.path("item").get(0);
-        boolean isLiked = bookService.isBookLiked(user.getUserId(), itemId);
-        return CommonResponse.success(BookResponseDto.fromAladin(item, isLiked));
+        BookResponseDto dto = aladinClient.searchByItemIdToDto(itemId);
+        dto.setIsLiked(bookService.isBookLiked(user.getUserId(), itemId));
+        return CommonResponse.success(dto);
     }
 
     @GetMapping("/search/isbn")
@@ -1,7 +1,6 @@
 package com.ssafy.bookshy.domain.book.dto;
 
 import com.fasterxml.jackson.annotation.JsonInclude;
-import com.fasterxml.jackson.databind.JsonNode;
 import com.ssafy.bookshy.domain.book.entity.Book;
 import lombok.Builder;
 import lombok.Data;
@@ -26,17 +25,6 @@ public class BookListResponseDto {
     @JsonInclude(JsonInclude.Include.NON_NULL)
     private Boolean inLibrary;
 
-    public static BookListResponseDto from(JsonNode node) {
-        return BookListResponseDto.builder()
-                .itemId(node.path("itemId").asLong())
-                .title(node.path("title").asText(null))
-                .author(node.path("author").asText(null))
-                .publisher(node.path("publisher").asText(null))
-                .coverImageUrl(node.path("cover").asText(null))
-                .description(node.path("description").asText(null))
-                .build();
-    }
-
     public static BookListResponseDto from(Book book, Boolean isLiked, Boolean inLibrary) {
         return BookListResponseDto.builder()
                 .itemId(book.getItemId())
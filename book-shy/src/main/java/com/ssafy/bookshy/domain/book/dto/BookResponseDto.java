@@ -1,7 +1,7 @@
 package com.ssafy.bookshy.domain.book.dto;
 
-import com.fasterxml.jackson.databind.JsonNode;
 import com.ssafy.bookshy.domain.book.entity.Book;
+import com.ssafy.bookshy.external.aladin.AladinItem;
 import io.swagger.v3.oas.annotations.media.Schema;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -29,51 +29,31 @@ public class BookResponseDto {
     @Schema(description = "ISBN13 (13자리 국제 표준 도서번호)")
     private String isbn13;
 
-    public static BookResponseDto fromAladin(JsonNode node, Boolean isLiked) {
+    public static BookResponseDto fromAladin(AladinItem item, Boolean isLiked) {
 
-        if (node == null || node.isNull()) {
+        if (item == null) {
             return BookResponseDto.builder()
                     .isLiked(isLiked)
                     .build();
         }
 
-        try {
-            // pageCount 계산용 정보 추출
-            JsonNode info = node.has("bookinfo") ? node.path("bookinfo") : node.path("subInfo");
-            Integer pages = null;
-
-            if (info != null && !info.isMissingNode()) {
-                int rawPage = info.path("itemPage").asInt(0);
-                if (rawPage > 0) {
-                    pages = rawPage;
-                }
-            }
-
-            return BookResponseDto.builder()
-                    .itemId        (node.path("itemId").asLong())
-                    .title         (node.path("title").asText(null))
-                    .author        (node.path("author").asText(null))
-                    .publisher     (node.path("publisher").asText(null))
-                    .coverImageUrl (node.path("cover").asText(null))
-                    .description   (node.path("description").asText(null))
-                    .pubDate       (node.path("pubDate").asText(null))
-                    .category      (extractMiddleCategory(node.path("categoryName").asText(null))) // ✅ 수정됨
-                    .pageCount     (pages)
-                    .isbn13        (node.path("isbn13").asText(null))
-                    .isLiked(isLiked)
-                    .build();
-        } catch (Exception e) {
-            System.out.println("❌ fromAladin 파싱 실패: " + e.getMessage());
-            return BookResponseDto.builder()
-                    .title(node.path("title").asText(null))
-                    .author(node.path("author").asText(null))
-                    .isbn13(node.path("isbn13").asText(null))
-                    .build();
-        }
+        return BookResponseDto.builder()
+                .itemId        (item.itemId())
+                .title         (item.title())
+                .author        (item.author())
+                .publisher     (item.publisher())
+                .coverImageUrl (item.cover())
+                .description   (item.description())
+                .pubDate       (item.pubDate())
+                .category      (extractMiddleCategory(item.categoryName()))
+                .pageCount     (item.itemPage())
+                .isbn13        (item.isbn13())
+                .isLiked(isLiked)
+                .build();
     }
 
-    public static BookResponseDto fromAladin(JsonNode node) {
-        return fromAladin(node, false);
+    public static BookResponseDto fromAladin(AladinItem item) {
+        return fromAladin(item, false);
     }
 
     public static BookResponseDto from(Book book, boolean isPublic) {
@@ -109,7 +89,8 @@ public class BookResponseDto {
                 .build();
     }
 
-    private static String extractMiddleCategory(String category) {
+    // 알라딘 categoryName("국내도서>소설/시/희곡>...")의 두 번째 단계
+    public static String extractMiddleCategory(String category) {
         if (category == null || !category.contains(">")) return null;
         String[] parts = category.split(">");
         return parts.length >= 3 ? parts[1] : (parts.length == 2 ? parts[1] : null);
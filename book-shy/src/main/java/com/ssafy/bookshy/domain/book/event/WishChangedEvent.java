@@ -0,0 +1,14 @@
+package com.ssafy.bookshy.domain.book.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 💖 사용자의 찜 목록에 도서가 추가/삭제되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class WishChangedEvent {
+    private final Long userId;
+    private final Long bookId;
+}
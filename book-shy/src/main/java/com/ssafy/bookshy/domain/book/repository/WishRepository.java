@@ -2,6 +2,7 @@ package com.ssafy.bookshy.domain.book.repository;
 
 import com.ssafy.bookshy.domain.book.entity.Book;
 import com.ssafy.bookshy.domain.book.entity.Wish;
+import com.ssafy.bookshy.domain.matching.dto.UserBookPair;
 import com.ssafy.bookshy.domain.users.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -17,6 +18,14 @@ public interface WishRepository extends JpaRepository<Wish, Long> {
     List<Wish> findAllByUser(Users user);
     void deleteByUserAndBook(Users user, Book book);
 
-    @Query("SELECT w.book.id FROM Wish w WHERE w.user = :user")
-    List<Long> findBookIdsByUser(@Param("user") Users user);
+    boolean existsByUserUserIdAndBookId(Long userId, Long bookId);
+
+    @Query("SELECT w.user.userId AS userId, w.book.id AS bookId FROM Wish w")
+    List<UserBookPair> findAllUserBookPairs();
+
+    /**
+     * 📚 사용자가 찜한 책의 알라딘 itemId 목록 (Book 엔티티를 로딩하지 않음)
+     */
+    @Query("SELECT w.book.itemId FROM Wish w WHERE w.user.userId = :userId AND w.book.itemId IS NOT NULL")
+    List<Long> findItemIdsByUserId(@Param("userId") Long userId);
 }
@@ -6,6 +6,7 @@ import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
 import com.ssafy.bookshy.domain.book.dto.WishRequestDto;
 import com.ssafy.bookshy.domain.book.entity.Book;
 import com.ssafy.bookshy.domain.book.entity.Wish;
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
 import com.ssafy.bookshy.domain.book.exception.BookErrorCode;
 import com.ssafy.bookshy.domain.book.exception.BookException;
 import com.ssafy.bookshy.domain.book.repository.BookRepository;
@@ -18,6 +19,7 @@ import com.ssafy.bookshy.domain.users.repository.UserRepository;
 import com.ssafy.bookshy.domain.users.service.UserService;
 import com.ssafy.bookshy.external.aladin.AladinClient;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -36,6 +38,7 @@ public class BookService {
     private final WishRepository wishRepository;
     private final LibraryRepository libraryRepository;
     private final UserRepository userRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     // 공개 여부 변경
     @Transactional
@@ -100,6 +103,7 @@ public class BookService {
                 .build();
 
         wishRepository.save(wish);
+        applicationEventPublisher.publishEvent(new WishChangedEvent(user.getUserId(), book.getId()));
     }
 
     @Transactional
@@ -116,6 +120,7 @@ public class BookService {
                 .orElseThrow(() -> new BookException(BookErrorCode.WISH_NOT_FOUND));
 
         wishRepository.delete(wish);
+        applicationEventPublisher.publishEvent(new WishChangedEvent(user.getUserId(), book.getId()));
     }
 
     public BookListTotalResponseDto getWishList(Long userId) {
@@ -3,6 +3,7 @@ package com.ssafy.bookshy.domain.chat.controller;
 import com.ssafy.bookshy.common.response.CommonResponse;
 import com.ssafy.bookshy.domain.chat.dto.AddEmojiRequestDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatImageUploadResponse;
+import com.ssafy.bookshy.domain.chat.dto.ChatMessagePageResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatMessageResponseDto;
 import com.ssafy.bookshy.domain.chat.service.ChatMessageService;
 import com.ssafy.bookshy.domain.users.entity.Users;
@@ -36,6 +37,23 @@ public class ChatMessageController {
         return CommonResponse.success(chatMessageService.getMessages(roomId));
     }
 
+    @Operation(summary = "📜 메시지 페이지 조회",
+            description = """
+                    🧾 채팅방 메시지를 (시간, ID) 기준으로 페이지 단위 조회합니다.
+                    - before/after 미지정: 최신 메시지부터 size개
+                    - before: 해당 메시지 이전 메시지 (위로 스크롤)
+                    - after: 해당 메시지 이후 메시지 (재연결 시 누락분 조회)
+                    - 응답 메시지는 항상 시간순이며, nextCursor를 다음 요청의 before/after로 사용합니다.
+                    """)
+    @GetMapping("/history")
+    public CommonResponse<ChatMessagePageResponseDto> getMessagePage(
+            @Parameter(description = "🆔 채팅방 ID") @RequestParam Long roomId,
+            @Parameter(description = "⏪ 이 메시지 ID 이전 조회") @RequestParam(required = false) Long before,
+            @Parameter(description = "⏩ 이 메시지 ID 이후 조회") @RequestParam(required = false) Long after,
+            @Parameter(description = "📏 페이지 크기 (최대 100)") @RequestParam(defaultValue = "30") int size) {
+        return CommonResponse.success(chatMessageService.getMessagePage(roomId, before, after, size));
+    }
+
     @Operation(summary = "😍 이모지 추가", description = "❤️ 채팅 메시지에 이모지를 추가합니다.")
     @PostMapping("/{messageId}/emoji")
     public CommonResponse<Void> addEmoji(
@@ -68,9 +86,9 @@ public class ChatMessageController {
             summary = "👁️‍🗨️ 메시지 읽음 처리",
             description = """
                     사용자가 채팅방의 메시지를 읽었을 때 호출하는 API입니다.  
-                    보낸 사람이 아닌 메시지 중 읽지 않은 메시지들을 모두 `읽음 처리`합니다.  
-                    - 🧠 senderId와 userId가 다를 때만 처리됩니다.
-                    - 📌 읽음 여부는 `isRead = true`로 반영됩니다.
+                    상대방이 보낸 가장 최근 메시지까지 `읽음 위치`를 갱신합니다.  
+                    - 🧠 senderId와 userId가 다른 메시지만 기준으로 삼습니다.
+                    - 📌 `/topic/read/{chatRoomId}`로 `lastReadMessageId`가 전파됩니다.
                     """
     )
     @PostMapping("/{chatRoomId}/read")
@@ -3,6 +3,7 @@ package com.ssafy.bookshy.domain.chat.controller;
 import com.ssafy.bookshy.common.response.CommonResponse;
 import com.ssafy.bookshy.domain.chat.dto.ChatOpponentResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomDto;
+import com.ssafy.bookshy.domain.chat.dto.ChatRoomPageResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomUserIdsResponseDto;
 import com.ssafy.bookshy.domain.chat.service.ChatRoomService;
 import com.ssafy.bookshy.domain.users.entity.Users;
@@ -32,6 +33,15 @@ public class ChatRoomController {
         return CommonResponse.success(chatRoomService.getChatRooms(user.getUserId()));
     }
 
+    @Operation(summary = "📑 채팅방 목록 페이지 조회", description = "🔍 최근 메시지 순으로 채팅방 목록을 페이지 단위로 가져옵니다. 응답의 nextCursor를 다음 요청에 전달합니다.")
+    @GetMapping("/page")
+    public CommonResponse<ChatRoomPageResponseDto> getChatRoomPage(
+            @AuthenticationPrincipal Users user,
+            @Parameter(description = "이전 응답의 nextCursor") @RequestParam(required = false) String cursor,
+            @Parameter(description = "페이지 크기 (최대 50)") @RequestParam(defaultValue = "20") int size) {
+        return CommonResponse.success(chatRoomService.getChatRoomPage(user.getUserId(), cursor, size));
+    }
+
     @Operation(
             summary = "👥 채팅방 사용자 ID 조회",
             description = """
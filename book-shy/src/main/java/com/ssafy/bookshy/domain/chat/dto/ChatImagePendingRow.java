@@ -0,0 +1,10 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+/**
+ * 변환이 끝나지 않은(PROCESSING) 이미지 메시지 (변환 재시도용)
+ */
+public interface ChatImagePendingRow {
+    Long getMessageId();
+    Long getChatRoomId();
+    String getImageUrl();
+}
@@ -0,0 +1,16 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * 🖼️ 이미지 변환 완료 WebSocket 페이로드 (/topic/chat/image/{roomId})
+ */
+@Getter
+@AllArgsConstructor
+public class ChatImageProcessedPayload {
+    private Long messageId;
+    private String thumbnailUrl;
+    private String mediumUrl;
+    private String imageStatus;
+}
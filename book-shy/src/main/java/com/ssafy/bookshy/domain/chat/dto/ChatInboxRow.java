@@ -0,0 +1,16 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+import java.time.LocalDateTime;
+
+/**
+ * 채팅방 목록 한 줄 (채팅방 + 상대방 프로필)
+ */
+public interface ChatInboxRow {
+    Long getId();
+    Long getPartnerId();
+    String getPartnerName();
+    String getPartnerProfileImage();
+    Float getBookshyScore();
+    String getLastMessage();
+    LocalDateTime getLastMessageTimestamp();
+}
@@ -0,0 +1,26 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 📜 채팅 메시지 페이지 응답 DTO
+ *
+ * - messages: 시간순(오래된 → 최신) 정렬
+ * - hasMore: 조회 방향으로 더 가져올 메시지가 있는지 여부
+ * - nextCursor: 다음 요청에 before(과거 방향) 또는 after(최신 방향)로 넘길 메시지 ID
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageResponseDto {
+
+    private List<ChatMessageResponseDto> messages;
+    private boolean hasMore;
+    private Long nextCursor;
+}
@@ -25,6 +25,8 @@ public class ChatMessageResponseDto {
     private String content;           // 텍스트 메시지 내용 (TEXT 타입일 경우 사용)
     private String imageUrl;          // 이미지 메시지 URL (IMAGE 타입일 경우 사용)
     private String thumbnailUrl;      // 썸네일 이미지
+    private String mediumUrl;         // 중간 크기 이미지
+    private String imageStatus;       // 이미지 변환 상태 ("PROCESSING", "READY", "FAILED")
     private String type;              // 메시지 타입 ("TEXT", "IMAGE")
     private LocalDateTime sentAt;     // 전송 시각
     private boolean isRead;           // 읽음 여부
@@ -34,6 +36,13 @@ public class ChatMessageResponseDto {
      * ChatMessage 엔티티 → 응답 DTO로 변환
      */
     public static ChatMessageResponseDto from(ChatMessage message, String senderNickname) {
+        return from(message, senderNickname, message.isRead());
+    }
+
+    /**
+     * ChatMessage 엔티티 → 응답 DTO로 변환 (읽음 여부는 읽음 위치로 계산한 값 사용)
+     */
+    public static ChatMessageResponseDto from(ChatMessage message, String senderNickname, boolean isRead) {
         return ChatMessageResponseDto.builder()
                 .id(message.getId())
                 .chatRoomId(message.getChatRoom().getId())
@@ -42,9 +51,11 @@ public class ChatMessageResponseDto {
                 .content(message.getContent())
                 .imageUrl(message.getImageUrl()) // ✅ 이미지 메시지 대응
                 .thumbnailUrl(message.getThumbnailUrl()) // ✅ 이미지 메시지 대응
+                .mediumUrl(message.getMediumUrl())
+                .imageStatus(message.getImageStatus() != null ? message.getImageStatus().name() : null)
                 .sentAt(message.getTimestamp())
                 .type(message.getType())
-                .isRead(message.isRead())
+                .isRead(isRead)
                 .emoji(message.getEmoji())
                 .build();
     }
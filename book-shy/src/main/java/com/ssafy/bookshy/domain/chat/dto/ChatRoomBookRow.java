@@ -0,0 +1,11 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+/**
+ * 채팅방 도서 정보 (chat_room_books 일괄 조회용)
+ */
+public interface ChatRoomBookRow {
+    Long getChatRoomId();
+    Long getBookId();
+    String getBookName();
+    Long getUserId();
+}
@@ -75,4 +75,40 @@ public class ChatRoomDto {
                 .otherBookName(otherBookName)
                 .build();
     }
+
+    /**
+     * 채팅방 목록 조회 결과(ChatInboxRow) + 안 읽은 메시지 수 → DTO 변환
+     */
+    public static ChatRoomDto from(ChatInboxRow row, Long participantId, List<ChatRoomBookRow> books, int unreadCount) {
+        List<Long> myBookId = new ArrayList<>();
+        List<String> myBookName = new ArrayList<>();
+        List<Long> otherBookId = new ArrayList<>();
+        List<String> otherBookName = new ArrayList<>();
+
+        books.forEach(book -> {
+            if (participantId.equals(book.getUserId())) {
+                myBookId.add(book.getBookId());
+                myBookName.add(book.getBookName());
+            } else {
+                otherBookId.add(book.getBookId());
+                otherBookName.add(book.getBookName());
+            }
+        });
+
+        return ChatRoomDto.builder()
+                .id(row.getId())
+                .participantId(participantId)
+                .partnerId(row.getPartnerId())
+                .partnerName(row.getPartnerName())
+                .partnerProfileImage(row.getPartnerProfileImage())
+                .bookshyScore(row.getBookshyScore())
+                .lastMessage(row.getLastMessage())
+                .lastMessageTime(row.getLastMessageTimestamp() != null ? row.getLastMessageTimestamp().toString() : "")
+                .unreadCount(unreadCount)
+                .myBookId(myBookId)
+                .myBookName(myBookName)
+                .otherBookId(otherBookId)
+                .otherBookName(otherBookName)
+                .build();
+    }
 }
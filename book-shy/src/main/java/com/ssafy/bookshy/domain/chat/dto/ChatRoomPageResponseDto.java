@@ -0,0 +1,22 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 📑 채팅방 목록 페이지 응답 DTO (최근 메시지 순)
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomPageResponseDto {
+
+    private List<ChatRoomDto> rooms;
+    private boolean hasMore;
+    private String nextCursor;  // 다음 페이지 요청 시 전달 (마지막 페이지면 null)
+}
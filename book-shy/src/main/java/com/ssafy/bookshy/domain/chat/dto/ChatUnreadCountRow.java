@@ -0,0 +1,9 @@
+package com.ssafy.bookshy.domain.chat.dto;
+
+/**
+ * 채팅방별 안 읽은 메시지 수 (Redis 카운터 미적재 시 DB 집계용)
+ */
+public interface ChatUnreadCountRow {
+    Long getChatRoomId();
+    Long getUnreadCount();
+}
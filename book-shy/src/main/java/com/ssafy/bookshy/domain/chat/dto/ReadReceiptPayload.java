@@ -3,12 +3,13 @@ package com.ssafy.bookshy.domain.chat.dto;
 import lombok.AllArgsConstructor;
 import lombok.Getter;
 
-import java.util.List;
-
+/**
+ * 👁️ 읽음 알림 - readerId가 lastReadMessageId 이하의 상대 메시지를 모두 읽었음
+ */
 @Getter
 @AllArgsConstructor
 public class ReadReceiptPayload {
-    private final List<Long> messageIds;
+    private final Long lastReadMessageId;
     private final Long readerId;
 }
 
@@ -13,6 +13,10 @@ import java.util.List;
 
 
 @Entity
+@Table(name = "chat_message", indexes = {
+        @Index(name = "idx_chat_message_room_timestamp_id", columnList = "chat_room_id, timestamp, id"),
+        @Index(name = "idx_chat_message_room_id", columnList = "chat_room_id, id")
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class ChatMessage extends TimeStampEntity {
@@ -30,6 +34,7 @@ public class ChatMessage extends TimeStampEntity {
     private LocalDateTime timestamp;
     private String type;
 
+    // 읽음 위치(ChatReadWatermark) 도입 이전 데이터용, 더 이상 갱신하지 않음
     @Column(nullable = false)
     private boolean isRead = false;
 
@@ -42,6 +47,20 @@ public class ChatMessage extends TimeStampEntity {
     @Column(name = "thumbnail_url")
     private String thumbnailUrl;
 
+    @Column(name = "medium_url")
+    private String mediumUrl;
+
+    // 이미지 메시지의 썸네일·중간 크기 변환 상태 (이미지가 아니면 null)
+    @Enumerated(EnumType.STRING)
+    @Column(name = "image_status", length = 20)
+    private ImageStatus imageStatus;
+
+    public enum ImageStatus {
+        PROCESSING,
+        READY,
+        FAILED
+    }
+
     @Builder
     public ChatMessage(ChatRoom chatRoom, Long senderId, String content,
                        String imageUrl, String thumbnailUrl,LocalDateTime timestamp, String type) {
@@ -54,6 +73,7 @@ public class ChatMessage extends TimeStampEntity {
         this.type = type;
         this.isRead = false;
         this.emoji = null;
+        this.imageStatus = imageUrl != null ? ImageStatus.PROCESSING : null;
     }
 
     /**
@@ -66,10 +86,6 @@ public class ChatMessage extends TimeStampEntity {
     public void removeEmoji() {
         this.emoji = null;
     }
-
-    public void markAsRead() {
-        this.isRead = true;
-    }
 }
 
 
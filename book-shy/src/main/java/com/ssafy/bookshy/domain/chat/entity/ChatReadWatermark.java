@@ -0,0 +1,40 @@
+package com.ssafy.bookshy.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 👁️ 채팅방 참여자별 읽음 위치
+ *
+ * 사용자가 해당 채팅방에서 마지막으로 읽은 메시지 ID를 보관합니다.
+ * 이 ID 이하의, 상대방이 보낸 메시지는 모두 읽은 것으로 간주합니다.
+ * 갱신은 {@link com.ssafy.bookshy.domain.chat.repository.ChatReadWatermarkRepository#upsert}로만 수행합니다.
+ * 운영 DDL: exec/sql/03_chat_read_watermarks.sql
+ */
+@Entity
+@Table(name = "chat_read_watermarks",
+        uniqueConstraints = @UniqueConstraint(name = "uk_chat_read_watermarks_room_user", columnNames = {"chat_room_id", "user_id"}))
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class ChatReadWatermark {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "chat_room_id", nullable = false)
+    private Long chatRoomId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "last_read_message_id", nullable = false)
+    private Long lastReadMessageId;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+}
@@ -10,7 +10,9 @@ import java.util.ArrayList;
 import java.util.List;
 
 @Entity
-@Table(name = "chat_room")
+@Table(name = "chat_room", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_chat_room_pair", columnNames = {"pair_low_user_id", "pair_high_user_id"})
+})
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
@@ -27,6 +29,14 @@ public class ChatRoom extends TimeStampEntity {
     @Column(name = "user_b_id")
     private Long userBId;
 
+    // 🔑 참여자 쌍 정규화 키 (작은 ID, 큰 ID): 같은 두 사용자의 채팅방은 하나만 존재
+    // 키 도입 전 생긴 중복 방은 null로 남습니다. (운영 DDL: exec/sql/06_chat_room_pair_key.sql)
+    @Column(name = "pair_low_user_id")
+    private Long pairLowUserId;
+
+    @Column(name = "pair_high_user_id")
+    private Long pairHighUserId;
+
     private LocalDateTime createdAt;
 
     private String lastMessage;              // ✅ 마지막 메시지
@@ -47,6 +57,15 @@ public class ChatRoom extends TimeStampEntity {
         this.userAId = userAId;
         this.userBId = userBId;
         this.createdAt = LocalDateTime.now();
+        assignPairKey();
+    }
+
+    @PrePersist
+    private void assignPairKey() {
+        if (userAId != null && userBId != null) {
+            this.pairLowUserId = Math.min(userAId, userBId);
+            this.pairHighUserId = Math.max(userAId, userBId);
+        }
     }
 
     // ✅ 채팅 메시지 저장 후 마지막 메시지 업데이트
@@ -55,6 +74,11 @@ public class ChatRoom extends TimeStampEntity {
         this.lastMessageTimestamp = timestamp;
     }
 
+    // 🧑‍🤝‍🧑 참여자 기준 상대방 ID
+    public Long getPartnerId(Long userId) {
+        return userAId.equals(userId) ? userBId : userAId;
+    }
+
     public ChatRoom(Long id) {
         this.id = id;
     }
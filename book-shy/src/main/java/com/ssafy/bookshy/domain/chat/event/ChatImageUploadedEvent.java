@@ -0,0 +1,16 @@
+package com.ssafy.bookshy.domain.chat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🖼️ 채팅 이미지 원본이 저장되고 메시지가 생성되었을 때 발행되는 이벤트 (변환 작업 트리거)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatImageUploadedEvent {
+    private final Long messageId;
+    private final Long chatRoomId;
+    private final String fileId;
+    private final String extension;
+}
@@ -0,0 +1,16 @@
+package com.ssafy.bookshy.domain.chat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ✉️ 채팅 메시지(일반, 이미지, 안내)가 저장되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatMessageSavedEvent {
+    private final Long chatRoomId;
+    private final Long messageId;
+    private final Long senderId;
+    private final Long receiverId;
+}
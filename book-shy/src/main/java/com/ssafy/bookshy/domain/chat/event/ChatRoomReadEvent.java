@@ -0,0 +1,14 @@
+package com.ssafy.bookshy.domain.chat.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * ✅ 사용자가 채팅방을 읽음 처리했을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatRoomReadEvent {
+    private final Long chatRoomId;
+    private final Long userId;
+}
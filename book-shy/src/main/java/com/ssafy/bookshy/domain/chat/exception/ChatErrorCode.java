@@ -22,6 +22,7 @@ public enum ChatErrorCode implements ErrorCode {
     CHATROOM_NOT_FOUND(404, "❌ 채팅방을 찾을 수 없습니다."),
     CHATROOM_PARTICIPANT_NOT_FOUND(404, "❌ 채팅방의 참여자 정보를 찾을 수 없습니다."),
     CHATROOM_ALREADY_EXISTS(409, "⚠️ 동일한 구성의 채팅방이 이미 존재합니다."),
+    INVALID_CURSOR(400, "❌ 잘못된 페이지 커서입니다."),
 
     // 🔹 메시지 관련
     MESSAGE_NOT_FOUND(404, "❌ 채팅 메시지를 찾을 수 없습니다."),
@@ -0,0 +1,73 @@
+package com.ssafy.bookshy.domain.chat.inbox;
+
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
+import com.ssafy.bookshy.domain.chat.dto.ChatRoomDto;
+import com.ssafy.bookshy.domain.chat.service.ChatRoomService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * 📮 채팅 목록 갱신 브로드캐스트 묶음 전송기
+ *
+ * - 메시지마다 바로 보내지 않고, 갱신이 필요한 (사용자, 채팅방)만 모아 둡니다.
+ * - flush-interval-ms마다 사용자별로 한 번, 바뀐 채팅방 목록(ChatRoomDto 배열)을 /topic/chat/user/{사용자 ID}로 전송합니다.
+ * - 같은 구간에 같은 채팅방 메시지가 여러 건 와도 DTO는 전송 시점의 최신 상태로 한 번만 만듭니다.
+ *
+ * 안 읽은 메시지 수는 전송 시점의 카운터 값이므로, 클라이언트는 받은 값을 그대로 사용하면 됩니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatInboxUpdateDispatcher {
+
+    private final ChatRoomService chatRoomService;
+    private final WebSocketRelay webSocketRelay;
+
+    // 사용자 ID → 갱신할 채팅방 ID (전송 전까지 누적)
+    private Map<Long, Set<Long>> pending = new HashMap<>();
+
+    /**
+     * ➕ 채팅방의 두 참여자에게 목록 갱신을 예약합니다.
+     */
+    public void enqueue(Long chatRoomId, Long senderId, Long receiverId) {
+        synchronized (this) {
+            pending.computeIfAbsent(senderId, id -> new LinkedHashSet<>()).add(chatRoomId);
+            pending.computeIfAbsent(receiverId, id -> new LinkedHashSet<>()).add(chatRoomId);
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${chat.inbox.flush-interval-ms:200}")
+    public void flush() {
+        Map<Long, Set<Long>> drained;
+        synchronized (this) {
+            if (pending.isEmpty()) {
+                return;
+            }
+            drained = pending;
+            pending = new HashMap<>();
+        }
+
+        int frames = 0;
+        for (Map.Entry<Long, Set<Long>> entry : drained.entrySet()) {
+            Long userId = entry.getKey();
+            try {
+                List<ChatRoomDto> rooms = chatRoomService.getChatRooms(entry.getValue(), userId);
+                if (rooms.isEmpty()) continue;
+
+                webSocketRelay.send("/topic/chat/user/" + userId, rooms);
+                frames++;
+            } catch (Exception e) {
+                log.error("❌ 채팅 목록 갱신 전송 실패 - userId: {}, rooms: {}", userId, entry.getValue(), e);
+            }
+        }
+        log.debug("📮 채팅 목록 갱신 전송 - users: {}, frames: {}", drained.size(), frames);
+    }
+}
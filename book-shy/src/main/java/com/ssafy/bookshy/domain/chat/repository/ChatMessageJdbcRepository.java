@@ -0,0 +1,64 @@
+package com.ssafy.bookshy.domain.chat.repository;
+
+import com.ssafy.bookshy.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 📦 채팅 메시지 일괄 저장 (JDBC 다중 행 INSERT)
+ *
+ * IDENTITY 전략에서는 JPA가 INSERT를 묶지 못하므로, Kafka 배치 수신 시
+ * 한 번의 INSERT ... VALUES (...), (...) RETURNING id로 저장합니다.
+ */
+@Repository
+@RequiredArgsConstructor
+public class ChatMessageJdbcRepository {
+
+    private static final int MAX_ROWS_PER_STATEMENT = 500;
+    private static final String INSERT_PREFIX = "INSERT INTO chat_message " +
+            "(chat_room_id, sender_id, content, type, timestamp, is_read, created_at, updated_at) VALUES ";
+    private static final String ROW_PLACEHOLDER = "(?, ?, ?, ?, ?, false, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    /**
+     * 메시지를 전달된 순서대로 저장하고, 같은 순서의 생성 ID 목록을 반환합니다.
+     * ID는 VALUES 순서대로 발급되므로 같은 채팅방 안의 순서가 유지됩니다.
+     */
+    public List<Long> insertAll(List<ChatMessage> messages) {
+        List<Long> ids = new ArrayList<>(messages.size());
+        for (int from = 0; from < messages.size(); from += MAX_ROWS_PER_STATEMENT) {
+            ids.addAll(insertChunk(messages.subList(from, Math.min(from + MAX_ROWS_PER_STATEMENT, messages.size()))));
+        }
+        return ids;
+    }
+
+    private List<Long> insertChunk(List<ChatMessage> chunk) {
+        StringBuilder sql = new StringBuilder(INSERT_PREFIX);
+        List<Object> params = new ArrayList<>(chunk.size() * 7);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+
+        for (int i = 0; i < chunk.size(); i++) {
+            ChatMessage message = chunk.get(i);
+            if (i > 0) sql.append(", ");
+            sql.append(ROW_PLACEHOLDER);
+
+            params.add(message.getChatRoom().getId());
+            params.add(message.getSenderId());
+            params.add(message.getContent());
+            params.add(message.getType());
+            params.add(Timestamp.valueOf(message.getTimestamp()));
+            params.add(now);
+            params.add(now);
+        }
+        sql.append(" RETURNING id");
+
+        return jdbcTemplate.queryForList(sql.toString(), Long.class, params.toArray());
+    }
+}
@@ -0,0 +1,104 @@
+package com.ssafy.bookshy.domain.chat.repository;
+
+import com.ssafy.bookshy.domain.chat.dto.ChatImagePendingRow;
+import com.ssafy.bookshy.domain.chat.dto.ChatUnreadCountRow;
+import com.ssafy.bookshy.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    List<ChatMessage> findAllByChatRoomIdOrderByTimestampAsc(Long chatRoomId);
+
+    /**
+     * 📍 채팅방에서 상대방이 보낸 가장 최근 메시지 ID (읽음 처리 기준)
+     */
+    @Query("SELECT MAX(m.id) FROM ChatMessage m WHERE m.chatRoom.id = :chatRoomId AND m.senderId <> :userId")
+    Long findLatestIdFromOthers(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    /**
+     * 🔢 채팅방에서 상대방이 보낸 읽지 않은 메시지 수
+     *
+     * 읽음 위치(watermark) 이후의 메시지만 (chat_room_id, id) 인덱스 범위로 셉니다.
+     * 읽음 위치 도입 이전에 isRead로 읽음 처리된 메시지는 제외합니다.
+     */
+    @Query("SELECT COUNT(m) FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :chatRoomId AND m.senderId <> :userId AND m.isRead = false " +
+            "AND m.id > COALESCE((SELECT w.lastReadMessageId FROM ChatReadWatermark w " +
+            "WHERE w.chatRoomId = :chatRoomId AND w.userId = :userId), 0)")
+    int countUnreadMessages(@Param("chatRoomId") Long chatRoomId, @Param("userId") Long userId);
+
+    /**
+     * 🔢 여러 채팅방의 안 읽은 메시지 수를 한 번에 집계 (안 읽은 메시지가 없는 방은 결과에 없음)
+     */
+    @Query(value = "SELECT m.chat_room_id AS chatRoomId, COUNT(*) AS unreadCount " +
+            "FROM chat_message m " +
+            "LEFT JOIN chat_read_watermarks w ON w.chat_room_id = m.chat_room_id AND w.user_id = :userId " +
+            "WHERE m.chat_room_id IN (:chatRoomIds) AND m.sender_id <> :userId AND m.is_read = false " +
+            "AND m.id > COALESCE(w.last_read_message_id, 0) " +
+            "GROUP BY m.chat_room_id", nativeQuery = true)
+    List<ChatUnreadCountRow> countUnreadByChatRoomIds(@Param("chatRoomIds") Collection<Long> chatRoomIds,
+                                                      @Param("userId") Long userId);
+
+    /**
+     * 🕐 가장 최근 메시지부터 역순 조회 (첫 페이지)
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :chatRoomId " +
+            "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessage> findLatest(@Param("chatRoomId") Long chatRoomId, Pageable pageable);
+
+    /**
+     * ⏪ (timestamp, id) 기준 이전 메시지를 역순 조회
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :chatRoomId " +
+            "AND (m.timestamp < :timestamp OR (m.timestamp = :timestamp AND m.id < :id)) " +
+            "ORDER BY m.timestamp DESC, m.id DESC")
+    List<ChatMessage> findBefore(@Param("chatRoomId") Long chatRoomId,
+                                 @Param("timestamp") LocalDateTime timestamp,
+                                 @Param("id") Long id,
+                                 Pageable pageable);
+
+    /**
+     * ⏩ (timestamp, id) 기준 이후 메시지를 시간순 조회 (재연결 시 누락분)
+     */
+    @Query("SELECT m FROM ChatMessage m " +
+            "WHERE m.chatRoom.id = :chatRoomId " +
+            "AND (m.timestamp > :timestamp OR (m.timestamp = :timestamp AND m.id > :id)) " +
+            "ORDER BY m.timestamp ASC, m.id ASC")
+    List<ChatMessage> findAfter(@Param("chatRoomId") Long chatRoomId,
+                                @Param("timestamp") LocalDateTime timestamp,
+                                @Param("id") Long id,
+                                Pageable pageable);
+
+    /**
+     * 🖼️ createdBefore 이전에 올라왔지만 아직 status(PROCESSING)인 이미지 메시지 (오래된 순)
+     * 풀 포화로 거절됐거나 변환 도중 서버가 내려간 메시지를 다시 변환하기 위함입니다.
+     */
+    @Query("SELECT m.id AS messageId, m.chatRoom.id AS chatRoomId, m.imageUrl AS imageUrl FROM ChatMessage m " +
+            "WHERE m.imageStatus = :status AND m.timestamp < :createdBefore ORDER BY m.id")
+    List<ChatImagePendingRow> findPendingImages(@Param("status") ChatMessage.ImageStatus status,
+                                                @Param("createdBefore") LocalDateTime createdBefore,
+                                                Pageable pageable);
+
+    /**
+     * 🖼️ 이미지 변환 결과 반영 (요청 트랜잭션 밖의 작업 스레드에서 호출)
+     */
+    @Transactional
+    @Modifying
+    @Query("UPDATE ChatMessage m SET m.thumbnailUrl = :thumbnailUrl, m.mediumUrl = :mediumUrl, m.imageStatus = :status " +
+            "WHERE m.id = :id")
+    int updateImageRenditions(@Param("id") Long id,
+                              @Param("thumbnailUrl") String thumbnailUrl,
+                              @Param("mediumUrl") String mediumUrl,
+                              @Param("status") ChatMessage.ImageStatus status);
+}
@@ -0,0 +1,29 @@
+package com.ssafy.bookshy.domain.chat.repository;
+
+import com.ssafy.bookshy.domain.chat.entity.ChatReadWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatReadWatermarkRepository extends JpaRepository<ChatReadWatermark, Long> {
+
+    List<ChatReadWatermark> findAllByChatRoomId(Long chatRoomId);
+
+    /**
+     * ✅ 읽음 위치 갱신 (단일 upsert, 뒤로 돌아가지 않음)
+     */
+    @Modifying
+    @Query(value = """
+        INSERT INTO chat_read_watermarks (chat_room_id, user_id, last_read_message_id, updated_at)
+        VALUES (:chatRoomId, :userId, :messageId, now())
+        ON CONFLICT (chat_room_id, user_id) DO UPDATE
+        SET last_read_message_id = GREATEST(chat_read_watermarks.last_read_message_id, EXCLUDED.last_read_message_id),
+            updated_at = EXCLUDED.updated_at
+    """, nativeQuery = true)
+    void upsert(@Param("chatRoomId") Long chatRoomId,
+                @Param("userId") Long userId,
+                @Param("messageId") Long messageId);
+}
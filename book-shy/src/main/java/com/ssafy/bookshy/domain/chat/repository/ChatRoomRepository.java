@@ -1,5 +1,7 @@
 package com.ssafy.bookshy.domain.chat.repository;
 
+import com.ssafy.bookshy.domain.chat.dto.ChatInboxRow;
+import com.ssafy.bookshy.domain.chat.dto.ChatRoomBookRow;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomUserIds;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
 import com.ssafy.bookshy.domain.matching.entity.Matching;
@@ -8,11 +10,70 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
 public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
+    /**
+     * 채팅방 목록 공통 SELECT (userId 관점)
+     * - 상대방 프로필은 users 조인, 안 읽은 메시지 수는 Redis 카운터(ChatUnreadCounter)에서 별도 조회
+     * - 정렬 키: (마지막 메시지 시간, 채팅방 ID) 내림차순, 메시지가 없으면 1970-01-01로 취급
+     */
+    String INBOX_SELECT = """
+        SELECT r.id AS id,
+               u.user_id AS partnerId,
+               u.nickname AS partnerName,
+               u.profile_image_url AS partnerProfileImage,
+               u.temperature AS bookshyScore,
+               r.last_message AS lastMessage,
+               r.last_message_timestamp AS lastMessageTimestamp
+        FROM chat_room r
+        JOIN users u ON u.user_id = CASE WHEN r.user_a_id = :userId THEN r.user_b_id ELSE r.user_a_id END
+        """;
+
+    String INBOX_SORT_KEY = "COALESCE(r.last_message_timestamp, TIMESTAMP '1970-01-01 00:00:00')";
+
+    /**
+     * 📥 채팅방 목록 첫 페이지
+     */
+    @Query(value = INBOX_SELECT +
+            " WHERE (r.user_a_id = :userId OR r.user_b_id = :userId)" +
+            " ORDER BY " + INBOX_SORT_KEY + " DESC, r.id DESC" +
+            " LIMIT :limit", nativeQuery = true)
+    List<ChatInboxRow> findInbox(@Param("userId") Long userId, @Param("limit") int limit);
+
+    /**
+     * 📥 채팅방 목록 다음 페이지 ((마지막 메시지 시간, 채팅방 ID) keyset)
+     */
+    @Query(value = INBOX_SELECT +
+            " WHERE (r.user_a_id = :userId OR r.user_b_id = :userId)" +
+            " AND (" + INBOX_SORT_KEY + ", r.id) < (:cursorTimestamp, :cursorId)" +
+            " ORDER BY " + INBOX_SORT_KEY + " DESC, r.id DESC" +
+            " LIMIT :limit", nativeQuery = true)
+    List<ChatInboxRow> findInboxAfter(@Param("userId") Long userId,
+                                      @Param("cursorTimestamp") LocalDateTime cursorTimestamp,
+                                      @Param("cursorId") Long cursorId,
+                                      @Param("limit") int limit);
+
+    /**
+     * 📥 여러 채팅방의 목록 줄 일괄 조회 (userId 관점)
+     */
+    @Query(value = INBOX_SELECT + " WHERE r.id IN (:chatRoomIds)", nativeQuery = true)
+    List<ChatInboxRow> findInboxRows(@Param("chatRoomIds") Collection<Long> chatRoomIds, @Param("userId") Long userId);
+
+    /**
+     * 📚 여러 채팅방의 도서 정보 일괄 조회
+     */
+    @Query(value = """
+        SELECT chat_room_id AS chatRoomId, book_id AS bookId, book_name AS bookName, user_id AS userId
+        FROM chat_room_books
+        WHERE chat_room_id IN (:chatRoomIds)
+    """, nativeQuery = true)
+    List<ChatRoomBookRow> findBooksByChatRoomIds(@Param("chatRoomIds") Collection<Long> chatRoomIds);
+
     /**
      * 사용자가 참여한 모든 채팅방 조회
      */
@@ -21,11 +82,32 @@ public interface ChatRoomRepository extends JpaRepository<ChatRoom, Long> {
 
     /**
      * 두 사용자의 1:1 채팅방 조회 (있으면 반환)
+     * - (작은 ID, 큰 ID) 유니크 인덱스 한 번 조회
      */
-    @Query("SELECT r FROM ChatRoom r WHERE " +
-            "(r.userAId = :userId1 AND r.userBId = :userId2) " +
-            "OR (r.userAId = :userId2 AND r.userBId = :userId1)")
-    Optional<ChatRoom> findByParticipants(@Param("userId1") Long userId1, @Param("userId2") Long userId2);
+    default Optional<ChatRoom> findByParticipants(Long userId1, Long userId2) {
+        return findByPairLowUserIdAndPairHighUserId(Math.min(userId1, userId2), Math.max(userId1, userId2));
+    }
+
+    Optional<ChatRoom> findByPairLowUserIdAndPairHighUserId(Long pairLowUserId, Long pairHighUserId);
+
+    /**
+     * 🆕 두 사용자의 채팅방을 생성합니다. 같은 쌍의 방이 이미 있으면 아무것도 하지 않습니다.
+     * - 먼저 조회하지 않고 유니크 제약(uk_chat_room_pair)으로 판단하므로 동시 요청에도 방이 하나만 생깁니다.
+     *
+     * @return 새로 생성된 채팅방 ID (이미 있으면 empty)
+     */
+    @Query(value = """
+        INSERT INTO chat_room (user_a_id, user_b_id, pair_low_user_id, pair_high_user_id, match_id,
+                               created_at, updated_at)
+        VALUES (:userAId, :userBId, LEAST(:userAId, :userBId), GREATEST(:userAId, :userBId),
+                CAST(:matchId AS BIGINT), :now, :now)
+        ON CONFLICT (pair_low_user_id, pair_high_user_id) DO NOTHING
+        RETURNING id
+        """, nativeQuery = true)
+    Optional<Long> insertIfAbsent(@Param("userAId") Long userAId,
+                                  @Param("userBId") Long userBId,
+                                  @Param("matchId") Long matchId,
+                                  @Param("now") LocalDateTime now);
 
     /**
      * 특정 날짜에 메시지를 주고받은 채팅방 조회 (거래 캘린더용)
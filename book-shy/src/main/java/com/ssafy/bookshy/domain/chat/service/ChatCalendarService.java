@@ -1,5 +1,6 @@
 package com.ssafy.bookshy.domain.chat.service;
 
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
 import com.ssafy.bookshy.domain.chat.dto.*;
 import com.ssafy.bookshy.domain.chat.entity.ChatCalendar;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
@@ -9,7 +10,6 @@ import com.ssafy.bookshy.domain.chat.repository.ChatCalendarRepository;
 import com.ssafy.bookshy.domain.exchange.entity.ExchangeRequest;
 import com.ssafy.bookshy.domain.exchange.repository.ExchangeRequestRepository;
 import lombok.RequiredArgsConstructor;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,7 +27,7 @@ public class ChatCalendarService {
     private final ChatCalendarRepository chatCalendarRepository;
     private final ChatMessageService chatMessageService;
     private final ExchangeRequestRepository exchangeRequestRepository;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketRelay webSocketRelay;
 
     /**
      * 📅 사용자의 특정 날짜 거래 일정 조회
@@ -115,7 +115,7 @@ public class ChatCalendarService {
 
         // 8️⃣ WebSocket 브로드캐스트
         ChatCalendarEventDto createdDto = ChatCalendarEventDto.from(saved);
-        messagingTemplate.convertAndSend("/topic/calendar/" + dto.getRoomId(), createdDto);
+        webSocketRelay.send("/topic/calendar/" + dto.getRoomId(), createdDto);
 
         // 9️⃣ 응답 반환
         return ChatCalendarCreateResponseDto.builder()
@@ -199,7 +199,7 @@ public class ChatCalendarService {
 
         // 7️⃣ WebSocket 알림
         ChatCalendarEventDto updatedDto = ChatCalendarEventDto.from(calendar);
-        messagingTemplate.convertAndSend("/topic/calendar/" + calendar.getChatRoom().getId(), updatedDto);
+        webSocketRelay.send("/topic/calendar/" + calendar.getChatRoom().getId(), updatedDto);
 
         // 8️⃣ 응답 반환
         return ChatCalendarCreateResponseDto.builder()
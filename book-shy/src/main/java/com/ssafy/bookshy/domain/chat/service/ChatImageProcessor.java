@@ -0,0 +1,198 @@
+package com.ssafy.bookshy.domain.chat.service;
+
+import com.ssafy.bookshy.common.constants.ImageUrlConstants;
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
+import com.ssafy.bookshy.domain.chat.dto.ChatImagePendingRow;
+import com.ssafy.bookshy.domain.chat.dto.ChatImageProcessedPayload;
+import com.ssafy.bookshy.domain.chat.entity.ChatMessage;
+import com.ssafy.bookshy.domain.chat.event.ChatImageUploadedEvent;
+import com.ssafy.bookshy.domain.chat.repository.ChatMessageRepository;
+import lombok.extern.slf4j.Slf4j;
+import net.coobird.thumbnailator.Thumbnails;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 🖼️ 채팅 이미지 변환 처리기
+ *
+ * 업로드 요청은 원본 저장 후 바로 응답하고(PROCESSING), 변환은 커밋 후 chatImageExecutor에서 수행합니다.
+ * 1. 원본 → 중간 크기(긴 변 1080px) 생성
+ * 2. 중간 크기 → 썸네일(240px) 생성 (큰 원본을 두 번 디코딩하지 않음)
+ * 3. 메시지에 URL·상태(READY/FAILED) 반영 후 /topic/chat/image/{채팅방 ID}로 알림
+ *
+ * 풀이 가득 차 거절된 작업은 요청 스레드에서 대신 돌리지 않고 PROCESSING으로 남겨 두며,
+ * 주기 작업이 일정 시간 넘게 PROCESSING인 메시지를 다시 제출합니다. (서버 재시작으로 유실된 작업도 함께 복구)
+ * 변환 결과 파일 이름이 메시지마다 고정이므로 여러 서버가 같은 메시지를 다시 변환해도 결과는 같습니다.
+ */
+@Slf4j
+@Component
+public class ChatImageProcessor {
+
+    private static final int MEDIUM_SIZE = 1080;
+    private static final int THUMB_SIZE = 240;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final WebSocketRelay webSocketRelay;
+    private final ThreadPoolTaskExecutor chatImageExecutor;
+
+    // 이 서버의 큐에 있거나 변환 중인 메시지 (재시도 주기에 중복 제출 방지)
+    private final Set<Long> inFlight = ConcurrentHashMap.newKeySet();
+
+    @Value("${file.upload.chat-dir}")
+    private String imageDir;
+
+    @Value("${chat.image.retry-after-seconds:120}")
+    private long retryAfterSeconds;
+
+    @Value("${chat.image.retry-batch-size:50}")
+    private int retryBatchSize;
+
+    public ChatImageProcessor(ChatMessageRepository chatMessageRepository,
+                              WebSocketRelay webSocketRelay,
+                              @Qualifier("chatImageExecutor") ThreadPoolTaskExecutor chatImageExecutor) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.webSocketRelay = webSocketRelay;
+        this.chatImageExecutor = chatImageExecutor;
+    }
+
+    // 메시지가 커밋된 뒤에만 변환 (롤백된 업로드는 처리하지 않음)
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleImageUploaded(ChatImageUploadedEvent event) {
+        submit(event);
+    }
+
+    /**
+     * 🔁 retry-after-seconds 넘게 PROCESSING인 메시지를 다시 변환합니다.
+     * 풀이 다시 가득 차면 남은 메시지는 다음 주기로 넘깁니다.
+     */
+    @Scheduled(initialDelayString = "${chat.image.retry-interval-ms:60000}",
+            fixedDelayString = "${chat.image.retry-interval-ms:60000}")
+    public void retryPending() {
+        LocalDateTime createdBefore = LocalDateTime.now(ZoneId.of("Asia/Seoul")).minusSeconds(retryAfterSeconds);
+        List<ChatImagePendingRow> pending = chatMessageRepository.findPendingImages(
+                ChatMessage.ImageStatus.PROCESSING, createdBefore, PageRequest.of(0, retryBatchSize));
+
+        int submitted = 0;
+        for (ChatImagePendingRow row : pending) {
+            ChatImageUploadedEvent event = toEvent(row);
+            if (event == null || inFlight.contains(row.getMessageId())) {
+                continue;
+            }
+            if (!submit(event)) {
+                break;
+            }
+            submitted++;
+        }
+        if (submitted > 0) {
+            log.info("🔁 채팅 이미지 변환 재시도 - 대상: {}, 제출: {}", pending.size(), submitted);
+        }
+    }
+
+    // 거절되면 false (메시지는 PROCESSING으로 남아 재시도 대상)
+    private boolean submit(ChatImageUploadedEvent event) {
+        if (!inFlight.add(event.getMessageId())) {
+            return true;
+        }
+        try {
+            chatImageExecutor.execute(() -> {
+                try {
+                    process(event);
+                } finally {
+                    inFlight.remove(event.getMessageId());
+                }
+            });
+            return true;
+        } catch (TaskRejectedException e) {
+            inFlight.remove(event.getMessageId());
+            log.warn("⚠️ 채팅 이미지 변환 풀 포화, 재시도 주기에 다시 처리 - messageId: {}", event.getMessageId());
+            return false;
+        }
+    }
+
+    // 원본 URL(.../{fileId}.{확장자})에서 변환 작업 정보를 복원
+    private ChatImageUploadedEvent toEvent(ChatImagePendingRow row) {
+        String imageUrl = row.getImageUrl();
+        if (imageUrl == null) {
+            return null;
+        }
+        String fileName = imageUrl.substring(imageUrl.lastIndexOf('/') + 1);
+        int dot = fileName.lastIndexOf('.');
+        if (dot <= 0) {
+            return null;
+        }
+        return new ChatImageUploadedEvent(row.getMessageId(), row.getChatRoomId(),
+                fileName.substring(0, dot), fileName.substring(dot + 1));
+    }
+
+    private void process(ChatImageUploadedEvent event) {
+        String mediumFileName = event.getFileId() + "_medium." + event.getExtension();
+        String thumbFileName = event.getFileId() + "_thumb." + event.getExtension();
+
+        ChatImageProcessedPayload payload;
+        try {
+            File original = Paths.get(imageDir, event.getFileId() + "." + event.getExtension()).toFile();
+            File medium = resolve(imageDir + "/medium", mediumFileName);
+            File thumb = resolve(imageDir + "/thumb", thumbFileName);
+
+            writeRenditions(original, medium, thumb);
+
+            payload = new ChatImageProcessedPayload(event.getMessageId(),
+                    ImageUrlConstants.CHAT_IMAGE_THUMB_BASE_URL + thumbFileName,
+                    ImageUrlConstants.CHAT_IMAGE_MEDIUM_BASE_URL + mediumFileName,
+                    ChatMessage.ImageStatus.READY.name());
+        } catch (Exception e) {
+            // 원본은 이미 저장되어 있으므로 클라이언트는 원본 URL로 표시
+            log.error("❌ 채팅 이미지 변환 실패 - messageId: {}", event.getMessageId(), e);
+            payload = new ChatImageProcessedPayload(event.getMessageId(), null, null,
+                    ChatMessage.ImageStatus.FAILED.name());
+        }
+
+        try {
+            chatMessageRepository.updateImageRenditions(event.getMessageId(),
+                    payload.getThumbnailUrl(), payload.getMediumUrl(),
+                    ChatMessage.ImageStatus.valueOf(payload.getImageStatus()));
+            webSocketRelay.send("/topic/chat/image/" + event.getChatRoomId(), payload);
+            log.debug("🖼️ 채팅 이미지 변환 완료 - messageId: {}, status: {}",
+                    event.getMessageId(), payload.getImageStatus());
+        } catch (Exception e) {
+            log.error("❌ 채팅 이미지 변환 결과 반영 실패 - messageId: {}", event.getMessageId(), e);
+        }
+    }
+
+    // 원본 → 중간 크기 → 썸네일 (벤치마크: ChatImageRenditionBenchmark)
+    static void writeRenditions(File original, File medium, File thumb) throws IOException {
+        Thumbnails.of(original)
+                .size(MEDIUM_SIZE, MEDIUM_SIZE)
+                .outputQuality(0.85)
+                .toFile(medium);
+
+        Thumbnails.of(medium)
+                .size(THUMB_SIZE, THUMB_SIZE)
+                .outputQuality(0.8)
+                .toFile(thumb);
+    }
+
+    private File resolve(String directory, String fileName) throws IOException {
+        Path dir = Paths.get(directory);
+        if (!Files.exists(dir)) Files.createDirectories(dir);
+        return dir.resolve(fileName).toFile();
+    }
+}
@@ -0,0 +1,54 @@
+package com.ssafy.bookshy.domain.chat.service;
+
+import com.ssafy.bookshy.domain.chat.dto.ChatInboxRow;
+import com.ssafy.bookshy.domain.chat.exception.ChatErrorCode;
+import com.ssafy.bookshy.domain.chat.exception.ChatException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+
+/**
+ * 🔖 채팅방 목록 페이지 커서
+ *
+ * 마지막으로 내려준 채팅방의 정렬 키(마지막 메시지 시간, 채팅방 ID)를 담습니다.
+ * 메시지가 없는 방은 목록 쿼리와 같이 1970-01-01을 정렬 시간으로 사용합니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class ChatInboxCursor {
+
+    static final LocalDateTime EMPTY_TIMESTAMP = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final LocalDateTime sortTime;
+    private final long chatRoomId;
+
+    public static ChatInboxCursor of(ChatInboxRow row) {
+        LocalDateTime sortTime = row.getLastMessageTimestamp() != null
+                ? row.getLastMessageTimestamp()
+                : EMPTY_TIMESTAMP;
+        return new ChatInboxCursor(sortTime, row.getId());
+    }
+
+    public String encode() {
+        String raw = sortTime + "|" + chatRoomId;
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static ChatInboxCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 2) {
+                throw new ChatException(ChatErrorCode.INVALID_CURSOR);
+            }
+            return new ChatInboxCursor(LocalDateTime.parse(parts[0]), Long.parseLong(parts[1]));
+        } catch (IllegalArgumentException | DateTimeParseException e) {
+            throw new ChatException(ChatErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -2,38 +2,40 @@ package com.ssafy.bookshy.domain.chat.service;
 
 import com.ssafy.bookshy.common.constants.ImageUrlConstants;
 import com.ssafy.bookshy.common.file.FileUploadUtil;
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
+import com.ssafy.bookshy.domain.chat.dto.ChatMessagePageResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatMessageRequestDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatMessageResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.EmojiUpdatePayload;
 import com.ssafy.bookshy.domain.chat.dto.ReadReceiptPayload;
 import com.ssafy.bookshy.domain.chat.entity.ChatMessage;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
+import com.ssafy.bookshy.domain.chat.event.ChatImageUploadedEvent;
+import com.ssafy.bookshy.domain.chat.event.ChatMessageSavedEvent;
+import com.ssafy.bookshy.domain.chat.event.ChatRoomReadEvent;
 import com.ssafy.bookshy.domain.chat.exception.ChatErrorCode;
 import com.ssafy.bookshy.domain.chat.exception.ChatException;
+import com.ssafy.bookshy.domain.chat.entity.ChatReadWatermark;
+import com.ssafy.bookshy.domain.chat.repository.ChatMessageJdbcRepository;
 import com.ssafy.bookshy.domain.chat.repository.ChatMessageRepository;
+import com.ssafy.bookshy.domain.chat.repository.ChatReadWatermarkRepository;
 import com.ssafy.bookshy.domain.chat.repository.ChatRoomRepository;
 import com.ssafy.bookshy.domain.users.service.UserService;
 import com.ssafy.bookshy.kafka.dto.ChatMessageKafkaDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import net.coobird.thumbnailator.Thumbnails;
 import org.apache.commons.io.FilenameUtils;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.ByteArrayInputStream;
-import java.io.IOException;
-import java.io.InputStream;
-import java.nio.file.Files;
-import java.nio.file.Path;
-import java.nio.file.Paths;
-import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.List;
-import java.util.UUID;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -52,9 +54,17 @@ import java.util.stream.Collectors;
 public class ChatMessageService {
 
     private final ChatMessageRepository chatMessageRepository;
+    private final ChatMessageJdbcRepository chatMessageJdbcRepository;
     private final ChatRoomRepository chatRoomRepository;
+    private final ChatReadWatermarkRepository chatReadWatermarkRepository;
     private final UserService userService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketRelay webSocketRelay;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    @Value("${file.upload.chat-dir}")
+    private String chatImageDir;
+
+    private static final int MAX_PAGE_SIZE = 100;
 
     /**
      * 🕐 채팅방의 메시지 전체를 시간 순으로 조회
@@ -64,15 +74,96 @@ public class ChatMessageService {
      */
     public List<ChatMessageResponseDto> getMessages(Long chatRoomId) {
         List<ChatMessage> messages = chatMessageRepository.findAllByChatRoomIdOrderByTimestampAsc(chatRoomId);
+        return toResponses(chatRoomId, messages);
+    }
+
+    /**
+     * 📜 채팅 메시지 페이지 조회 (keyset 페이지네이션)
+     *
+     * - before/after 모두 없으면 최신 메시지부터 size개
+     * - before: 해당 메시지보다 이전 메시지 size개 (위로 스크롤)
+     * - after: 해당 메시지 이후 메시지 size개 (재연결 시 누락분)
+     * 정렬 기준은 (timestamp, id)이며, 닉네임은 페이지당 한 번에 조회합니다.
+     *
+     * @param chatRoomId 채팅방 ID
+     * @param before     기준 메시지 ID (과거 방향)
+     * @param after      기준 메시지 ID (최신 방향)
+     * @param size       페이지 크기 (최대 MAX_PAGE_SIZE)
+     */
+    public ChatMessagePageResponseDto getMessagePage(Long chatRoomId, Long before, Long after, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+        Pageable pageable = PageRequest.of(0, limit + 1);
+
+        List<ChatMessage> fetched;
+        boolean forward = after != null;
+        if (forward) {
+            ChatMessage anchor = findAnchor(chatRoomId, after);
+            fetched = chatMessageRepository.findAfter(chatRoomId, anchor.getTimestamp(), anchor.getId(), pageable);
+        } else if (before != null) {
+            ChatMessage anchor = findAnchor(chatRoomId, before);
+            fetched = chatMessageRepository.findBefore(chatRoomId, anchor.getTimestamp(), anchor.getId(), pageable);
+        } else {
+            fetched = chatMessageRepository.findLatest(chatRoomId, pageable);
+        }
+
+        boolean hasMore = fetched.size() > limit;
+        List<ChatMessage> page = new ArrayList<>(hasMore ? fetched.subList(0, limit) : fetched);
+        if (!forward) {
+            Collections.reverse(page); // 최신순으로 조회했으므로 시간순으로 되돌림
+        }
+
+        Long nextCursor = null;
+        if (!page.isEmpty()) {
+            nextCursor = forward ? page.get(page.size() - 1).getId() : page.get(0).getId();
+        }
+
+        return ChatMessagePageResponseDto.builder()
+                .messages(toResponses(chatRoomId, page))
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    private ChatMessage findAnchor(Long chatRoomId, Long messageId) {
+        ChatMessage anchor = chatMessageRepository.findById(messageId)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.MESSAGE_NOT_FOUND));
+        if (!anchor.getChatRoom().getId().equals(chatRoomId)) {
+            throw new ChatException(ChatErrorCode.MESSAGE_NOT_FOUND);
+        }
+        return anchor;
+    }
+
+    // 보낸 사람 닉네임을 한 번에 조회하고, 읽음 여부는 채팅방 읽음 위치로 계산하여 응답 DTO로 변환
+    private List<ChatMessageResponseDto> toResponses(Long chatRoomId, List<ChatMessage> messages) {
+        if (messages.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Set<Long> senderIds = messages.stream()
+                .map(ChatMessage::getSenderId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, String> nicknames = userService.getNicknamesByIds(senderIds);
+
+        List<ChatReadWatermark> watermarks = chatReadWatermarkRepository.findAllByChatRoomId(chatRoomId);
 
         return messages.stream()
-                .map(msg -> {
-                    String nickname = userService.getNicknameById(msg.getSenderId());
-                    return ChatMessageResponseDto.from(msg, nickname);
-                })
+                .map(msg -> ChatMessageResponseDto.from(msg, nicknames.get(msg.getSenderId()),
+                        msg.isRead() || isReadByOthers(msg, watermarks)))
                 .collect(Collectors.toList());
     }
 
+    // 보낸 사람이 아닌 참여자의 읽음 위치가 메시지 ID 이상이면 읽음
+    private boolean isReadByOthers(ChatMessage message, List<ChatReadWatermark> watermarks) {
+        for (ChatReadWatermark watermark : watermarks) {
+            if (!watermark.getUserId().equals(message.getSenderId())
+                    && watermark.getLastReadMessageId() >= message.getId()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
     /**
      * ✉️ 클라이언트가 WebSocket으로 보낸 메시지를 DB에 저장
      *
@@ -101,11 +192,18 @@ public class ChatMessageService {
 
         // 채팅방의 마지막 메시지 내용 및 시간 업데이트
         chatRoom.updateLastMessage(saved.getContent(), saved.getTimestamp());
+        publishSaved(chatRoom, saved);
 
         String nickname = userService.getNicknameById(saved.getSenderId());
         return ChatMessageResponseDto.from(saved, nickname);
     }
 
+    // 커밋 후 수신자의 안 읽은 메시지 카운터 증가
+    private void publishSaved(ChatRoom chatRoom, ChatMessage message) {
+        applicationEventPublisher.publishEvent(new ChatMessageSavedEvent(
+                chatRoom.getId(), message.getId(), message.getSenderId(), chatRoom.getPartnerId(message.getSenderId())));
+    }
+
     /**
      * 📨 Kafka에서 수신한 메시지를 DB에 저장
      *
@@ -132,11 +230,84 @@ public class ChatMessageService {
 
         ChatMessage saved = chatMessageRepository.save(message);
         chatRoom.updateLastMessage(saved.getContent(), saved.getTimestamp());
+        publishSaved(chatRoom, saved);
 
         String nickname = userService.getNicknameById(saved.getSenderId());
         return ChatMessageResponseDto.from(saved, nickname);
     }
 
+    /**
+     * 📦 Kafka에서 한 번에 수신한 메시지들을 일괄 저장
+     *
+     * - 채팅방은 한 번에 조회하고, 없는 채팅방의 메시지는 건너뜀
+     * - 메시지는 수신 순서대로 다중 행 INSERT로 저장 (같은 채팅방 안의 순서 유지)
+     * - 채팅방의 마지막 메시지는 채팅방별로 한 번만 갱신
+     * - 닉네임은 한 번에 조회
+     *
+     * @param dtos 수신 순서대로의 Kafka DTO 목록
+     * @return 저장된 메시지 응답 DTO 목록 (수신 순서)
+     */
+    @Transactional
+    public List<ChatMessageResponseDto> saveMessagesFromKafka(List<ChatMessageKafkaDto> dtos) {
+        Set<Long> chatRoomIds = dtos.stream()
+                .map(ChatMessageKafkaDto::getChatRoomId)
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        Map<Long, ChatRoom> roomsById = chatRoomRepository.findAllById(chatRoomIds).stream()
+                .collect(Collectors.toMap(ChatRoom::getId, room -> room));
+
+        List<ChatMessage> messages = new ArrayList<>(dtos.size());
+        for (ChatMessageKafkaDto dto : dtos) {
+            ChatRoom chatRoom = roomsById.get(dto.getChatRoomId());
+            if (chatRoom == null) {
+                log.warn("⚠️ 존재하지 않는 채팅방의 메시지 건너뜀: {}", dto);
+                continue;
+            }
+            messages.add(ChatMessage.builder()
+                    .chatRoom(chatRoom)
+                    .senderId(dto.getSenderId())
+                    .content(dto.getContent())
+                    .timestamp(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
+                    .type(dto.getType())
+                    .build());
+        }
+        if (messages.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> ids = chatMessageJdbcRepository.insertAll(messages);
+
+        // 채팅방별 마지막 메시지만 반영 (뒤에 온 메시지가 덮어씀)
+        Map<Long, ChatMessage> lastByRoom = new LinkedHashMap<>();
+        messages.forEach(message -> lastByRoom.put(message.getChatRoom().getId(), message));
+        lastByRoom.values().forEach(last -> last.getChatRoom().updateLastMessage(last.getContent(), last.getTimestamp()));
+
+        Map<Long, String> nicknames = userService.getNicknamesByIds(
+                messages.stream().map(ChatMessage::getSenderId).filter(Objects::nonNull).collect(Collectors.toSet()));
+
+        List<ChatMessageResponseDto> responses = new ArrayList<>(messages.size());
+        for (int i = 0; i < messages.size(); i++) {
+            ChatMessage message = messages.get(i);
+            Long id = ids.get(i);
+            ChatRoom chatRoom = message.getChatRoom();
+
+            applicationEventPublisher.publishEvent(new ChatMessageSavedEvent(
+                    chatRoom.getId(), id, message.getSenderId(), chatRoom.getPartnerId(message.getSenderId())));
+
+            responses.add(ChatMessageResponseDto.builder()
+                    .id(id)
+                    .chatRoomId(chatRoom.getId())
+                    .senderId(message.getSenderId())
+                    .senderNickname(nicknames.get(message.getSenderId()))
+                    .content(message.getContent())
+                    .type(message.getType())
+                    .sentAt(message.getTimestamp())
+                    .isRead(false)
+                    .build());
+        }
+        return responses;
+    }
+
     /**
      * 🧸 특정 메시지에 이모지를 추가 (덮어쓰기)
      *
@@ -159,7 +330,7 @@ public class ChatMessageService {
                 "ADD",
                 message.getSenderId() // 또는 현재 유저 ID
         );
-        messagingTemplate.convertAndSend("/topic/chat/emoji/" + message.getChatRoom().getId(), payload);
+        webSocketRelay.send("/topic/chat/emoji/" + message.getChatRoom().getId(), payload);
     }
 
     /**
@@ -183,14 +354,15 @@ public class ChatMessageService {
                 "REMOVE",
                 message.getSenderId() // 또는 현재 유저 ID
         );
-        messagingTemplate.convertAndSend("/topic/chat/emoji/" + message.getChatRoom().getId(), payload);
+        webSocketRelay.send("/topic/chat/emoji/" + message.getChatRoom().getId(), payload);
     }
 
     /**
-     * ✅ 채팅방 내 읽지 않은 메시지들을 읽음 처리
+     * ✅ 채팅방 읽음 처리
      *
-     * - senderId가 userId와 다른 메시지 중 isRead=false인 것만 필터링
-     * - 각 메시지에 대해 `isRead = true` 설정
+     * - 상대방이 보낸 가장 최근 메시지 ID까지 읽음 위치를 한 번의 upsert로 갱신
+     * - 메시지 행은 수정하지 않음
+     * - 커밋 후 안 읽은 메시지 카운터 초기화
      *
      * @param chatRoomId 채팅방 ID
      * @param userId 읽은 사용자 ID
@@ -198,34 +370,33 @@ public class ChatMessageService {
     @Transactional
     public void markMessagesAsRead(Long chatRoomId, Long userId) {
         // 1️⃣ 채팅방 유효성 검사
-        chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
+        if (!chatRoomRepository.existsById(chatRoomId)) {
+            throw new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND);
+        }
 
-        // 2️⃣ 안 읽은 메시지 조회
-        List<ChatMessage> unreadMessages = chatMessageRepository.findUnreadMessages(chatRoomId, userId);
-        if (unreadMessages.isEmpty()) {
-            log.debug("✅ 이미 모두 읽음 처리됨: roomId={}, userId={}", chatRoomId, userId);
+        // 2️⃣ 읽음 기준이 되는 상대방의 마지막 메시지
+        Long lastMessageId = chatMessageRepository.findLatestIdFromOthers(chatRoomId, userId);
+        if (lastMessageId == null) {
+            log.debug("✅ 읽음 처리할 메시지 없음: roomId={}, userId={}", chatRoomId, userId);
             return;
         }
 
-        // 3️⃣ 읽음 처리
-        unreadMessages.forEach(ChatMessage::markAsRead);
-
-        List<Long> readMessageIds = unreadMessages.stream()
-                .map(ChatMessage::getId)
-                .collect(Collectors.toList());
+        // 3️⃣ 읽음 위치 갱신
+        chatReadWatermarkRepository.upsert(chatRoomId, userId, lastMessageId);
+        applicationEventPublisher.publishEvent(new ChatRoomReadEvent(chatRoomId, userId));
 
         // 4️⃣ WebSocket으로 읽음 전파
-        ReadReceiptPayload payload = new ReadReceiptPayload(readMessageIds, userId);
-        messagingTemplate.convertAndSend("/topic/read/" + chatRoomId, payload);
+        ReadReceiptPayload payload = new ReadReceiptPayload(lastMessageId, userId);
+        webSocketRelay.send("/topic/read/" + chatRoomId, payload);
     }
 
     /**
-     * 🖼️ 채팅 이미지 파일을 서버에 저장하고, 해당 채팅방에 WebSocket 메시지를 전송합니다.
+     * 🖼️ 채팅 이미지 원본을 서버에 저장하고, 해당 채팅방에 WebSocket 메시지를 전송합니다.
      *
-     * 1. MultipartFile을 로컬 디렉토리에 저장
-     * 2. DB에 ChatMessage 엔티티 저장 (타입: IMAGE)
-     * 3. SimpMessagingTemplate을 통해 채팅방 구독자에게 실시간 메시지 전송
+     * 1. MultipartFile을 로컬 디렉토리에 스트림으로 저장 (메모리에 전체를 올리지 않음)
+     * 2. DB에 ChatMessage 엔티티 저장 (타입: IMAGE, 상태: PROCESSING)
+     * 3. 채팅방 구독자에게 원본 URL로 즉시 메시지 전송
+     * 4. 커밋 후 ChatImageProcessor가 썸네일·중간 크기 이미지를 생성하고 /topic/chat/image/{채팅방 ID}로 알림
      *
      * @param chatRoomId 채팅방 ID
      * @param senderId 보낸 사용자 ID
@@ -249,39 +420,16 @@ public class ChatMessageService {
         }
 
         // 3️⃣ 저장 경로 및 URL 설정
-        String uuid = UUID.randomUUID().toString();
-        String fileName = uuid + "." + ext;
-        String thumbFileName = uuid + "_thumb." + ext;
-
-        String imageDir = "/home/ubuntu/bookshy/images/chat";
-        String thumbDir = imageDir + "/thumb";
-
+        String fileId = UUID.randomUUID().toString();
+        String fileName = fileId + "." + ext;
         String imageUrl = ImageUrlConstants.CHAT_IMAGE_BASE_URL + fileName;
-        String thumbnailUrl = ImageUrlConstants.CHAT_IMAGE_BASE_URL + "thumb/" + thumbFileName;
 
+        // 4️⃣ 원본 이미지 저장 (썸네일·중간 크기 변환은 커밋 후 별도 스레드에서 처리)
         try {
-            // 4️⃣ 이미지 파일 바이트 배열로 변환하여 재사용 가능한 InputStream 생성
-            byte[] imageBytes = imageFile.getBytes();
-
-            // 5️⃣ 원본 이미지 저장
-            try (InputStream originalIs = new ByteArrayInputStream(imageBytes)) {
-                FileUploadUtil.saveFile(originalIs, imageDir, fileName);
-            }
-
-            // 6️⃣ 썸네일 저장
-            Path thumbPath = Paths.get(thumbDir);
-            if (!Files.exists(thumbPath)) Files.createDirectories(thumbPath);
-
-            try (InputStream thumbIs = new ByteArrayInputStream(imageBytes)) {
-                Thumbnails.of(thumbIs)
-                        .size(240, 240)
-                        .outputQuality(0.8)
-                        .toFile(thumbPath.resolve(thumbFileName).toFile());
-            }
-
-        } catch (IOException e) {
-            log.error("❌ 이미지 저장 또는 썸네일 생성 실패: {}", e.getMessage(), e);
-            throw new ChatException(ChatErrorCode.THUMBNAIL_CREATE_FAILED);
+            FileUploadUtil.saveFile(imageFile, chatImageDir, fileName);
+        } catch (RuntimeException e) {
+            log.error("❌ 이미지 저장 실패: {}", e.getMessage(), e);
+            throw new ChatException(ChatErrorCode.IMAGE_SAVE_FAILED);
         }
 
         // 7️⃣ 채팅방 존재 확인
@@ -294,19 +442,21 @@ public class ChatMessageService {
                 .senderId(senderId)
                 .content(null)
                 .imageUrl(imageUrl)
-                .thumbnailUrl(thumbnailUrl)
                 .type("image")
                 .timestamp(LocalDateTime.now(ZoneId.of("Asia/Seoul")))
                 .build();
 
         chatMessageRepository.save(message);
         chatRoom.updateLastMessage("[이미지]", message.getTimestamp());
+        publishSaved(chatRoom, message);
+        applicationEventPublisher.publishEvent(
+                new ChatImageUploadedEvent(message.getId(), chatRoomId, fileId, ext));
 
         // 9️⃣ WebSocket 전송
         try {
             String nickname = userService.getNicknameById(senderId);
             ChatMessageResponseDto responseDto = ChatMessageResponseDto.from(message, nickname);
-            messagingTemplate.convertAndSend("/topic/chat/" + chatRoomId, responseDto);
+            webSocketRelay.send("/topic/chat/" + chatRoomId, responseDto);
         } catch (Exception e) {
             log.error("❌ WebSocket 메시지 전송 실패: {}", e.getMessage(), e);
             throw new ChatException(ChatErrorCode.MESSAGE_BROADCAST_FAILED);
@@ -3,38 +3,39 @@ package com.ssafy.bookshy.domain.chat.service;
 import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
 import com.ssafy.bookshy.domain.book.entity.Book;
 import com.ssafy.bookshy.domain.book.repository.BookRepository;
+import com.ssafy.bookshy.domain.chat.dto.ChatInboxRow;
 import com.ssafy.bookshy.domain.chat.dto.ChatOpponentResponseDto;
+import com.ssafy.bookshy.domain.chat.dto.ChatRoomBookRow;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomDto;
+import com.ssafy.bookshy.domain.chat.dto.ChatRoomPageResponseDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomUserIds;
 import com.ssafy.bookshy.domain.chat.entity.ChatCalendar;
 import com.ssafy.bookshy.domain.chat.entity.ChatMessage;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoomBook;
+import com.ssafy.bookshy.domain.chat.event.ChatMessageSavedEvent;
 import com.ssafy.bookshy.domain.chat.exception.ChatErrorCode;
 import com.ssafy.bookshy.domain.chat.exception.ChatException;
 import com.ssafy.bookshy.domain.chat.repository.ChatCalendarRepository;
 import com.ssafy.bookshy.domain.chat.repository.ChatMessageRepository;
 import com.ssafy.bookshy.domain.chat.repository.ChatRoomRepository;
+import com.ssafy.bookshy.domain.chat.unread.ChatUnreadCounter;
 import com.ssafy.bookshy.domain.exchange.entity.ExchangeRequest;
 import com.ssafy.bookshy.domain.exchange.repository.ExchangeRequestRepository;
 import com.ssafy.bookshy.domain.matching.dto.MatchChatRequestDto;
-import com.ssafy.bookshy.domain.matching.entity.Matching;
 import com.ssafy.bookshy.domain.users.entity.Users;
 import com.ssafy.bookshy.domain.users.exception.UserErrorCode;
 import com.ssafy.bookshy.domain.users.exception.UserException;
 import com.ssafy.bookshy.domain.users.repository.UserRepository;
-import com.ssafy.bookshy.domain.users.service.UserService;
-import com.ssafy.bookshy.kafka.dto.ChatMessageKafkaDto;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.ZoneId;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.Optional;
+import java.util.*;
 import java.util.stream.Collectors;
 
 /**
@@ -51,51 +52,89 @@ public class ChatRoomService {
 
     private final ChatRoomRepository chatRoomRepository;
     private final ChatMessageRepository chatMessageRepository;
-    private final UserService userService;
     private final ExchangeRequestRepository exchangeRequestRepository;
     private final BookRepository bookRepository;
     private final ChatCalendarRepository chatCalendarRepository;
     private final UserRepository userRepository;
+    private final ChatUnreadCounter chatUnreadCounter;
+    private final ApplicationEventPublisher applicationEventPublisher;
+
+    private static final int MAX_INBOX_PAGE_SIZE = 50;
 
     /**
      * 📋 특정 사용자의 채팅방 목록을 조회합니다.
      *
-     * - 참여 중인 모든 채팅방을 조회
-     * - 상대방 정보 (이름, 프로필), 안 읽은 메시지 수 포함
+     * - 참여 중인 모든 채팅방을 최근 메시지 순으로 조회
+     * - 상대방 정보 (이름, 프로필)를 한 번의 쿼리로 함께 조회
+     * - 안 읽은 메시지 수는 Redis 카운터에서 한 번에 조회
      *
      * @param userId 현재 로그인된 사용자 ID
      * @return 채팅방 목록 DTO 리스트
      */
     public List<ChatRoomDto> getChatRooms(Long userId) {
-        // 🔍 1. 해당 사용자가 포함된 채팅방 전체 조회
-        List<ChatRoom> rooms = chatRoomRepository.findByUserId(userId);
+        return toChatRoomDtos(chatRoomRepository.findInbox(userId, Integer.MAX_VALUE), userId);
+    }
+
+    /**
+     * 📋 지정한 채팅방들의 목록 정보를 userId 관점으로 조회합니다. (채팅 목록 갱신 브로드캐스트용)
+     */
+    public List<ChatRoomDto> getChatRooms(Collection<Long> chatRoomIds, Long userId) {
+        if (chatRoomIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return toChatRoomDtos(chatRoomRepository.findInboxRows(chatRoomIds, userId), userId);
+    }
+
+    /**
+     * 📑 채팅방 목록 페이지 조회 (최근 메시지 순, keyset 페이지네이션)
+     *
+     * @param userId 현재 로그인된 사용자 ID
+     * @param cursor 이전 응답의 nextCursor (첫 페이지면 null)
+     * @param size   페이지 크기
+     */
+    public ChatRoomPageResponseDto getChatRoomPage(Long userId, String cursor, int size) {
+        int limit = Math.max(1, Math.min(size, MAX_INBOX_PAGE_SIZE));
+
+        List<ChatInboxRow> rows;
+        if (cursor == null || cursor.isBlank()) {
+            rows = chatRoomRepository.findInbox(userId, limit + 1);
+        } else {
+            ChatInboxCursor decoded = ChatInboxCursor.decode(cursor);
+            rows = chatRoomRepository.findInboxAfter(userId,
+                    decoded.getSortTime(), decoded.getChatRoomId(), limit + 1);
+        }
+
+        boolean hasMore = rows.size() > limit;
+        List<ChatInboxRow> page = hasMore ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasMore) {
+            nextCursor = ChatInboxCursor.of(page.get(page.size() - 1)).encode();
+        }
+
+        return ChatRoomPageResponseDto.builder()
+                .rooms(toChatRoomDtos(page, userId))
+                .hasMore(hasMore)
+                .nextCursor(nextCursor)
+                .build();
+    }
+
+    // 채팅방 도서 정보와 안 읽은 메시지 수를 한 번에 조회하여 DTO로 변환
+    private List<ChatRoomDto> toChatRoomDtos(List<ChatInboxRow> rows, Long userId) {
+        if (rows.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Long> chatRoomIds = rows.stream().map(ChatInboxRow::getId).toList();
+        Map<Long, List<ChatRoomBookRow>> booksByRoom = chatRoomRepository
+                .findBooksByChatRoomIds(chatRoomIds)
+                .stream()
+                .collect(Collectors.groupingBy(ChatRoomBookRow::getChatRoomId));
+        Map<Long, Integer> unreadCounts = chatUnreadCounter.getCounts(chatRoomIds, userId);
 
-        // 🎁 2. 각 채팅방에 대해 DTO 변환
-        return rooms.stream()
-                .map(room -> {
-                    // 상대방 ID 결정
-                    Long partnerId = room.getUserAId().equals(userId)
-                            ? room.getUserBId()
-                            : room.getUserAId();
-
-                    // 상대방 사용자 정보 조회
-                    Users partner = userService.getUserById(partnerId);
-
-                    // 📩 안 읽은 메시지 수 계산
-                    int unreadCount = chatMessageRepository.countUnreadMessages(room.getId(), userId);
-
-                    // ✅ DTO 생성 및 반환
-                    return ChatRoomDto.from(
-                            room,
-                            userId, // 내 userId
-                            partnerId,
-                            partner.getNickname(),
-                            partner.getProfileImageUrl(),
-                            partner.getTemperature(), // bookshyScore로 사용됨
-                            unreadCount
-                    );
-
-                })
+        return rows.stream()
+                .map(row -> ChatRoomDto.from(row, userId, booksByRoom.getOrDefault(row.getId(), List.of()),
+                        unreadCounts.getOrDefault(row.getId(), 0)))
                 .collect(Collectors.toList());
     }
 
@@ -118,13 +157,14 @@ public class ChatRoomService {
         Long senderId = dto.getSenderId();
         Long receiverId = dto.getReceiverId();
 
-        // 🔍 1. 기존 채팅방 존재 여부 확인
-        Optional<ChatRoom> existing = chatRoomRepository.findByParticipants(senderId, receiverId);
-        if (existing.isPresent()) {
-            return existing.get();
+        // 🆕 1. 채팅방 생성 (같은 쌍의 방이 이미 있으면 기존 방 반환)
+        Optional<ChatRoom> created = insertIfAbsent(senderId, receiverId, matchId);
+        if (created.isEmpty()) {
+            return findExisting(senderId, receiverId);
         }
+        ChatRoom chatRoom = created.get();
 
-        // 📚 2. 책 정보 매핑
+        // 📚 2. 책 정보 저장
         List<ChatRoomBook> books = new ArrayList<>();
 
         for (int i = 0; i < dto.getMyBookId().size(); i++) {
@@ -143,16 +183,9 @@ public class ChatRoomService {
                     .build());
         }
 
-        // 🆕 3. 채팅방 생성 및 저장
-        ChatRoom chatRoom = ChatRoom.builder()
-                .userAId(senderId)
-                .userBId(receiverId)
-                .matching(Matching.builder().matchId(matchId).build())
-                .books(books)
-                .build();
-        chatRoom = chatRoomRepository.save(chatRoom);
+        chatRoom.getBooks().addAll(books);
 
-        // 📝 4. 안내 메시지 저장
+        // 📝 3. 안내 메시지 저장
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
         String systemMessage = "채팅방이 생성되었습니다.";
 
@@ -166,6 +199,7 @@ public class ChatRoomService {
 
         chatMessageRepository.save(noticeMessage);
         chatRoom.updateLastMessage(systemMessage, now);
+        publishNoticeSaved(chatRoom, noticeMessage);
 
         return chatRoom;
     }
@@ -176,23 +210,22 @@ public class ChatRoomService {
      * 📌 두 사용자 간 책 정보 없이 단순히 채팅을 시작하고자 할 때 사용됩니다.
      *
      * ✅ 기능 요약:
-     * - sender와 receiver 간 채팅방이 존재하지 않는다는 전제 하에 호출됩니다.
-     * - 새로운 ChatRoom을 생성하고, 시스템 메시지("채팅방이 생성되었습니다.")를 자동 추가합니다.
+     * - sender와 receiver 간 채팅방이 이미 있으면 해당 채팅방을 반환합니다.
+     * - 없으면 새로운 ChatRoom을 생성하고, 시스템 안내 메시지를 자동 추가합니다.
      * - Matching 없이도 채팅방 생성이 가능합니다 (즉, Matching 엔티티와 무관).
      *
      * @param senderId 채팅을 시작하는 사용자 ID
      * @param receiverId 채팅을 받을 사용자 ID
-     * @return 생성된 ChatRoom 엔티티
+     * @return 생성되거나 기존의 ChatRoom 엔티티
      */
     @Transactional
     public ChatRoom createChatRoomFromSimple(Long senderId, Long receiverId) {
-        // 🆕 1. 채팅방 생성
-        ChatRoom chatRoom = ChatRoom.builder()
-                .userAId(senderId)
-                .userBId(receiverId)
-                .build();
-
-        chatRoom = chatRoomRepository.save(chatRoom);
+        // 🆕 1. 채팅방 생성 (같은 쌍의 방이 이미 있으면 기존 방 반환)
+        Optional<ChatRoom> created = insertIfAbsent(senderId, receiverId, null);
+        if (created.isEmpty()) {
+            return findExisting(senderId, receiverId);
+        }
+        ChatRoom chatRoom = created.get();
 
         // 📝 2. 시스템 메시지 저장
         LocalDateTime now = LocalDateTime.now(ZoneId.of("Asia/Seoul"));
@@ -213,11 +246,31 @@ public class ChatRoomService {
 
         // 💬 3. 채팅방에 마지막 메시지 정보 업데이트
         chatRoom.updateLastMessage(systemMessage, now);
+        publishNoticeSaved(chatRoom, noticeMessage);
 
         return chatRoom;
     }
 
+    // 🔒 조회 없이 유니크 제약으로 생성 여부 판단 (동시에 생성 요청이 와도 한 요청만 성공)
+    private Optional<ChatRoom> insertIfAbsent(Long senderId, Long receiverId, Long matchId) {
+        return chatRoomRepository.insertIfAbsent(senderId, receiverId, matchId, LocalDateTime.now())
+                .map(id -> chatRoomRepository.findById(id)
+                        .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND)));
+    }
 
+    // 충돌한 요청은 먼저 커밋된 채팅방을 반환
+    private ChatRoom findExisting(Long senderId, Long receiverId) {
+        return chatRoomRepository.findByParticipants(senderId, receiverId)
+                .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
+    }
+
+
+
+    // 안내 메시지도 수신자의 안 읽은 메시지로 집계되므로 카운터 증가 이벤트 발행
+    private void publishNoticeSaved(ChatRoom chatRoom, ChatMessage noticeMessage) {
+        applicationEventPublisher.publishEvent(new ChatMessageSavedEvent(chatRoom.getId(), noticeMessage.getId(),
+                noticeMessage.getSenderId(), chatRoom.getPartnerId(noticeMessage.getSenderId())));
+    }
 
     public Optional<ChatRoom> findByMatchId(Long matchId) {
         return chatRoomRepository.findByMatching_MatchId(matchId);
@@ -238,51 +291,6 @@ public class ChatRoomService {
                 .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
     }
 
-    /**
-     * 📦 Kafka 이벤트 기반으로 채팅방 정보를 조회하여 ChatRoomDto로 변환합니다.
-     *
-     * 💬 사용 목적:
-     * - KafkaConsumer에서 채팅 목록 WebSocket 갱신을 위해 사용
-     *
-     * 🧩 처리 과정:
-     * 1. 채팅방 ID로 ChatRoom 엔티티 조회
-     * 2. senderId를 기준으로 상대방 ID 결정
-     * 3. 상대방의 프로필 정보 조회
-     * 4. 안 읽은 메시지 수 계산
-     * 5. ChatRoomDto 생성
-     *
-     * @param dto Kafka에서 전달받은 채팅 메시지 DTO
-     * @return ChatRoomDto (채팅방 요약 정보)
-     */
-    public ChatRoomDto getChatRoomDtoByKafkaEvent(ChatMessageKafkaDto dto) {
-        Long chatRoomId = dto.getChatRoomId();
-        Long senderId = dto.getSenderId();
-
-        // 1. 채팅방 조회
-        ChatRoom room = chatRoomRepository.findById(chatRoomId)
-                .orElseThrow(() -> new ChatException(ChatErrorCode.CHATROOM_NOT_FOUND));
-
-        // 2. 상대방 ID 결정
-        Long partnerId = room.getUserAId().equals(senderId) ? room.getUserBId() : room.getUserAId();
-
-        // 3. 상대방 사용자 정보 조회
-        Users partner = userService.getUserById(partnerId);
-
-        // 4. 안 읽은 메시지 수 계산
-        int unreadCount = chatMessageRepository.countUnreadMessages(chatRoomId, senderId);
-
-        // 5. ChatRoomDto 생성 및 반환
-        return ChatRoomDto.from(
-                room,
-                senderId, // 내 userId
-                partnerId,
-                partner.getNickname(),
-                partner.getProfileImageUrl(),
-                partner.getTemperature(), // bookshyScore
-                unreadCount
-        );
-    }
-
     /**
      * 📚 현재 로그인 사용자가 대여 중인 도서들을 모두 조회합니다.
      *
@@ -0,0 +1,181 @@
+package com.ssafy.bookshy.domain.chat.unread;
+
+import com.ssafy.bookshy.domain.chat.dto.ChatUnreadCountRow;
+import com.ssafy.bookshy.domain.chat.repository.ChatMessageRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.*;
+
+/**
+ * 🔴 채팅방별 안 읽은 메시지 수 Redis 카운터
+ *
+ * - 키: chat:unread:{채팅방 ID}:{사용자 ID}, 값은 안 읽은 메시지 수
+ * - 메시지 저장 커밋 후 수신자 카운터 +1, 읽음 처리 커밋 후 0으로 초기화
+ * - 카운터가 없으면(최초 조회, TTL 만료) DB에서 집계하여 적재합니다.
+ * - 최근 변경된 카운터는 주기적으로 DB 값과 맞춥니다. (동시 적재·Redis 장애로 어긋난 값 보정)
+ *
+ * Redis 오류 시에는 DB 집계로 대체하여 목록 조회가 실패하지 않도록 합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounter {
+
+    private static final String KEY_PREFIX = "chat:unread:";
+    private static final String DIRTY_KEY = "chat:unread:dirty";
+    private static final Duration COUNTER_TTL = Duration.ofDays(7);
+    private static final int RECONCILE_BATCH_SIZE = 500;
+
+    // 카운터가 적재된 경우에만 증가 (없는 카운터는 다음 조회 시 DB 값으로 적재)
+    private static final RedisScript<Long> INCREMENT_IF_PRESENT = new DefaultRedisScript<>(
+            "if redis.call('EXISTS', KEYS[1]) == 1 then " +
+            "  redis.call('INCR', KEYS[1]) " +
+            "  redis.call('EXPIRE', KEYS[1], ARGV[1]) " +
+            "end " +
+            "redis.call('SADD', KEYS[2], ARGV[2]) " +
+            "return 1", Long.class);
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ChatMessageRepository chatMessageRepository;
+
+    /**
+     * ➕ 수신자의 안 읽은 메시지 수를 1 증가시킵니다.
+     */
+    public void increment(Long chatRoomId, Long userId) {
+        try {
+            redisTemplate.execute(INCREMENT_IF_PRESENT,
+                    List.of(key(chatRoomId, userId), DIRTY_KEY),
+                    String.valueOf(COUNTER_TTL.toSeconds()), member(chatRoomId, userId));
+        } catch (Exception e) {
+            log.error("❌ 안 읽은 메시지 카운터 증가 실패 - roomId: {}, userId: {}", chatRoomId, userId, e);
+        }
+    }
+
+    /**
+     * 🧹 읽음 처리된 채팅방의 카운터를 0으로 초기화합니다.
+     */
+    public void reset(Long chatRoomId, Long userId) {
+        try {
+            redisTemplate.opsForValue().set(key(chatRoomId, userId), "0", COUNTER_TTL);
+            redisTemplate.opsForSet().add(DIRTY_KEY, member(chatRoomId, userId));
+        } catch (Exception e) {
+            log.error("❌ 안 읽은 메시지 카운터 초기화 실패 - roomId: {}, userId: {}", chatRoomId, userId, e);
+        }
+    }
+
+    public int getCount(Long chatRoomId, Long userId) {
+        return getCounts(List.of(chatRoomId), userId).getOrDefault(chatRoomId, 0);
+    }
+
+    /**
+     * 🔢 여러 채팅방의 안 읽은 메시지 수를 한 번에 조회합니다.
+     *
+     * Redis MGET 한 번으로 읽고, 적재되지 않은 채팅방만 DB에서 한 번에 집계하여 채웁니다.
+     *
+     * @return 채팅방 ID → 안 읽은 메시지 수
+     */
+    public Map<Long, Integer> getCounts(Collection<Long> chatRoomIds, Long userId) {
+        Map<Long, Integer> counts = new HashMap<>();
+        if (chatRoomIds.isEmpty()) {
+            return counts;
+        }
+
+        List<Long> roomIds = new ArrayList<>(chatRoomIds);
+        List<Long> missing = new ArrayList<>();
+        try {
+            List<String> values = redisTemplate.opsForValue()
+                    .multiGet(roomIds.stream().map(roomId -> key(roomId, userId)).toList());
+
+            for (int i = 0; i < roomIds.size(); i++) {
+                String value = values != null ? values.get(i) : null;
+                if (value == null) {
+                    missing.add(roomIds.get(i));
+                } else {
+                    counts.put(roomIds.get(i), Math.max(0, Integer.parseInt(value)));
+                }
+            }
+        } catch (Exception e) {
+            log.error("❌ 안 읽은 메시지 카운터 조회 실패, DB 집계로 대체 - userId: {}", userId, e);
+            counts.clear();
+            missing = roomIds;
+        }
+
+        if (!missing.isEmpty()) {
+            Map<Long, Integer> loaded = loadFromDatabase(missing, userId);
+            counts.putAll(loaded);
+            seed(loaded, userId);
+        }
+        return counts;
+    }
+
+    /**
+     * 🔄 최근 변경된 카운터를 DB 집계 값으로 맞춥니다.
+     */
+    @Scheduled(fixedDelayString = "${chat.unread.reconcile-interval-ms:300000}")
+    public void reconcile() {
+        List<String> members;
+        try {
+            members = redisTemplate.opsForSet().pop(DIRTY_KEY, RECONCILE_BATCH_SIZE);
+        } catch (Exception e) {
+            log.error("❌ 안 읽은 메시지 카운터 보정 대상 조회 실패", e);
+            return;
+        }
+        if (members == null || members.isEmpty()) {
+            return;
+        }
+
+        int corrected = 0;
+        for (String member : members) {
+            try {
+                String[] parts = member.split(":");
+                Long chatRoomId = Long.parseLong(parts[0]);
+                Long userId = Long.parseLong(parts[1]);
+
+                String actual = String.valueOf(chatMessageRepository.countUnreadMessages(chatRoomId, userId));
+                String previous = redisTemplate.opsForValue().getAndSet(key(chatRoomId, userId), actual);
+                redisTemplate.expire(key(chatRoomId, userId), COUNTER_TTL);
+                if (!actual.equals(previous)) {
+                    corrected++;
+                }
+            } catch (Exception e) {
+                log.error("❌ 안 읽은 메시지 카운터 보정 실패 - {}", member, e);
+            }
+        }
+        log.info("🔄 안 읽은 메시지 카운터 보정 완료 - 대상: {}, 수정: {}", members.size(), corrected);
+    }
+
+    // 안 읽은 메시지가 없는 방은 집계 결과에 없으므로 0으로 채움
+    private Map<Long, Integer> loadFromDatabase(List<Long> chatRoomIds, Long userId) {
+        Map<Long, Integer> loaded = new HashMap<>();
+        chatRoomIds.forEach(roomId -> loaded.put(roomId, 0));
+        for (ChatUnreadCountRow row : chatMessageRepository.countUnreadByChatRoomIds(chatRoomIds, userId)) {
+            loaded.put(row.getChatRoomId(), row.getUnreadCount().intValue());
+        }
+        return loaded;
+    }
+
+    // 그 사이 증가·초기화된 카운터를 덮어쓰지 않도록 없는 경우에만 적재
+    private void seed(Map<Long, Integer> loaded, Long userId) {
+        try {
+            loaded.forEach((roomId, count) ->
+                    redisTemplate.opsForValue().setIfAbsent(key(roomId, userId), String.valueOf(count), COUNTER_TTL));
+        } catch (Exception e) {
+            log.error("❌ 안 읽은 메시지 카운터 적재 실패 - userId: {}", userId, e);
+        }
+    }
+
+    private static String key(Long chatRoomId, Long userId) {
+        return KEY_PREFIX + chatRoomId + ":" + userId;
+    }
+
+    private static String member(Long chatRoomId, Long userId) {
+        return chatRoomId + ":" + userId;
+    }
+}
@@ -0,0 +1,31 @@
+package com.ssafy.bookshy.domain.chat.unread;
+
+import com.ssafy.bookshy.domain.chat.event.ChatMessageSavedEvent;
+import com.ssafy.bookshy.domain.chat.event.ChatRoomReadEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 🔴 메시지 저장·읽음 처리가 커밋된 뒤 안 읽은 메시지 카운터를 갱신합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class ChatUnreadCounterEventListener {
+
+    private final ChatUnreadCounter chatUnreadCounter;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleMessageSaved(ChatMessageSavedEvent event) {
+        if (event.getReceiverId().equals(event.getSenderId())) {
+            return;
+        }
+        chatUnreadCounter.increment(event.getChatRoomId(), event.getReceiverId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleRoomRead(ChatRoomReadEvent event) {
+        chatUnreadCounter.reset(event.getChatRoomId(), event.getUserId());
+    }
+}
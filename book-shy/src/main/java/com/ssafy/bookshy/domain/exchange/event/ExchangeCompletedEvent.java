@@ -0,0 +1,16 @@
+package com.ssafy.bookshy.domain.exchange.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🎉 양측 리뷰 제출로 거래가 완료되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExchangeCompletedEvent {
+    private final Long requestId;
+    private final Long requesterId;
+    private final Long responderId;
+    private final String tradeType;
+}
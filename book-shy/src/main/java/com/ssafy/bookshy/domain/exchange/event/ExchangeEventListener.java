@@ -0,0 +1,39 @@
+package com.ssafy.bookshy.domain.exchange.event;
+
+import com.ssafy.bookshy.kafka.config.KafkaTopicResolver;
+import com.ssafy.bookshy.kafka.outbox.OutboxWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 📦 거래 완료 이벤트를 같은 트랜잭션 안에서(BEFORE_COMMIT) 아웃박스에 기록합니다.
+ * trade.success 발행은 OutboxRelay가 거래 ID를 키로 수행합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ExchangeEventListener {
+
+    private final OutboxWriter outboxWriter;
+    private final KafkaTopicResolver kafkaTopicResolver;
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleExchangeCompleted(ExchangeCompletedEvent event) {
+        Map<String, Object> payload = new LinkedHashMap<>();
+        payload.put("requestId", event.getRequestId());
+        payload.put("userAId", event.getRequesterId());
+        payload.put("userBId", event.getResponderId());
+        payload.put("tradeType", event.getTradeType());
+        payload.put("completedAt", LocalDateTime.now().toString());
+
+        outboxWriter.append(kafkaTopicResolver.getTradeSuccessTopic(), event.getRequestId(), payload);
+        log.info("📮 거래 완료 이벤트 아웃박스 기록 - requestId: {}", event.getRequestId());
+    }
+}
@@ -10,12 +10,14 @@ import com.ssafy.bookshy.domain.exchange.dto.*;
 import com.ssafy.bookshy.domain.exchange.entity.ExchangeRequest;
 import com.ssafy.bookshy.domain.exchange.entity.ExchangeRequestReview;
 import com.ssafy.bookshy.domain.exchange.entity.ExchangeReviewBook;
+import com.ssafy.bookshy.domain.exchange.event.ExchangeCompletedEvent;
 import com.ssafy.bookshy.domain.exchange.exception.ExchangeErrorCode;
 import com.ssafy.bookshy.domain.exchange.exception.ExchangeException;
 import com.ssafy.bookshy.domain.exchange.repository.ExchangeRequestRepository;
 import com.ssafy.bookshy.domain.exchange.repository.ExchangeRequestReviewRepository;
 import com.ssafy.bookshy.domain.exchange.repository.ExchangeReviewBookRepository;
 import com.ssafy.bookshy.domain.library.entity.Library;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
 import com.ssafy.bookshy.domain.library.repository.LibraryRepository;
 import com.ssafy.bookshy.domain.notification.service.NotificationService;
 import com.ssafy.bookshy.domain.users.entity.Users;
@@ -23,6 +25,7 @@ import com.ssafy.bookshy.domain.users.repository.UserRepository;
 import jakarta.transaction.Transactional;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 
 import java.time.LocalDateTime;
@@ -43,6 +46,7 @@ public class ExchangeService {
     private final NotificationService notificationService;
     private final ExchangeReviewBookRepository reviewBookRepository;
     private final BookRepository bookRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 📩 도서 교환 요청 처리
@@ -258,10 +262,18 @@ public class ExchangeService {
                 } catch (Exception e) {
                     throw new ExchangeException(ExchangeErrorCode.BOOK_NOT_FOUND);
                 }
+
+                // 이전 소유자·새 소유자 양쪽의 서재 변경 알림
+                applicationEventPublisher.publishEvent(new LibraryChangedEvent(book.getLibraryId(), oldOwnerId, book.getBookId()));
+                applicationEventPublisher.publishEvent(new LibraryChangedEvent(book.getLibraryId(), newOwnerId, book.getBookId()));
             }
             log.info("✅ 모든 도서에 대한 소유권 이전 완료");
         }
 
+        // 8️⃣ 거래 완료 이벤트 (같은 트랜잭션에서 아웃박스 기록)
+        applicationEventPublisher.publishEvent(new ExchangeCompletedEvent(exchangeRequest.getRequestId(),
+                exchangeRequest.getRequesterId(), exchangeRequest.getResponderId(), request.getTradeType()));
+
         log.info("🎉 거래 완료 처리 성공 - requestId: {}", request.getRequestId());
         return true;
     }
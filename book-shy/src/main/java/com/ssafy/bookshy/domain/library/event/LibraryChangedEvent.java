@@ -0,0 +1,17 @@
+package com.ssafy.bookshy.domain.library.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 📚 서재 항목이 등록/삭제되거나 공개 여부·소유자가 바뀌었을 때 발행되는 이벤트
+ *
+ * - userId: 영향을 받은 사용자 (소유권 이전 시에는 이전 소유자와 새 소유자 각각 발행)
+ */
+@Getter
+@RequiredArgsConstructor
+public class LibraryChangedEvent {
+    private final Long libraryId;
+    private final Long userId;
+    private final Long bookId;
+}
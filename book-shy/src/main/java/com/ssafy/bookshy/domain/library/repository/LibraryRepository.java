@@ -2,6 +2,7 @@ package com.ssafy.bookshy.domain.library.repository;
 
 import com.ssafy.bookshy.domain.book.entity.Book;
 import com.ssafy.bookshy.domain.library.entity.Library;
+import com.ssafy.bookshy.domain.matching.dto.UserBookPair;
 import com.ssafy.bookshy.domain.users.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
@@ -17,43 +18,16 @@ public interface LibraryRepository extends JpaRepository<Library, Long> {
     List<Library> findByUserAndIsPublicTrueOrderByRegisteredAtDesc(Users user); // 공개 서재
     long countByUser(Users user);
     long countByUserAndIsPublicTrue(Users user);
+    boolean existsByUserUserIdAndIsPublicTrue(Long userId);
+    boolean existsByUserUserIdAndBookIdAndIsPublicTrue(Long userId, Long bookId);
     boolean existsByUserAndBook(Users user, Book book);
 
-    // 후보 유저 조회
-    @Query("""
-    SELECT DISTINCT l.user FROM Library l 
-    WHERE l.isPublic = true 
-    AND l.book.id IN (
-        SELECT w.book.id FROM Wish w WHERE w.user.userId = :myUserId
-    )
-    AND l.user.userId <> :myUserId
-    """)
-    List<Users> findCandidatesByMyWishBooks(@Param("myUserId") Long myUserId);
-
-    // 내 wish → 상대의 공개 서재에 있는지 확인
-    @Query("""
-    SELECT l FROM Library l 
-    WHERE l.isPublic = true 
-    AND l.user.userId = :otherUserId
-    AND l.book.id IN (
-        SELECT w.book.id FROM Wish w WHERE w.user.userId = :myUserId
-    )
-    """)
-    List<Library> findTheirLibrariesMatchingMyWishes(@Param("myUserId") Long myUserId, @Param("otherUserId") Long otherUserId);
-
-    // 상대 wish → 내 공개 서재에 있는지 확인
-    @Query("""
-    SELECT l FROM Library l 
-    WHERE l.isPublic = true 
-    AND l.user.userId = :myUserId
-    AND l.book.id IN (
-        SELECT w.book.id FROM Wish w WHERE w.user.userId = :otherUserId
-    )
-    """)
-    List<Library> findMyLibrariesMatchingTheirWishes(@Param("myUserId") Long myUserId, @Param("otherUserId") Long otherUserId);
-
     boolean existsByUserUserIdAndBookItemId(Long userId, Long itemId);
 
+    // 공개 서재의 (사용자, 도서) 쌍 전체 (도서 역색인 적재용)
+    @Query("SELECT DISTINCT l.user.userId AS userId, l.book.id AS bookId FROM Library l WHERE l.isPublic = true")
+    List<UserBookPair> findAllPublicUserBookPairs();
+
     @Modifying
     @Query("UPDATE Library l SET l.user.userId = :newUserId WHERE l.id = :libraryId")
     void updateLibraryOwner(@Param("libraryId") Long libraryId, @Param("newUserId") Long newUserId);
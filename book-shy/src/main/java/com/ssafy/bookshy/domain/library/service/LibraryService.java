@@ -4,6 +4,7 @@ import com.ssafy.bookshy.common.constants.ImageUrlConstants;
 import com.ssafy.bookshy.common.file.FileUploadUtil;
 import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
 import com.ssafy.bookshy.domain.book.entity.Book;
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
 import com.ssafy.bookshy.domain.book.repository.BookRepository;
 import com.ssafy.bookshy.domain.book.repository.WishRepository;
 import com.ssafy.bookshy.domain.booknote.entity.BookNote;
@@ -16,6 +17,7 @@ import com.ssafy.bookshy.domain.library.dto.LibrarySelfAddRequestDto;
 import com.ssafy.bookshy.domain.library.dto.LibraryWithTripResponseDto;
 import com.ssafy.bookshy.domain.library.entity.Library;
 import com.ssafy.bookshy.domain.library.entity.LibraryReadLog;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
 import com.ssafy.bookshy.domain.library.exception.LibraryErrorCode;
 import com.ssafy.bookshy.domain.library.exception.LibraryException;
 import com.ssafy.bookshy.domain.library.repository.LibraryReadLogRepository;
@@ -25,6 +27,7 @@ import com.ssafy.bookshy.domain.users.service.UserService;
 import com.ssafy.bookshy.external.aladin.AladinClient;
 import lombok.RequiredArgsConstructor;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -52,6 +55,7 @@ public class LibraryService {
     private final BookNoteRepository bookNoteRepository;
     private final BookTripRepository bookTripRepository;
     private final LibraryReadLogRepository libraryReadLogRepository;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     @Value("${file.upload.cover-dir}")
     private String uploadPath;
@@ -94,6 +98,7 @@ public class LibraryService {
         }
 
         wishRepository.deleteByUserAndBook(user, book);
+        applicationEventPublisher.publishEvent(new WishChangedEvent(user.getUserId(), book.getId()));
 
         Library library = Library.builder()
                 .user(user)
@@ -103,6 +108,7 @@ public class LibraryService {
                 .build();
 
         Library saved = libraryRepository.save(library);
+        applicationEventPublisher.publishEvent(new LibraryChangedEvent(saved.getId(), user.getUserId(), book.getId()));
 
         // 누적 독서 로그 기록
         if (!libraryReadLogRepository.existsByUserIdAndBookId(user.getUserId(), book.getId())) {
@@ -154,6 +160,7 @@ public class LibraryService {
         }
 
         wishRepository.deleteByUserAndBook(user, book);
+        applicationEventPublisher.publishEvent(new WishChangedEvent(user.getUserId(), book.getId()));
 
         Library library = Library.builder()
                 .user(user)
@@ -163,6 +170,7 @@ public class LibraryService {
                 .build();
 
         Library saved = libraryRepository.save(library);
+        applicationEventPublisher.publishEvent(new LibraryChangedEvent(saved.getId(), user.getUserId(), book.getId()));
 
         // 누적 독서 로그 기록
         if (!libraryReadLogRepository.existsByUserIdAndBookId(user.getUserId(), book.getId())) {
@@ -208,6 +216,7 @@ public class LibraryService {
 
         bookRepository.save(book);
         wishRepository.deleteByUserAndBook(user, book);
+        applicationEventPublisher.publishEvent(new WishChangedEvent(user.getUserId(), book.getId()));
 
         // 4️⃣ Library 등록
         Library library = Library.builder()
@@ -218,6 +227,7 @@ public class LibraryService {
                 .build();
 
         Library saved = libraryRepository.save(library);
+        applicationEventPublisher.publishEvent(new LibraryChangedEvent(saved.getId(), user.getUserId(), book.getId()));
 
         // 누적 독서 로그 기록
         if (!libraryReadLogRepository.existsByUserIdAndBookId(user.getUserId(), book.getId())) {
@@ -235,10 +245,11 @@ public class LibraryService {
 
     @Transactional
     public void removeFromLibrary(Long libraryId) {
-        if (!libraryRepository.existsById(libraryId)) {
-            throw new LibraryException(LibraryErrorCode.LIBRARY_NOT_FOUND);
-        }
-        libraryRepository.deleteById(libraryId);
+        Library library = libraryRepository.findById(libraryId)
+                .orElseThrow(() -> new LibraryException(LibraryErrorCode.LIBRARY_NOT_FOUND));
+        libraryRepository.delete(library);
+        applicationEventPublisher.publishEvent(
+                new LibraryChangedEvent(libraryId, library.getUser().getUserId(), library.getBook().getId()));
     }
 
     @Transactional
@@ -246,6 +257,8 @@ public class LibraryService {
         Library library = libraryRepository.findById(libraryId)
                 .orElseThrow(() -> new LibraryException(LibraryErrorCode.LIBRARY_NOT_FOUND));
         library.setPublic(isPublic);
+        applicationEventPublisher.publishEvent(
+                new LibraryChangedEvent(libraryId, library.getUser().getUserId(), library.getBook().getId()));
     }
 
     public List<LibraryResponseDto> findLibraryByUser(Long userId) {
@@ -0,0 +1,52 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.exception.MatchingErrorCode;
+import com.ssafy.bookshy.domain.matching.exception.MatchingException;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * 🔖 매칭 후보 페이지 커서
+ *
+ * 마지막으로 내려준 후보의 정렬 키(점수 또는 거리)와 userId를 담아,
+ * 스냅샷이 교체되더라도 같은 위치 다음부터 이어서 조회할 수 있게 합니다.
+ * 클라이언트에는 Base64(URL-safe) 문자열로만 노출됩니다.
+ */
+@Getter
+@RequiredArgsConstructor
+public class MatchingCursor {
+
+    private static final String PREFIX = "v1";
+
+    private final MatchingSortType sort;
+    private final long snapshotVersion;
+    private final double lastKey;
+    private final long lastUserId;
+
+    public String encode() {
+        String raw = String.join("|", PREFIX, sort.name(), Long.toString(snapshotVersion),
+                Double.toString(lastKey), Long.toString(lastUserId));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static MatchingCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] parts = raw.split("\\|");
+            if (parts.length != 5 || !PREFIX.equals(parts[0])) {
+                throw new MatchingException(MatchingErrorCode.INVALID_CURSOR);
+            }
+            return new MatchingCursor(
+                    MatchingSortType.valueOf(parts[1]),
+                    Long.parseLong(parts[2]),
+                    Double.parseDouble(parts[3]),
+                    Long.parseLong(parts[4])
+            );
+        } catch (IllegalArgumentException e) {
+            throw new MatchingException(MatchingErrorCode.INVALID_CURSOR);
+        }
+    }
+}
@@ -0,0 +1,61 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 📸 사용자별 매칭 후보 스냅샷
+ *
+ * 한 번 계산한 후보 목록을 점수순·거리순으로 미리 정렬해 두고 페이지 요청마다 재사용합니다.
+ */
+@Getter
+public class MatchingSnapshot {
+
+    private final long version;
+    private final long createdAtMillis;
+    private final List<MatchingDto> byScore;
+    private final List<MatchingDto> byDistance;
+    private volatile boolean invalidated;
+
+    public MatchingSnapshot(long version, long createdAtMillis, List<MatchingDto> candidates) {
+        this.version = version;
+        this.createdAtMillis = createdAtMillis;
+        this.byScore = candidates.stream().sorted(MatchingSortType.SCORE.comparator()).toList();
+        this.byDistance = candidates.stream().sorted(MatchingSortType.DISTANCE.comparator()).toList();
+    }
+
+    public List<MatchingDto> sorted(MatchingSortType sort) {
+        return sort == MatchingSortType.DISTANCE ? byDistance : byScore;
+    }
+
+    public boolean isExpired(long nowMillis, long ttlMillis) {
+        return invalidated || nowMillis - createdAtMillis > ttlMillis;
+    }
+
+    void invalidate() {
+        this.invalidated = true;
+    }
+
+    /**
+     * 커서 위치 바로 다음 후보의 인덱스 (이진 탐색)
+     */
+    public int indexAfter(MatchingCursor cursor) {
+        List<MatchingDto> list = sorted(cursor.getSort());
+        MatchingSortType sort = cursor.getSort();
+
+        int low = 0;
+        int high = list.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            MatchingDto dto = list.get(mid);
+            if (sort.compare(sort.keyOf(dto), dto.getUserId(), cursor.getLastKey(), cursor.getLastUserId()) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+}
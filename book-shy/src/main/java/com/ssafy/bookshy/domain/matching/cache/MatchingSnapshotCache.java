@@ -0,0 +1,127 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * 🗂️ 사용자별 매칭 후보 스냅샷 캐시
+ *
+ * - TTL(기본 60초) 동안 같은 스냅샷으로 모든 페이지를 제공합니다.
+ * - 찜/서재/주소 변경 시 {@link #invalidate(Long)}로 즉시 무효화합니다.
+ * - 만료·무효화된 스냅샷도 커서로 이어보는 중이라면 교체 전까지 그대로 제공하고, 응답에 stale로 표시합니다.
+ * - 같은 사용자의 재계산이 동시에 필요하면 한 요청만 계산하고 나머지는 그 결과를 기다립니다.
+ */
+@Slf4j
+@Component
+public class MatchingSnapshotCache {
+
+    private final Map<Long, MatchingSnapshot> snapshots = new ConcurrentHashMap<>();
+    // 사용자 ID → 진행 중인 재계산
+    private final Map<Long, InFlight> inFlight = new ConcurrentHashMap<>();
+    private final AtomicLong versionSequence = new AtomicLong(System.currentTimeMillis());
+
+    @Value("${matching.snapshot.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * 유효한 스냅샷을 반환하고, 없거나 만료되었으면 새로 계산합니다.
+     * 이미 같은 사용자의 계산이 진행 중이면 새로 계산하지 않고 그 결과를 기다립니다.
+     */
+    public MatchingSnapshot getOrCompute(Long userId, Supplier<List<MatchingDto>> loader) {
+        MatchingSnapshot current = snapshots.get(userId);
+        if (current != null && !isStale(current)) {
+            return current;
+        }
+
+        InFlight mine = new InFlight();
+        InFlight running = inFlight.putIfAbsent(userId, mine);
+        if (running != null) {
+            return await(running);
+        }
+
+        try {
+            // 앞선 계산이 막 끝났을 수 있으므로 다시 확인
+            current = snapshots.get(userId);
+            if (current == null || isStale(current)) {
+                current = new MatchingSnapshot(versionSequence.incrementAndGet(), System.currentTimeMillis(), loader.get());
+                // 계산 중 무효화되었다면 계산에 쓴 데이터가 이미 바뀌었으므로 다음 요청에서 다시 계산
+                if (mine.invalidated) {
+                    current.invalidate();
+                }
+                snapshots.put(userId, current);
+            }
+            mine.result.complete(current);
+            return current;
+        } catch (RuntimeException e) {
+            mine.result.completeExceptionally(e);
+            throw e;
+        } finally {
+            inFlight.remove(userId, mine);
+        }
+    }
+
+    /**
+     * 커서가 가리키는 버전의 스냅샷이 아직 남아 있으면 만료 여부와 관계없이 반환합니다.
+     */
+    public MatchingSnapshot findByVersion(Long userId, long version) {
+        MatchingSnapshot current = snapshots.get(userId);
+        return current != null && current.getVersion() == version ? current : null;
+    }
+
+    public boolean isStale(MatchingSnapshot snapshot) {
+        return snapshot.isExpired(System.currentTimeMillis(), ttlMillis());
+    }
+
+    /**
+     * 🔄 해당 사용자의 스냅샷을 무효화합니다. 다음 첫 페이지 요청 시 재계산됩니다.
+     */
+    public void invalidate(Long userId) {
+        InFlight running = inFlight.get(userId);
+        if (running != null) {
+            running.invalidated = true;
+        }
+        MatchingSnapshot current = snapshots.get(userId);
+        if (current != null) {
+            current.invalidate();
+        }
+    }
+
+    // 🧹 오래된 스냅샷 정리 (TTL의 5배가 지난 항목)
+    @Scheduled(fixedDelay = 60_000)
+    public void evictExpired() {
+        long threshold = System.currentTimeMillis() - ttlMillis() * 5;
+        snapshots.values().removeIf(snapshot -> snapshot.getCreatedAtMillis() < threshold);
+    }
+
+    private long ttlMillis() {
+        return ttlSeconds * 1000;
+    }
+
+    // 계산을 맡은 요청의 예외는 기다리던 요청에도 그대로 전달
+    private static MatchingSnapshot await(InFlight running) {
+        try {
+            return running.result.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw e;
+        }
+    }
+
+    private static class InFlight {
+        private final CompletableFuture<MatchingSnapshot> result = new CompletableFuture<>();
+        private volatile boolean invalidated;
+    }
+}
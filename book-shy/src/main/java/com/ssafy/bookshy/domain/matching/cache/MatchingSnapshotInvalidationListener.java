@@ -0,0 +1,44 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.matching.sync.RemoteIndexChangeEvent;
+import com.ssafy.bookshy.domain.users.event.UserLocationChangedEvent;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 🔄 본인의 찜/서재/주소가 바뀌면 커밋 후 매칭 스냅샷을 무효화합니다.
+ * 다른 서버에서 커밋된 변경({@link RemoteIndexChangeEvent})도 이 서버의 스냅샷을 무효화합니다.
+ * 상대방 쪽 변경은 스냅샷 TTL 안에서 반영됩니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingSnapshotInvalidationListener {
+
+    private final MatchingSnapshotCache matchingSnapshotCache;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleWishChanged(WishChangedEvent event) {
+        matchingSnapshotCache.invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        matchingSnapshotCache.invalidate(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLocationChanged(UserLocationChangedEvent event) {
+        matchingSnapshotCache.invalidate(event.getUserId());
+    }
+
+    // 다른 서버에서 커밋된 찜·서재·주소 변경
+    @EventListener
+    public void handleRemoteChange(RemoteIndexChangeEvent event) {
+        matchingSnapshotCache.invalidate(event.getUserId());
+    }
+}
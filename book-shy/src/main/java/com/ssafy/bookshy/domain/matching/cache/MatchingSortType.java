@@ -0,0 +1,57 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+
+import java.util.Comparator;
+
+/**
+ * 매칭 후보 정렬 기준
+ * - SCORE: 점수 높은 순
+ * - DISTANCE: 거리 가까운 순
+ * 동점일 경우 userId 오름차순으로 정렬하여 커서 위치가 항상 하나로 결정되도록 합니다.
+ */
+public enum MatchingSortType {
+
+    SCORE {
+        @Override
+        public double keyOf(MatchingDto dto) {
+            return dto.getScore();
+        }
+
+        @Override
+        int compareKey(double a, double b) {
+            return Double.compare(b, a);
+        }
+    },
+    DISTANCE {
+        @Override
+        public double keyOf(MatchingDto dto) {
+            return dto.getDistanceKm();
+        }
+
+        @Override
+        int compareKey(double a, double b) {
+            return Double.compare(a, b);
+        }
+    };
+
+    public abstract double keyOf(MatchingDto dto);
+
+    abstract int compareKey(double a, double b);
+
+    public static MatchingSortType from(String sort) {
+        return "distance".equalsIgnoreCase(sort) ? DISTANCE : SCORE;
+    }
+
+    public Comparator<MatchingDto> comparator() {
+        return (a, b) -> compare(keyOf(a), a.getUserId(), keyOf(b), b.getUserId());
+    }
+
+    /**
+     * (key, userId) 쌍의 정렬 순서 비교
+     */
+    public int compare(double keyA, long userIdA, double keyB, long userIdB) {
+        int byKey = compareKey(keyA, keyB);
+        return byKey != 0 ? byKey : Long.compare(userIdA, userIdB);
+    }
+}
@@ -30,9 +30,10 @@ public class MatchingController {
     public CommonResponse<MatchingPageResponseDto> getMatchingCandidates(
             @Parameter(hidden = true) @AuthenticationPrincipal Users user,
             @RequestParam(defaultValue = "1") int page,
-            @RequestParam(defaultValue = "score") String sort
+            @RequestParam(defaultValue = "score") String sort,
+            @RequestParam(required = false) @Parameter(description = "이전 응답의 nextCursor (있으면 page보다 우선)") String cursor
     ) {
-        MatchingPageResponseDto response = matchingService.findPagedCandidates(user.getUserId(), page, 8, sort);
+        MatchingPageResponseDto response = matchingService.findPagedCandidates(user.getUserId(), page, 8, sort, cursor);
         return CommonResponse.success(response);
     }
 
@@ -96,6 +97,21 @@ public class MatchingController {
         return CommonResponse.success(neighbors);
     }
 
+    @Operation(
+            summary = "🔁 다자간 교환 사이클 조회",
+            description = "나를 포함하여 3~4명이 순환하며 교환할 수 있는 조합을 짧은 사이클, 가까운 거리 순으로 조회합니다. 모든 참여자는 반경 20km 이내입니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증 실패")
+    })
+    @GetMapping("/cycles")
+    public CommonResponse<List<ExchangeCycleDto>> getExchangeCycles(
+            @Parameter(hidden = true) @AuthenticationPrincipal Users user
+    ) {
+        return CommonResponse.success(matchingService.findExchangeCycles(user.getUserId()));
+    }
+
     @Operation(
             summary = "📗 이웃 주민의 공개 서재 조회",
             description = "사용자 ID를 기반으로 해당 사용자의 공개된 도서를 최신순으로 조회합니다."
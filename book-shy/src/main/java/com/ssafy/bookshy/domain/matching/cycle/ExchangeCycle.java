@@ -0,0 +1,29 @@
+package com.ssafy.bookshy.domain.matching.cycle;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🔁 다자간 교환 사이클
+ *
+ * userIds[i]는 userIds[i + 1]이 보유한 도서를 원합니다. (마지막 사용자는 첫 번째 사용자의 도서를 원함)
+ */
+@Getter
+@RequiredArgsConstructor
+public class ExchangeCycle {
+
+    private final long[] userIds;
+    private final double totalDistanceKm;
+
+    public int length() {
+        return userIds.length;
+    }
+
+    /**
+     * 짧은 사이클, 총 이동 거리가 짧은 사이클 순
+     */
+    public static int compareByRank(ExchangeCycle a, ExchangeCycle b) {
+        int byLength = Integer.compare(a.length(), b.length());
+        return byLength != 0 ? byLength : Double.compare(a.totalDistanceKm, b.totalDistanceKm);
+    }
+}
@@ -0,0 +1,228 @@
+package com.ssafy.bookshy.domain.matching.cycle;
+
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.matching.repository.MatchEdgeRepository;
+import com.ssafy.bookshy.domain.matching.sync.RemoteIndexChangeEvent;
+import com.ssafy.bookshy.domain.matching.util.MatchingScoreCalculator;
+import com.ssafy.bookshy.domain.users.event.UserLocationChangedEvent;
+import com.ssafy.bookshy.domain.users.repository.UserRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 🔁 다자간(3~4인) 교환 사이클 탐색기
+ *
+ * - 매칭 간선(match_edges)과 사용자 위치로 CSR 그래프를 만들고, 모든 시작 정점에서 깊이 제한 DFS를 수행합니다.
+ *   시작 정점을 구간으로 나눠 전용 풀(cycleSearchExecutor)에서 병렬로 실행합니다. (공용 ForkJoinPool 미사용)
+ * - 중복을 막기 위해 사이클은 번호가 가장 작은 정점에서 시작하는 경우만 기록합니다.
+ * - 시작 정점마다 끝까지 탐색한 뒤 순위가 높은 MAX_CYCLES_PER_START개만 남깁니다. (탐색 순서로 자르지 않음)
+ * - 모든 참여자는 시작 사용자로부터, 모든 교환 구간은 서로 MAX_DISTANCE_KM 이내여야 합니다.
+ * - 찜/서재/주소 변경이 있으면(다른 서버에서 커밋된 변경 포함) 다음 스케줄에 그래프와 결과를 다시 계산합니다.
+ */
+@Slf4j
+@Component
+public class ExchangeCycleFinder {
+
+    private static final int MIN_CYCLE_LENGTH = 3;
+    private static final int MAX_CYCLE_LENGTH = 4;
+    private static final int MAX_CYCLES_PER_START = 50;
+    private static final int MAX_CYCLES_PER_USER = 10;
+    // 작업 크기를 고르게 하기 위해 풀 크기보다 잘게 나눔 (정점마다 탐색량 편차가 큼)
+    private static final int CHUNKS_PER_WORKER = 4;
+
+    private final MatchEdgeRepository matchEdgeRepository;
+    private final UserRepository userRepository;
+    private final ThreadPoolTaskExecutor cycleSearchExecutor;
+
+    private final AtomicBoolean dirty = new AtomicBoolean(true);
+    private volatile Map<Long, List<ExchangeCycle>> cyclesByUser = Map.of();
+
+    public ExchangeCycleFinder(MatchEdgeRepository matchEdgeRepository,
+                               UserRepository userRepository,
+                               @Qualifier("cycleSearchExecutor") ThreadPoolTaskExecutor cycleSearchExecutor) {
+        this.matchEdgeRepository = matchEdgeRepository;
+        this.userRepository = userRepository;
+        this.cycleSearchExecutor = cycleSearchExecutor;
+    }
+
+    /**
+     * 사용자가 포함된 사이클을 순위순으로 반환합니다.
+     */
+    public List<ExchangeCycle> findCyclesOf(Long userId) {
+        return cyclesByUser.getOrDefault(userId, List.of());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleWishChanged(WishChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        dirty.set(true);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLocationChanged(UserLocationChangedEvent event) {
+        dirty.set(true);
+    }
+
+    // 다른 서버에서 커밋된 찜·서재·주소 변경
+    @EventListener
+    public void handleRemoteChange(RemoteIndexChangeEvent event) {
+        dirty.set(true);
+    }
+
+    @Scheduled(initialDelay = 60_000, fixedDelay = 300_000)
+    public void refresh() {
+        if (!dirty.getAndSet(false)) {
+            return;
+        }
+        try {
+            long startedAt = System.currentTimeMillis();
+            ExchangeCycleGraph graph = ExchangeCycleGraph.build(
+                    userRepository.findLocationsWithPublicLibrary(),
+                    matchEdgeRepository.findDistinctUserPairs());
+
+            List<ExchangeCycle> cycles = findAllCycles(graph, cycleSearchExecutor,
+                    cycleSearchExecutor.getMaxPoolSize() * CHUNKS_PER_WORKER);
+            cyclesByUser = indexByUser(cycles);
+
+            log.info("🔁 교환 사이클 계산 완료 - 정점: {}, 간선: {}, 사이클: {}, {}ms",
+                    graph.nodeCount(), graph.edgeCount(), cycles.size(), System.currentTimeMillis() - startedAt);
+        } catch (Exception e) {
+            dirty.set(true);
+            log.error("❌ 교환 사이클 계산 실패", e);
+        }
+    }
+
+    /**
+     * 시작 정점을 chunks개 구간으로 나눠 executor에서 탐색하고, 시작 정점 순서대로 합쳐 반환합니다.
+     */
+    static List<ExchangeCycle> findAllCycles(ExchangeCycleGraph graph, Executor executor, int chunks) {
+        int n = graph.nodeCount();
+        int chunkSize = Math.max(1, (n + chunks - 1) / Math.max(1, chunks));
+
+        List<CompletableFuture<List<ExchangeCycle>>> futures = new ArrayList<>();
+        for (int from = 0; from < n; from += chunkSize) {
+            int lo = from;
+            int hi = Math.min(n, from + chunkSize);
+            futures.add(CompletableFuture.supplyAsync(() -> {
+                List<ExchangeCycle> cycles = new ArrayList<>();
+                for (int start = lo; start < hi; start++) {
+                    cycles.addAll(new Search(graph, start).run());
+                }
+                return cycles;
+            }, executor));
+        }
+
+        List<ExchangeCycle> result = new ArrayList<>();
+        for (CompletableFuture<List<ExchangeCycle>> future : futures) {
+            result.addAll(future.join());
+        }
+        return result;
+    }
+
+    private Map<Long, List<ExchangeCycle>> indexByUser(List<ExchangeCycle> cycles) {
+        Map<Long, List<ExchangeCycle>> result = new HashMap<>();
+        for (ExchangeCycle cycle : cycles) {
+            for (long userId : cycle.getUserIds()) {
+                result.computeIfAbsent(userId, id -> new ArrayList<>()).add(cycle);
+            }
+        }
+        result.replaceAll((userId, list) -> list.stream()
+                .sorted(ExchangeCycle::compareByRank)
+                .limit(MAX_CYCLES_PER_USER)
+                .toList());
+        return result;
+    }
+
+    /**
+     * 한 시작 정점에서의 깊이 제한 DFS (작업별 인스턴스)
+     *
+     * 찾은 사이클 중 순위가 높은 MAX_CYCLES_PER_START개만 힙에 유지합니다. (힙의 맨 위 = 가장 순위가 낮은 사이클)
+     */
+    private static class Search {
+
+        private final ExchangeCycleGraph graph;
+        private final int start;
+        private final int[] path = new int[MAX_CYCLE_LENGTH];
+        private final PriorityQueue<ExchangeCycle> best =
+                new PriorityQueue<>(MAX_CYCLES_PER_START, (a, b) -> ExchangeCycle.compareByRank(b, a));
+
+        Search(ExchangeCycleGraph graph, int start) {
+            this.graph = graph;
+            this.start = start;
+        }
+
+        List<ExchangeCycle> run() {
+            path[0] = start;
+            dfs(1);
+            List<ExchangeCycle> ranked = new ArrayList<>(best);
+            ranked.sort(ExchangeCycle::compareByRank);
+            return ranked;
+        }
+
+        private void dfs(int depth) {
+            int current = path[depth - 1];
+            for (int e = graph.outStart(current); e < graph.outEnd(current); e++) {
+                int next = graph.target(e);
+
+                if (next == start) {
+                    if (depth >= MIN_CYCLE_LENGTH) {
+                        record(depth);
+                    }
+                    continue;
+                }
+                // 시작 정점이 사이클에서 가장 작은 번호가 되도록 제한 → 회전 중복 제거
+                if (next < start || depth >= MAX_CYCLE_LENGTH || onPath(next, depth)) continue;
+                if (graph.distanceKm(start, next) > MatchingScoreCalculator.MAX_DISTANCE_KM) continue;
+
+                path[depth] = next;
+                dfs(depth + 1);
+            }
+        }
+
+        private boolean onPath(int node, int depth) {
+            for (int i = 0; i < depth; i++) {
+                if (path[i] == node) return true;
+            }
+            return false;
+        }
+
+        private void record(int length) {
+            double totalKm = 0.0;
+            for (int i = 0; i < length; i++) {
+                totalKm += graph.distanceKm(path[i], path[(i + 1) % length]);
+            }
+
+            // 이미 MAX_CYCLES_PER_START개를 모았다면 가장 낮은 순위보다 나은 경우만 교체
+            if (best.size() >= MAX_CYCLES_PER_START) {
+                ExchangeCycle worst = best.peek();
+                int byLength = Integer.compare(length, worst.length());
+                if (byLength > 0 || (byLength == 0 && totalKm >= worst.getTotalDistanceKm())) {
+                    return;
+                }
+                best.poll();
+            }
+
+            long[] userIds = new long[length];
+            for (int i = 0; i < length; i++) {
+                userIds[i] = graph.userId(path[i]);
+            }
+            best.add(new ExchangeCycle(userIds, totalKm));
+        }
+    }
+}
@@ -0,0 +1,113 @@
+package com.ssafy.bookshy.domain.matching.cycle;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgePair;
+import com.ssafy.bookshy.domain.matching.util.MatchingScoreCalculator;
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * 🕸️ "X가 Y의 공개 도서를 원한다" 방향 그래프 (CSR 형식)
+ *
+ * - 사용자 ID를 0..n-1 정점 번호로 압축하고, 간선은 offsets/targets 원시 배열로 보관합니다.
+ * - 두 사용자 사이 거리가 MAX_DISTANCE_KM를 넘는 간선은 적재 단계에서 제외합니다.
+ */
+public class ExchangeCycleGraph {
+
+    private final long[] userIds;   // 정점 번호 → 사용자 ID (오름차순)
+    private final double[] lats;
+    private final double[] lons;
+    private final int[] offsets;    // 정점 i의 간선: targets[offsets[i] .. offsets[i + 1])
+    private final int[] targets;
+
+    private ExchangeCycleGraph(long[] userIds, double[] lats, double[] lons, int[] offsets, int[] targets) {
+        this.userIds = userIds;
+        this.lats = lats;
+        this.lons = lons;
+        this.offsets = offsets;
+        this.targets = targets;
+    }
+
+    public static ExchangeCycleGraph build(List<UserLocation> locations, List<MatchEdgePair> pairs) {
+        // 1️⃣ 정점: 위치가 있는 사용자
+        List<UserLocation> located = new ArrayList<>(locations.size());
+        for (UserLocation location : locations) {
+            if (location.getLatitude() != null && location.getLongitude() != null) {
+                located.add(location);
+            }
+        }
+        located.sort((a, b) -> Long.compare(a.getUserId(), b.getUserId()));
+
+        int n = located.size();
+        long[] userIds = new long[n];
+        double[] lats = new double[n];
+        double[] lons = new double[n];
+        for (int i = 0; i < n; i++) {
+            UserLocation location = located.get(i);
+            userIds[i] = location.getUserId();
+            lats[i] = location.getLatitude();
+            lons[i] = location.getLongitude();
+        }
+
+        // 2️⃣ 반경 내 간선만 정점 번호 쌍으로 변환
+        int[] from = new int[pairs.size()];
+        int[] to = new int[pairs.size()];
+        int edgeCount = 0;
+        for (MatchEdgePair pair : pairs) {
+            int u = Arrays.binarySearch(userIds, pair.getWisherId());
+            int v = Arrays.binarySearch(userIds, pair.getHolderId());
+            if (u < 0 || v < 0 || u == v) continue;
+            if (MatchingScoreCalculator.calculateDistance(lats[u], lons[u], lats[v], lons[v])
+                    > MatchingScoreCalculator.MAX_DISTANCE_KM) continue;
+            from[edgeCount] = u;
+            to[edgeCount] = v;
+            edgeCount++;
+        }
+
+        // 3️⃣ CSR 구성 (계수 정렬)
+        int[] offsets = new int[n + 1];
+        for (int e = 0; e < edgeCount; e++) {
+            offsets[from[e] + 1]++;
+        }
+        for (int i = 0; i < n; i++) {
+            offsets[i + 1] += offsets[i];
+        }
+        int[] cursor = Arrays.copyOf(offsets, n);
+        int[] targets = new int[edgeCount];
+        for (int e = 0; e < edgeCount; e++) {
+            targets[cursor[from[e]]++] = to[e];
+        }
+
+        return new ExchangeCycleGraph(userIds, lats, lons, offsets, targets);
+    }
+
+    public int nodeCount() {
+        return userIds.length;
+    }
+
+    public int edgeCount() {
+        return targets.length;
+    }
+
+    public long userId(int node) {
+        return userIds[node];
+    }
+
+    public int outStart(int node) {
+        return offsets[node];
+    }
+
+    public int outEnd(int node) {
+        return offsets[node + 1];
+    }
+
+    public int target(int edge) {
+        return targets[edge];
+    }
+
+    public double distanceKm(int a, int b) {
+        return MatchingScoreCalculator.calculateDistance(lats[a], lons[a], lats[b], lons[b]);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ssafy.bookshy.domain.matching.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+import java.util.List;
+
+/**
+ * 🔁 다자간 교환 사이클 응답
+ *
+ * members는 요청자부터 시작하며, 각 참여자는 다음 참여자의 도서(wantedBook*)를 받고
+ * 마지막 참여자는 요청자의 도서를 받습니다.
+ */
+@Getter
+@Builder
+@AllArgsConstructor
+public class ExchangeCycleDto {
+
+    private int length;
+    private double totalDistanceKm;
+    private List<Member> members;
+
+    @Getter
+    @Builder
+    @AllArgsConstructor
+    public static class Member {
+        private Long userId;
+        private String nickname;
+        private String profileImageUrl;
+        private Float temperature;
+        private List<Long> wantedBookIds;
+        private List<String> wantedBookNames;
+    }
+}
@@ -0,0 +1,10 @@
+package com.ssafy.bookshy.domain.matching.dto;
+
+/**
+ * 매칭 간선 조회 결과 (상대 사용자 ID, 도서 ID, 도서 제목)
+ */
+public interface MatchEdgeBook {
+    Long getPartnerId();
+    Long getBookId();
+    String getTitle();
+}
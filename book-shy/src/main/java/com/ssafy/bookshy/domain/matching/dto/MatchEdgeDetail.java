@@ -0,0 +1,11 @@
+package com.ssafy.bookshy.domain.matching.dto;
+
+/**
+ * 매칭 간선 상세 (찜한 사용자, 보유 사용자, 도서 ID, 도서 제목)
+ */
+public interface MatchEdgeDetail {
+    Long getWisherId();
+    Long getHolderId();
+    Long getBookId();
+    String getTitle();
+}
@@ -0,0 +1,9 @@
+package com.ssafy.bookshy.domain.matching.dto;
+
+/**
+ * 매칭 간선의 (찜한 사용자, 보유 사용자) 쌍
+ */
+public interface MatchEdgePair {
+    Long getWisherId();
+    Long getHolderId();
+}
@@ -15,4 +15,6 @@ public class MatchingPageResponseDto {
     private int currentPage;
     private long results;
     private List<MatchingDto> candidates;
+    private String nextCursor;  // 다음 페이지 커서 (마지막 페이지면 null)
+    private boolean stale;      // 만료·무효화된 스냅샷에서 제공된 페이지인지 여부
 }
@@ -0,0 +1,9 @@
+package com.ssafy.bookshy.domain.matching.dto;
+
+/**
+ * (사용자 ID, 도서 ID) 쌍 - 도서 역색인 적재용
+ */
+public interface UserBookPair {
+    Long getUserId();
+    Long getBookId();
+}
@@ -0,0 +1,45 @@
+package com.ssafy.bookshy.domain.matching.entity;
+
+import jakarta.persistence.*;
+import lombok.*;
+
+/**
+ * 🔗 매칭 간선 (읽기 모델)
+ *
+ * wisher가 찜한 도서를 holder가 공개 서재(library)에 보유하고 있음을 나타냅니다.
+ * A → B 간선과 B → A 간선이 모두 있으면 두 사용자는 양방향 교환 후보입니다.
+ *
+ * 찜·서재 변경 시 {@link com.ssafy.bookshy.domain.matching.event.MatchEdgeEventListener}가 증분 갱신합니다.
+ * 운영 DDL: exec/sql/01_match_edges.sql
+ */
+@Entity
+@Table(name = "match_edges",
+        uniqueConstraints = @UniqueConstraint(name = "uk_match_edges_wisher_library", columnNames = {"wisher_id", "library_id"}),
+        indexes = {
+                @Index(name = "idx_match_edges_wisher_holder", columnList = "wisher_id, holder_id"),
+                @Index(name = "idx_match_edges_holder_wisher", columnList = "holder_id, wisher_id"),
+                @Index(name = "idx_match_edges_library", columnList = "library_id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@AllArgsConstructor
+@Builder
+public class MatchEdge {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "edge_id")
+    private Long id;
+
+    @Column(name = "wisher_id", nullable = false)
+    private Long wisherId;
+
+    @Column(name = "holder_id", nullable = false)
+    private Long holderId;
+
+    @Column(name = "book_id", nullable = false)
+    private Long bookId;
+
+    @Column(name = "library_id", nullable = false)
+    private Long libraryId;
+}
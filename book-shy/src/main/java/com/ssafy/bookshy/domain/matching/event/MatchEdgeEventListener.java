@@ -0,0 +1,58 @@
+package com.ssafy.bookshy.domain.matching.event;
+
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.matching.repository.MatchEdgeRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 🔗 매칭 간선 읽기 모델 동기화 리스너
+ *
+ * - 찜/서재 변경과 같은 트랜잭션 안에서(BEFORE_COMMIT) 영향받은 간선만 지우고 다시 채웁니다.
+ *   원본 변경과 간선 갱신이 함께 커밋되거나 함께 롤백됩니다.
+ * - 간선 테이블이 비어 있을 때만(최초 배포 등) 기동 시 원본 테이블로부터 전체 간선을 채웁니다.
+ *   여러 서버가 동시에 기동해도 advisory lock을 잡은 한 서버만 적재합니다. (운영 초기 적재는 exec/sql/01_match_edges.sql)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchEdgeEventListener {
+
+    // pg_try_advisory_xact_lock 키 (다른 기능과 겹치지 않는 임의의 상수)
+    private static final long POPULATE_LOCK_KEY = 0x4D41544348L; // "MATCH"
+
+    private final MatchEdgeRepository matchEdgeRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void populateIfEmpty() {
+        if (!matchEdgeRepository.tryAdvisoryXactLock(POPULATE_LOCK_KEY)) {
+            log.info("🔗 다른 서버가 매칭 간선을 적재 중이어서 건너뜁니다.");
+            return;
+        }
+        if (matchEdgeRepository.existsAnyEdge()) {
+            return;
+        }
+        int count = matchEdgeRepository.insertAllEdges();
+        log.info("🔗 매칭 간선 초기 적재 완료 - 간선 수: {}", count);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleWishChanged(WishChangedEvent event) {
+        matchEdgeRepository.deleteByWish(event.getUserId(), event.getBookId());
+        matchEdgeRepository.insertByWish(event.getUserId(), event.getBookId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        matchEdgeRepository.deleteByLibrary(event.getLibraryId());
+        matchEdgeRepository.insertByLibrary(event.getLibraryId());
+    }
+}
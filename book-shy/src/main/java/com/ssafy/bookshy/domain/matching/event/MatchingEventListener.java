@@ -1,22 +1,28 @@
 package com.ssafy.bookshy.domain.matching.event;
 
 import com.ssafy.bookshy.domain.matching.entity.Matching;
+import com.ssafy.bookshy.kafka.config.KafkaTopicResolver;
 import com.ssafy.bookshy.kafka.dto.MatchSuccessDto;
-import com.ssafy.bookshy.kafka.producer.KafkaProducer;
+import com.ssafy.bookshy.kafka.outbox.OutboxWriter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.event.TransactionalEventListener;
 import org.springframework.transaction.event.TransactionPhase;
 
+/**
+ * 🤝 매칭 생성 이벤트를 같은 트랜잭션 안에서(BEFORE_COMMIT) 아웃박스에 기록합니다.
+ * match.success 발행은 OutboxRelay가 매칭 ID를 키로 수행합니다.
+ */
 @Slf4j
 @Component
 @RequiredArgsConstructor
 public class MatchingEventListener {
 
-    private final KafkaProducer kafkaProducer;
+    private final OutboxWriter outboxWriter;
+    private final KafkaTopicResolver kafkaTopicResolver;
 
-    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @TransactionalEventListener(phase = TransactionPhase.BEFORE_COMMIT)
     public void handleMatchCreated(MatchCreatedEvent event) {
         Matching match = event.getMatching();
 
@@ -27,7 +33,7 @@ public class MatchingEventListener {
                 .matchedAt(match.getMatchedAt().toString())
                 .build();
 
-        log.info("✅ AFTER_COMMIT: Sending Kafka MatchSuccessEvent for matchId={}", match.getMatchId());
-        kafkaProducer.sendMatchSuccessEvent(dto);
+        outboxWriter.append(kafkaTopicResolver.getMatchSuccessTopic(), match.getMatchId(), dto);
+        log.info("📮 BEFORE_COMMIT: MatchSuccessEvent 아웃박스 기록 - matchId={}", match.getMatchId());
     }
 }
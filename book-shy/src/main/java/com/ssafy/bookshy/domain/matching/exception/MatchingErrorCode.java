@@ -23,6 +23,7 @@ public enum MatchingErrorCode implements ErrorCode {
     // 요청 관련
     INVALID_MATCH_REQUEST(400, "잘못된 매칭 요청입니다."),
     INVALID_BOOK_SELECTION(400, "도서 선택 정보가 올바르지 않습니다."),
+    INVALID_CURSOR(400, "잘못된 페이지 커서입니다."),
 
     // 거리 기반 필터링
     USER_LOCATION_NOT_SET(400, "위치 정보가 등록되어 있지 않습니다. 설정을 확인해 주세요."),
@@ -0,0 +1,229 @@
+package com.ssafy.bookshy.domain.matching.geo;
+
+import com.ssafy.bookshy.domain.matching.util.MatchingScoreCalculator;
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 🗺️ 사용자 위치 격자(Grid) 인덱스
+ *
+ * - 위도/경도를 CELL_DEGREES 단위 격자로 나누어 셀별 사용자 ID를 보관합니다.
+ * - 공개 서재 도서가 1권 이상이고 위치가 등록된 사용자만 색인합니다.
+ * - 반경 검색과 k-최근접 검색을 DB 조회 없이 처리하여, 후보를 먼저 좁힌 뒤 DB를 조회할 수 있게 합니다.
+ *
+ * 갱신은 {@link UserGeoIndexEventListener}가 주소 변경·서재 변경 이벤트(다른 서버에서 발생한 것 포함)를 받아 수행하며,
+ * 놓친 변경은 주기적인 전체 적재로 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class UserGeoIndex {
+
+    private static final double CELL_DEGREES = 0.1;     // 위도 기준 약 11km
+    private static final double KM_PER_DEGREE = 111.32;
+
+    // 적재·교체 단위 (rebuild 시 통째로 교체하여 조회 중인 스레드가 비어 있는 인덱스를 보지 않도록 함)
+    private volatile Grid grid = new Grid();
+
+    // 전체 적재 중 put/remove된 사용자 (적재 중이 아니면 null), this 잠금으로 보호
+    private Set<Long> touchedDuringRebuild;
+
+    /**
+     * 📥 전체 인덱스를 loader가 읽은 위치 목록으로 교체합니다.
+     *
+     * 목록을 읽는 동안 put/remove된 사용자는 읽어온 목록에 반영되었는지 알 수 없으므로, 교체 후 그 ID를 반환합니다.
+     * 호출부는 반환된 사용자를 DB에서 다시 조회해 put/remove해야 합니다.
+     * 이미 다른 스레드가 적재 중이면 아무것도 하지 않고 빈 집합을 반환합니다.
+     */
+    public Set<Long> rebuild(Supplier<List<UserLocation>> loader) {
+        synchronized (this) {
+            if (touchedDuringRebuild != null) {
+                return Set.of();
+            }
+            touchedDuringRebuild = new HashSet<>();
+        }
+
+        Grid loaded = new Grid();
+        try {
+            for (UserLocation location : loader.get()) {
+                if (location.getLatitude() == null || location.getLongitude() == null) continue;
+                loaded.put(location.getUserId(), location.getLatitude(), location.getLongitude());
+            }
+        } catch (RuntimeException e) {
+            synchronized (this) {
+                touchedDuringRebuild = null;
+            }
+            throw e;
+        }
+
+        Set<Long> touched;
+        synchronized (this) {
+            grid = loaded;
+            touched = touchedDuringRebuild;
+            touchedDuringRebuild = null;
+        }
+        log.info("🗺️ 위치 인덱스 적재 완료 - 사용자 수: {}, 재확인 대상: {}", loaded.points.size(), touched.size());
+        return touched;
+    }
+
+    /**
+     * ➕ 사용자 위치를 등록하거나 이동시킵니다.
+     */
+    public synchronized void put(Long userId, double latitude, double longitude) {
+        grid.remove(userId);
+        grid.put(userId, latitude, longitude);
+        markTouched(userId);
+    }
+
+    /**
+     * ➖ 사용자를 인덱스에서 제거합니다.
+     */
+    public synchronized void remove(Long userId) {
+        grid.remove(userId);
+        markTouched(userId);
+    }
+
+    public boolean contains(Long userId) {
+        return grid.points.containsKey(userId);
+    }
+
+    public int size() {
+        return grid.points.size();
+    }
+
+    /**
+     * 📍 반경 내 사용자와 거리(km)를 반환합니다. (가까운 순 정렬 아님)
+     *
+     * @param excludeUserId 결과에서 제외할 사용자 (보통 본인)
+     */
+    public Map<Long, Double> findWithinRadius(double latitude, double longitude, double radiusKm, Long excludeUserId) {
+        Grid current = grid;
+        Map<Long, Double> result = new HashMap<>();
+
+        double latDelta = radiusKm / KM_PER_DEGREE;
+        double lonDelta = radiusKm / (KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(latitude)), 0.01));
+
+        int minLat = cellIndex(latitude - latDelta);
+        int maxLat = cellIndex(latitude + latDelta);
+        int minLon = cellIndex(longitude - lonDelta);
+        int maxLon = cellIndex(longitude + lonDelta);
+
+        for (int la = minLat; la <= maxLat; la++) {
+            for (int lo = minLon; lo <= maxLon; lo++) {
+                current.collect(la, lo, latitude, longitude, radiusKm, excludeUserId, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 🎯 반경 내에서 가장 가까운 k명의 사용자를 거리순으로 반환합니다.
+     *
+     * 중심 셀부터 고리(ring) 단위로 넓혀가며, k명을 채우고 k번째 거리가
+     * 이미 탐색한 고리 범위 안에 들어오면 탐색을 멈춥니다.
+     */
+    public List<Map.Entry<Long, Double>> findNearest(double latitude, double longitude, int k, double maxRadiusKm, Long excludeUserId) {
+        Grid current = grid;
+        Map<Long, Double> found = new HashMap<>();
+
+        int centerLat = cellIndex(latitude);
+        int centerLon = cellIndex(longitude);
+
+        // 한 셀 변의 최소 길이(km) - 경도 방향이 더 짧음
+        double cellKm = CELL_DEGREES * KM_PER_DEGREE * Math.max(Math.cos(Math.toRadians(Math.abs(latitude) + CELL_DEGREES)), 0.01);
+        int maxRing = (int) Math.ceil(maxRadiusKm / cellKm) + 1;
+
+        for (int ring = 0; ring <= maxRing; ring++) {
+            for (int la = centerLat - ring; la <= centerLat + ring; la++) {
+                for (int lo = centerLon - ring; lo <= centerLon + ring; lo++) {
+                    if (Math.abs(la - centerLat) != ring && Math.abs(lo - centerLon) != ring) continue;
+                    current.collect(la, lo, latitude, longitude, maxRadiusKm, excludeUserId, found);
+                }
+            }
+
+            // ring 고리까지 탐색했다면 중심에서 ring * cellKm 이내의 사용자는 모두 찾은 상태
+            if (found.size() >= k && kthDistance(found, k) <= ring * cellKm) {
+                break;
+            }
+        }
+
+        return found.entrySet().stream()
+                .sorted(Map.Entry.comparingByValue())
+                .limit(k)
+                .toList();
+    }
+
+    private double kthDistance(Map<Long, Double> found, int k) {
+        return found.values().stream()
+                .sorted()
+                .skip(k - 1)
+                .findFirst()
+                .orElse(Double.MAX_VALUE);
+    }
+
+    private void markTouched(Long userId) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(userId);
+        }
+    }
+
+    private static int cellIndex(double degrees) {
+        return (int) Math.floor(degrees / CELL_DEGREES);
+    }
+
+    private static long cellKey(int latIdx, int lonIdx) {
+        return ((long) latIdx << 32) | (lonIdx & 0xffffffffL);
+    }
+
+    private record GeoPoint(double latitude, double longitude) {
+    }
+
+    /**
+     * 사용자 위치와 셀 구성원 (쓰기는 UserGeoIndex 잠금 안에서만, 읽기는 잠금 없이)
+     */
+    private static class Grid {
+        private final Map<Long, GeoPoint> points = new ConcurrentHashMap<>();
+        private final Map<Long, Set<Long>> cells = new ConcurrentHashMap<>();
+
+        void put(Long userId, double latitude, double longitude) {
+            points.put(userId, new GeoPoint(latitude, longitude));
+            cells.computeIfAbsent(cellKey(cellIndex(latitude), cellIndex(longitude)), key -> ConcurrentHashMap.newKeySet())
+                    .add(userId);
+        }
+
+        void remove(Long userId) {
+            GeoPoint previous = points.remove(userId);
+            if (previous == null) return;
+
+            long key = cellKey(cellIndex(previous.latitude()), cellIndex(previous.longitude()));
+            Set<Long> members = cells.get(key);
+            if (members != null) {
+                members.remove(userId);
+                if (members.isEmpty()) {
+                    cells.remove(key);
+                }
+            }
+        }
+
+        void collect(int latIdx, int lonIdx, double latitude, double longitude, double radiusKm,
+                     Long excludeUserId, Map<Long, Double> out) {
+            Set<Long> members = cells.get(cellKey(latIdx, lonIdx));
+            if (members == null) return;
+
+            for (Long userId : members) {
+                if (userId.equals(excludeUserId)) continue;
+                GeoPoint point = points.get(userId);
+                if (point == null) continue;
+
+                double distKm = MatchingScoreCalculator.calculateDistance(latitude, longitude, point.latitude(), point.longitude());
+                if (distKm <= radiusKm) {
+                    out.put(userId, distKm);
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.ssafy.bookshy.domain.matching.geo;
+
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.library.repository.LibraryRepository;
+import com.ssafy.bookshy.domain.matching.sync.RemoteIndexChangeEvent;
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
+import com.ssafy.bookshy.domain.users.event.UserLocationChangedEvent;
+import com.ssafy.bookshy.domain.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 🗺️ 위치 인덱스 동기화 리스너
+ *
+ * - 애플리케이션 기동 시, 이후 matching.index.reload-interval-ms 주기로 DB에서 전체 인덱스를 적재
+ * - 주소 변경 / 서재 변경(등록, 삭제, 공개 전환, 소유권 이전) 커밋 후 해당 사용자만 재계산
+ * - 다른 서버에서 커밋된 변경({@link RemoteIndexChangeEvent})도 해당 사용자만 재계산
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserGeoIndexEventListener {
+
+    private final UserGeoIndex userGeoIndex;
+    private final UserRepository userRepository;
+    private final LibraryRepository libraryRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        // 적재 중 바뀐 사용자는 적재 결과에 반영되었는지 알 수 없으므로 교체 후 다시 조회
+        userGeoIndex.rebuild(userRepository::findLocationsWithPublicLibrary).forEach(this::refresh);
+    }
+
+    // pub/sub 누락(구독 끊김 등)과 다른 서버의 변경을 바로잡기 위한 주기적 전체 적재
+    @Scheduled(initialDelayString = "${matching.index.reload-interval-ms:600000}",
+            fixedDelayString = "${matching.index.reload-interval-ms:600000}")
+    public void reloadIndex() {
+        loadIndex();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLocationChanged(UserLocationChangedEvent event) {
+        refresh(event.getUserId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        refresh(event.getUserId());
+    }
+
+    // 다른 서버에서 커밋된 주소·서재 변경 (찜 변경은 위치 인덱스와 무관)
+    @EventListener
+    public void handleRemoteChange(RemoteIndexChangeEvent event) {
+        if (event.getType() != RemoteIndexChangeEvent.Type.WISH) {
+            refresh(event.getUserId());
+        }
+    }
+
+    private void refresh(Long userId) {
+        try {
+            UserLocation location = userRepository.findLocationByUserId(userId).orElse(null);
+
+            if (location == null || location.getLatitude() == null || location.getLongitude() == null
+                    || !libraryRepository.existsByUserUserIdAndIsPublicTrue(userId)) {
+                userGeoIndex.remove(userId);
+                return;
+            }
+
+            userGeoIndex.put(userId, location.getLatitude(), location.getLongitude());
+        } catch (Exception e) {
+            log.error("❌ 위치 인덱스 갱신 실패 - userId: {}", userId, e);
+        }
+    }
+}
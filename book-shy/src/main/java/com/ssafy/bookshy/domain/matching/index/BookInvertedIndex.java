@@ -0,0 +1,220 @@
+package com.ssafy.bookshy.domain.matching.index;
+
+import com.ssafy.bookshy.domain.matching.dto.UserBookPair;
+import lombok.extern.slf4j.Slf4j;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
+
+/**
+ * 📇 도서 역색인 (압축 비트맵)
+ *
+ * - 도서 ID → 공개 보유자 / 찜한 사용자 비트맵
+ * - 사용자 ID → 공개 보유 도서 / 찜한 도서 비트맵
+ * 매칭 후보 탐색은 비트맵 OR/AND, "찜 여부" 확인은 비트 검사로 처리합니다.
+ * 사용자·도서 ID는 int 범위 안이라고 가정합니다 (IDENTITY 시퀀스).
+ *
+ * 갱신은 {@link BookInvertedIndexEventListener}가 찜·서재 변경 이벤트(다른 서버에서 발생한 것 포함)를 받아 수행하며,
+ * 놓친 변경은 주기적인 전체 적재로 바로잡습니다.
+ */
+@Slf4j
+@Component
+public class BookInvertedIndex {
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private Map<Integer, RoaringBitmap> holdersByBook = new HashMap<>();
+    private Map<Integer, RoaringBitmap> wishersByBook = new HashMap<>();
+    private Map<Integer, RoaringBitmap> heldBooksByUser = new HashMap<>();
+    private Map<Integer, RoaringBitmap> wishedBooksByUser = new HashMap<>();
+
+    // 전체 적재 중 갱신된 (사용자, 도서) 비트 (적재 중이 아니면 null), 쓰기 잠금으로 보호
+    private Set<Bit> touchedDuringRebuild;
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    /**
+     * 전체 적재 중 갱신되어 호출부가 DB에서 다시 확인해야 하는 비트
+     */
+    public record Bit(Kind kind, Long userId, Long bookId) {
+    }
+
+    public enum Kind {
+        HOLDER, WISHER
+    }
+
+    /**
+     * 📥 전체 색인을 loader가 읽은 목록으로 교체합니다.
+     *
+     * 목록을 읽는 동안 setHolder/setWisher로 바뀐 비트는 읽어온 목록에 반영되었는지 알 수 없으므로, 교체 후 그 비트를 반환합니다.
+     * 호출부는 반환된 비트를 DB에서 다시 조회해 설정해야 합니다.
+     * 이미 다른 스레드가 적재 중이면 아무것도 하지 않고 빈 집합을 반환합니다.
+     */
+    public Set<Bit> rebuild(Supplier<List<UserBookPair>> publicHoldingsLoader, Supplier<List<UserBookPair>> wishesLoader) {
+        if (!rebuilding.compareAndSet(false, true)) {
+            return Set.of();
+        }
+        try {
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = new HashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            List<UserBookPair> publicHoldings = publicHoldingsLoader.get();
+            List<UserBookPair> wishes = wishesLoader.get();
+
+            Map<Integer, RoaringBitmap> holders = new HashMap<>();
+            Map<Integer, RoaringBitmap> heldBooks = new HashMap<>();
+            for (UserBookPair pair : publicHoldings) {
+                add(holders, heldBooks, toInt(pair.getBookId()), toInt(pair.getUserId()));
+            }
+
+            Map<Integer, RoaringBitmap> wishers = new HashMap<>();
+            Map<Integer, RoaringBitmap> wishedBooks = new HashMap<>();
+            for (UserBookPair pair : wishes) {
+                add(wishers, wishedBooks, toInt(pair.getBookId()), toInt(pair.getUserId()));
+            }
+
+            Set<Bit> touched;
+            lock.writeLock().lock();
+            try {
+                holdersByBook = holders;
+                heldBooksByUser = heldBooks;
+                wishersByBook = wishers;
+                wishedBooksByUser = wishedBooks;
+                touched = touchedDuringRebuild;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            log.info("📇 도서 역색인 적재 완료 - 공개 보유: {}건, 찜: {}건, 재확인 대상: {}건",
+                    publicHoldings.size(), wishes.size(), touched.size());
+            return touched;
+        } finally {
+            lock.writeLock().lock();
+            try {
+                touchedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            rebuilding.set(false);
+        }
+    }
+
+    public void setHolder(Long userId, Long bookId, boolean holds) {
+        lock.writeLock().lock();
+        try {
+            update(holdersByBook, heldBooksByUser, toInt(bookId), toInt(userId), holds);
+            markTouched(Kind.HOLDER, userId, bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    public void setWisher(Long userId, Long bookId, boolean wishes) {
+        lock.writeLock().lock();
+        try {
+            update(wishersByBook, wishedBooksByUser, toInt(bookId), toInt(userId), wishes);
+            markTouched(Kind.WISHER, userId, bookId);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * 💖 사용자가 해당 도서를 찜했는지 여부
+     */
+    public boolean isWishedBy(Long bookId, Long userId) {
+        lock.readLock().lock();
+        try {
+            RoaringBitmap wishers = wishersByBook.get(toInt(bookId));
+            return wishers != null && wishers.contains(toInt(userId));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 🔄 양방향 교환 후보 사용자 비트맵
+     *
+     * (내 찜 도서의 공개 보유자 OR) AND (내 공개 도서를 찜한 사용자 OR) AND 후보 범위
+     *
+     * @param scope 후보 범위 (예: 반경 내 사용자)
+     */
+    public RoaringBitmap findMutualCandidates(Long userId, Collection<Long> scope) {
+        RoaringBitmap scopeBits = new RoaringBitmap();
+        for (Long id : scope) {
+            scopeBits.add(toInt(id));
+        }
+
+        lock.readLock().lock();
+        try {
+            int me = toInt(userId);
+            RoaringBitmap holdMyWishes = union(wishedBooksByUser.get(me), holdersByBook);
+            RoaringBitmap wishMyBooks = union(heldBooksByUser.get(me), wishersByBook);
+
+            RoaringBitmap result = RoaringBitmap.and(holdMyWishes, wishMyBooks);
+            result.and(scopeBits);
+            result.remove(me);
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    // 쓰기 잠금 안에서 호출
+    private void markTouched(Kind kind, Long userId, Long bookId) {
+        if (touchedDuringRebuild != null) {
+            touchedDuringRebuild.add(new Bit(kind, userId, bookId));
+        }
+    }
+
+    // 주어진 도서들의 사용자 비트맵 합집합
+    private RoaringBitmap union(RoaringBitmap bookIds, Map<Integer, RoaringBitmap> usersByBook) {
+        RoaringBitmap result = new RoaringBitmap();
+        if (bookIds == null) {
+            return result;
+        }
+        bookIds.forEach((int bookId) -> {
+            RoaringBitmap users = usersByBook.get(bookId);
+            if (users != null) {
+                result.or(users);
+            }
+        });
+        return result;
+    }
+
+    private static void add(Map<Integer, RoaringBitmap> usersByBook, Map<Integer, RoaringBitmap> booksByUser,
+                            int bookId, int userId) {
+        usersByBook.computeIfAbsent(bookId, id -> new RoaringBitmap()).add(userId);
+        booksByUser.computeIfAbsent(userId, id -> new RoaringBitmap()).add(bookId);
+    }
+
+    private static void update(Map<Integer, RoaringBitmap> usersByBook, Map<Integer, RoaringBitmap> booksByUser,
+                               int bookId, int userId, boolean present) {
+        if (present) {
+            add(usersByBook, booksByUser, bookId, userId);
+            return;
+        }
+        removeBit(usersByBook, bookId, userId);
+        removeBit(booksByUser, userId, bookId);
+    }
+
+    private static void removeBit(Map<Integer, RoaringBitmap> bitmaps, int key, int value) {
+        RoaringBitmap bitmap = bitmaps.get(key);
+        if (bitmap == null) return;
+        bitmap.remove(value);
+        if (bitmap.isEmpty()) {
+            bitmaps.remove(key);
+        }
+    }
+
+    private static int toInt(Long id) {
+        return Math.toIntExact(id);
+    }
+}
@@ -0,0 +1,91 @@
+package com.ssafy.bookshy.domain.matching.index;
+
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
+import com.ssafy.bookshy.domain.book.repository.WishRepository;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.library.repository.LibraryRepository;
+import com.ssafy.bookshy.domain.matching.sync.RemoteIndexChangeEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+/**
+ * 📇 도서 역색인 동기화 리스너
+ *
+ * - 애플리케이션 기동 시, 이후 matching.index.reload-interval-ms 주기로 DB에서 전체 색인을 적재
+ * - 찜 / 서재 변경 커밋 후 해당 (사용자, 도서) 비트만 DB 기준으로 다시 설정
+ *   (같은 도서를 여러 권 보유한 경우에도 정확하도록 존재 여부를 다시 조회)
+ * - 다른 서버에서 커밋된 찜 / 서재 변경({@link RemoteIndexChangeEvent})도 같은 방식으로 반영
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BookInvertedIndexEventListener {
+
+    private final BookInvertedIndex bookInvertedIndex;
+    private final LibraryRepository libraryRepository;
+    private final WishRepository wishRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadIndex() {
+        // 적재 중 바뀐 비트는 적재 결과에 반영되었는지 알 수 없으므로 교체 후 다시 조회
+        for (BookInvertedIndex.Bit bit : bookInvertedIndex.rebuild(
+                libraryRepository::findAllPublicUserBookPairs, wishRepository::findAllUserBookPairs)) {
+            if (bit.kind() == BookInvertedIndex.Kind.WISHER) {
+                refreshWisher(bit.userId(), bit.bookId());
+            } else {
+                refreshHolder(bit.userId(), bit.bookId());
+            }
+        }
+    }
+
+    // pub/sub 누락(구독 끊김 등)을 바로잡기 위한 주기적 전체 적재
+    @Scheduled(initialDelayString = "${matching.index.reload-interval-ms:600000}",
+            fixedDelayString = "${matching.index.reload-interval-ms:600000}")
+    public void reloadIndex() {
+        loadIndex();
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleWishChanged(WishChangedEvent event) {
+        refreshWisher(event.getUserId(), event.getBookId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        refreshHolder(event.getUserId(), event.getBookId());
+    }
+
+    // 다른 서버에서 커밋된 찜·서재 변경
+    @EventListener
+    public void handleRemoteChange(RemoteIndexChangeEvent event) {
+        switch (event.getType()) {
+            case WISH -> refreshWisher(event.getUserId(), event.getBookId());
+            case LIBRARY -> refreshHolder(event.getUserId(), event.getBookId());
+            default -> {
+            }
+        }
+    }
+
+    private void refreshWisher(Long userId, Long bookId) {
+        try {
+            bookInvertedIndex.setWisher(userId, bookId, wishRepository.existsByUserUserIdAndBookId(userId, bookId));
+        } catch (Exception e) {
+            log.error("❌ 도서 역색인(찜) 갱신 실패 - userId: {}, bookId: {}", userId, bookId, e);
+        }
+    }
+
+    private void refreshHolder(Long userId, Long bookId) {
+        try {
+            bookInvertedIndex.setHolder(userId, bookId,
+                    libraryRepository.existsByUserUserIdAndBookIdAndIsPublicTrue(userId, bookId));
+        } catch (Exception e) {
+            log.error("❌ 도서 역색인(서재) 갱신 실패 - userId: {}, bookId: {}", userId, bookId, e);
+        }
+    }
+}
@@ -0,0 +1,110 @@
+package com.ssafy.bookshy.domain.matching.repository;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgeBook;
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgeDetail;
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgePair;
+import com.ssafy.bookshy.domain.matching.entity.MatchEdge;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+public interface MatchEdgeRepository extends JpaRepository<MatchEdge, Long> {
+
+    // 내가 원하는 도서를 가진 상대 중, 상대도 내 도서를 원하는 경우만 (상대 ID, 상대 도서)
+    @Query("""
+    SELECT e.holderId AS partnerId, e.bookId AS bookId, b.title AS title
+    FROM MatchEdge e JOIN Book b ON b.id = e.bookId
+    WHERE e.wisherId = :userId
+    AND e.holderId IN :partnerIds
+    AND EXISTS (SELECT 1 FROM MatchEdge r WHERE r.wisherId = e.holderId AND r.holderId = :userId)
+    ORDER BY e.id
+    """)
+    List<MatchEdgeBook> findMutualTheirBooks(@Param("userId") Long userId,
+                                             @Param("partnerIds") Collection<Long> partnerIds);
+
+    // 상대가 원하는 내 도서 (상대 ID, 내 도서)
+    @Query("""
+    SELECT e.wisherId AS partnerId, e.bookId AS bookId, b.title AS title
+    FROM MatchEdge e JOIN Book b ON b.id = e.bookId
+    WHERE e.holderId = :userId
+    AND e.wisherId IN :partnerIds
+    ORDER BY e.id
+    """)
+    List<MatchEdgeBook> findMyBooksWishedBy(@Param("userId") Long userId,
+                                            @Param("partnerIds") Collection<Long> partnerIds);
+
+    // 교환 사이클 그래프 적재용 (사용자 쌍 단위)
+    @Query("SELECT DISTINCT e.wisherId AS wisherId, e.holderId AS holderId FROM MatchEdge e")
+    List<MatchEdgePair> findDistinctUserPairs();
+
+    // 주어진 사용자들 사이의 간선과 도서 정보
+    @Query("""
+    SELECT e.wisherId AS wisherId, e.holderId AS holderId, e.bookId AS bookId, b.title AS title
+    FROM MatchEdge e JOIN Book b ON b.id = e.bookId
+    WHERE e.wisherId IN :userIds
+    AND e.holderId IN :userIds
+    ORDER BY e.id
+    """)
+    List<MatchEdgeDetail> findDetailsAmong(@Param("userIds") Collection<Long> userIds);
+
+    // 🔄 (사용자, 도서) 찜 기준 간선 재계산
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM match_edges WHERE wisher_id = :userId AND book_id = :bookId", nativeQuery = true)
+    void deleteByWish(@Param("userId") Long userId, @Param("bookId") Long bookId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+    INSERT INTO match_edges (wisher_id, holder_id, book_id, library_id)
+    SELECT w.user_id, l.user_id, l.book_id, l.library_id
+    FROM wish_books w
+    JOIN libraries l ON l.book_id = w.book_id
+    WHERE w.user_id = :userId
+    AND w.book_id = :bookId
+    AND l.is_public = true
+    AND l.user_id <> w.user_id
+    ON CONFLICT (wisher_id, library_id) DO NOTHING
+    """, nativeQuery = true)
+    void insertByWish(@Param("userId") Long userId, @Param("bookId") Long bookId);
+
+    // 🔄 서재 항목 기준 간선 재계산
+    @Modifying(flushAutomatically = true)
+    @Query(value = "DELETE FROM match_edges WHERE library_id = :libraryId", nativeQuery = true)
+    void deleteByLibrary(@Param("libraryId") Long libraryId);
+
+    @Modifying(flushAutomatically = true)
+    @Query(value = """
+    INSERT INTO match_edges (wisher_id, holder_id, book_id, library_id)
+    SELECT w.user_id, l.user_id, l.book_id, l.library_id
+    FROM libraries l
+    JOIN wish_books w ON w.book_id = l.book_id
+    WHERE l.library_id = :libraryId
+    AND l.is_public = true
+    AND w.user_id <> l.user_id
+    ON CONFLICT (wisher_id, library_id) DO NOTHING
+    """, nativeQuery = true)
+    void insertByLibrary(@Param("libraryId") Long libraryId);
+
+    // 🧱 빈 테이블 초기 적재
+    @Query(value = "SELECT EXISTS (SELECT 1 FROM match_edges)", nativeQuery = true)
+    boolean existsAnyEdge();
+
+    // 트랜잭션 종료 시 자동 해제되는 PostgreSQL advisory lock (다른 서버가 잡고 있으면 false)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    @Modifying
+    @Query(value = """
+    INSERT INTO match_edges (wisher_id, holder_id, book_id, library_id)
+    SELECT w.user_id, l.user_id, l.book_id, l.library_id
+    FROM libraries l
+    JOIN wish_books w ON w.book_id = l.book_id
+    WHERE l.is_public = true
+    AND w.user_id <> l.user_id
+    ON CONFLICT (wisher_id, library_id) DO NOTHING
+    """, nativeQuery = true)
+    int insertAllEdges();
+}
@@ -0,0 +1,120 @@
+package com.ssafy.bookshy.domain.matching.service;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+import com.ssafy.bookshy.domain.matching.index.BookInvertedIndex;
+import com.ssafy.bookshy.domain.matching.repository.MatchEdgeRepository;
+import com.ssafy.bookshy.domain.matching.util.MatchingScoreCalculator;
+import com.ssafy.bookshy.domain.users.entity.Users;
+import com.ssafy.bookshy.domain.users.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.roaringbitmap.RoaringBitmap;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+/**
+ * 🔄 양방향 교환 후보 계산 엔진
+ *
+ * 위치 인덱스로 미리 추린 반경 내 사용자 중, 도서 역색인 비트맵 연산으로 양방향 후보를 먼저 고른 뒤
+ * 찜·서재 변경 시 증분 갱신되는 매칭 간선(match_edges) 읽기 모델에서 도서 정보를 조회합니다.
+ * 0. 비트맵 OR/AND로 양방향 후보 사용자 선정
+ * 1. 상대가 가진 내 찜 도서 조회 (역방향 간선이 있는 상대만)
+ * 2. 해당 상대들이 원하는 내 공개 도서 조회
+ * 3. 상대 사용자 일괄 조회
+ * 이후 MatchingCandidateJoin으로 메모리에서 사용자별로 묶고, 점수는 배치 API로 한 번에 계산하여 MatchingDto를 생성합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class MatchingCandidateEngine {
+
+    private final MatchEdgeRepository matchEdgeRepository;
+    private final UserRepository userRepository;
+    private final BookInvertedIndex bookInvertedIndex;
+
+    /**
+     * @param me                내 사용자 엔티티
+     * @param nearbyDistanceKm 반경 내 사용자 ID → 거리(km), 후보 범위를 좁히고 점수·응답의 거리로 그대로 사용
+     */
+    @Transactional(readOnly = true)
+    public List<MatchingDto> findCandidates(Users me, Map<Long, Double> nearbyDistanceKm) {
+        Long myUserId = me.getUserId();
+        if (nearbyDistanceKm.isEmpty()) {
+            return List.of();
+        }
+
+        // 0️⃣ 반경 내 사용자 중 양방향 후보 (비트맵 연산)
+        RoaringBitmap candidateBits = bookInvertedIndex.findMutualCandidates(myUserId, nearbyDistanceKm.keySet());
+        if (candidateBits.isEmpty()) {
+            return List.of();
+        }
+        List<Long> candidateIds = new ArrayList<>(candidateBits.getCardinality());
+        candidateBits.forEach((int userId) -> candidateIds.add((long) userId));
+
+        // 1️⃣ 상대 공개 서재에 있는 내 찜 도서 (양방향 간선이 있는 상대만)
+        Map<Long, Map<Long, String>> theirBooksByUser = MatchingCandidateJoin.groupByPartner(
+                matchEdgeRepository.findMutualTheirBooks(myUserId, candidateIds));
+        if (theirBooksByUser.isEmpty()) {
+            return List.of();
+        }
+
+        // 2️⃣ 상대들이 원하는 내 공개 도서
+        Map<Long, Map<Long, String>> myBooksByUser = MatchingCandidateJoin.groupByPartner(
+                matchEdgeRepository.findMyBooksWishedBy(myUserId, theirBooksByUser.keySet()));
+
+        // 3️⃣ 상대 사용자 정보
+        Map<Long, Users> usersById = new HashMap<>();
+        for (Users user : userRepository.findAllById(theirBooksByUser.keySet())) {
+            usersById.put(user.getUserId(), user);
+        }
+
+        // 4️⃣ 양방향 후보만 추려 원시 배열로 모은 뒤 점수를 한 번에 계산 (거리는 위치 인덱스가 계산한 값 재사용)
+        List<Users> partners = new ArrayList<>();
+        for (Long partnerId : MatchingCandidateJoin.mutualPartners(theirBooksByUser, myBooksByUser)) {
+            Users other = usersById.get(partnerId);
+            if (other == null || !nearbyDistanceKm.containsKey(partnerId)) continue;
+            partners.add(other);
+        }
+
+        int count = partners.size();
+        double[] distances = new double[count];
+        float[] temperatures = new float[count];
+        long[] lastActive = new long[count];
+        for (int i = 0; i < count; i++) {
+            Users other = partners.get(i);
+            distances[i] = nearbyDistanceKm.get(other.getUserId());
+            temperatures[i] = other.getTemperature() != null ? other.getTemperature() : MatchingScoreCalculator.NO_TEMPERATURE;
+            lastActive[i] = MatchingScoreCalculator.toEpochMillis(other.getLastActiveAt());
+        }
+
+        double[] scores = new double[count];
+        MatchingScoreCalculator.scoreBatch(distances, temperatures, lastActive, count, System.currentTimeMillis(), scores);
+
+        // 5️⃣ DTO 변환
+        LocalDateTime matchedAt = LocalDateTime.now();
+        List<MatchingDto> result = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Users other = partners.get(i);
+            Map<Long, String> myBooks = myBooksByUser.get(other.getUserId());
+            Map<Long, String> theirBooks = theirBooksByUser.get(other.getUserId());
+
+            result.add(MatchingDto.builder()
+                    .userId(other.getUserId())
+                    .nickname(other.getNickname())
+                    .address(other.getAddress())
+                    .profileImageUrl(other.getProfileImageUrl())
+                    .temperature(other.getTemperature() != null ? Math.round(other.getTemperature()) : 36)
+                    .myBookId(new ArrayList<>(myBooks.keySet()))
+                    .myBookName(new ArrayList<>(myBooks.values()))
+                    .otherBookId(new ArrayList<>(theirBooks.keySet()))
+                    .otherBookName(new ArrayList<>(theirBooks.values()))
+                    .matchedAt(matchedAt)
+                    .score(Math.round(scores[i] * 10.0) / 10.0)
+                    .distanceKm(Math.round(distances[i] * 100.0) / 100.0)
+                    .build());
+        }
+
+        return result;
+    }
+}
@@ -0,0 +1,48 @@
+package com.ssafy.bookshy.domain.matching.service;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgeBook;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 🧩 양방향 후보 메모리 조인
+ *
+ * 후보 수와 관계없이 고정된 개수의 집합 쿼리로 가져온 (상대 ID, 도서) 행을 메모리에서 합칩니다.
+ * - 상대별로 도서를 묶고 (같은 도서를 여러 권 보유해도 한 번만)
+ * - "상대가 가진 내 찜 도서"와 "상대가 원하는 내 공개 도서"가 모두 있는 상대만 남깁니다.
+ */
+public final class MatchingCandidateJoin {
+
+    private MatchingCandidateJoin() {
+    }
+
+    /**
+     * 상대 ID → (도서 ID → 제목). 상대와 도서 모두 처음 등장한 순서를 유지합니다.
+     */
+    public static Map<Long, Map<Long, String>> groupByPartner(Collection<? extends MatchEdgeBook> rows) {
+        Map<Long, Map<Long, String>> grouped = new LinkedHashMap<>();
+        for (MatchEdgeBook row : rows) {
+            grouped.computeIfAbsent(row.getPartnerId(), id -> new LinkedHashMap<>())
+                    .putIfAbsent(row.getBookId(), row.getTitle());
+        }
+        return grouped;
+    }
+
+    /**
+     * 양쪽 모두 교환할 도서가 있는 상대 ID를 theirBooksByPartner 순서대로 반환합니다.
+     */
+    public static List<Long> mutualPartners(Map<Long, Map<Long, String>> theirBooksByPartner,
+                                            Map<Long, Map<Long, String>> myBooksByPartner) {
+        List<Long> partners = new ArrayList<>();
+        for (Map.Entry<Long, Map<Long, String>> entry : theirBooksByPartner.entrySet()) {
+            Map<Long, String> myBooks = myBooksByPartner.get(entry.getKey());
+            if (entry.getValue().isEmpty() || myBooks == null || myBooks.isEmpty()) continue;
+            partners.add(entry.getKey());
+        }
+        return partners;
+    }
+}
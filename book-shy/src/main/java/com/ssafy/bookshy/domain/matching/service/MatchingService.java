@@ -1,16 +1,24 @@
 package com.ssafy.bookshy.domain.matching.service;
 
-import com.ssafy.bookshy.domain.book.repository.WishRepository;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
 import com.ssafy.bookshy.domain.chat.repository.ChatRoomRepository;
 import com.ssafy.bookshy.domain.chat.service.ChatRoomService;
 import com.ssafy.bookshy.domain.library.entity.Library;
 import com.ssafy.bookshy.domain.library.repository.LibraryRepository;
+import com.ssafy.bookshy.domain.matching.cache.MatchingCursor;
+import com.ssafy.bookshy.domain.matching.cache.MatchingSnapshot;
+import com.ssafy.bookshy.domain.matching.cache.MatchingSnapshotCache;
+import com.ssafy.bookshy.domain.matching.cache.MatchingSortType;
+import com.ssafy.bookshy.domain.matching.cycle.ExchangeCycle;
+import com.ssafy.bookshy.domain.matching.cycle.ExchangeCycleFinder;
 import com.ssafy.bookshy.domain.matching.dto.*;
 import com.ssafy.bookshy.domain.matching.entity.Matching;
 import com.ssafy.bookshy.domain.matching.event.MatchCreatedEvent;
 import com.ssafy.bookshy.domain.matching.exception.MatchingErrorCode;
 import com.ssafy.bookshy.domain.matching.exception.MatchingException;
+import com.ssafy.bookshy.domain.matching.geo.UserGeoIndex;
+import com.ssafy.bookshy.domain.matching.index.BookInvertedIndex;
+import com.ssafy.bookshy.domain.matching.repository.MatchEdgeRepository;
 import com.ssafy.bookshy.domain.matching.repository.MatchingRepository;
 import com.ssafy.bookshy.domain.matching.util.MatchingScoreCalculator;
 import com.ssafy.bookshy.domain.users.entity.Users;
@@ -35,58 +43,27 @@ public class MatchingService {
     private final ChatRoomRepository chatRoomRepository;
     private final ApplicationEventPublisher applicationEventPublisher;
     private final UserService userService;
-    private final WishRepository wishRepository;
     private final ChatRoomService chatRoomService;
+    private final MatchingCandidateEngine matchingCandidateEngine;
+    private final UserGeoIndex userGeoIndex;
+    private final MatchingSnapshotCache matchingSnapshotCache;
+    private final ExchangeCycleFinder exchangeCycleFinder;
+    private final MatchEdgeRepository matchEdgeRepository;
+    private final BookInvertedIndex bookInvertedIndex;
 
     public List<MatchingDto> findMatchingCandidates(Long myUserId) {
         Users me = userRepository.findById(myUserId)
                 .orElseThrow(() -> new MatchingException(MatchingErrorCode.USER_NOT_FOUND));
 
-        List<Users> candidates = libraryRepository.findCandidatesByMyWishBooks(myUserId);
-        List<MatchingDto> result = new ArrayList<>();
-
-        for (Users other : candidates) {
-            Long otherUserId = other.getUserId();
-
-            List<Library> theirBooksIMightWant =
-                    libraryRepository.findTheirLibrariesMatchingMyWishes(myUserId, otherUserId);
-
-            List<Library> myBooksTheyMightWant =
-                    libraryRepository.findMyLibrariesMatchingTheirWishes(myUserId, otherUserId);
-
-            if (!theirBooksIMightWant.isEmpty() && !myBooksTheyMightWant.isEmpty()) {
-
-                List<Long> myBookIds = myBooksTheyMightWant.stream().map(l -> l.getBook().getId()).toList();
-                List<String> myBookNames = myBooksTheyMightWant.stream().map(l -> l.getBook().getTitle()).toList();
-
-                List<Long> otherBookIds = theirBooksIMightWant.stream().map(l -> l.getBook().getId()).toList();
-                List<String> otherBookNames = theirBooksIMightWant.stream().map(l -> l.getBook().getTitle()).toList();
-
-                double distKm = MatchingScoreCalculator.calculateDistance(
-                        me.getLatitude(), me.getLongitude(),
-                        other.getLatitude(), other.getLongitude()
-                );
-
-                if (distKm > 20.0) continue;
+        if (me.getLatitude() == null || me.getLongitude() == null) {
+            return List.of();
+        }
 
-                MatchingDto dto = MatchingDto.builder()
-                        .userId(otherUserId)
-                        .nickname(other.getNickname())
-                        .address(other.getAddress())
-                        .profileImageUrl(other.getProfileImageUrl())
-                        .temperature(other.getTemperature() != null ? Math.round(other.getTemperature()) : 36)
-                        .myBookId(myBookIds)
-                        .myBookName(myBookNames)
-                        .otherBookId(otherBookIds)
-                        .otherBookName(otherBookNames)
-                        .matchedAt(LocalDateTime.now())
-                        .score(Math.round(MatchingScoreCalculator.totalScore(me, other) * 10.0) / 10.0)
-                        .distanceKm(Math.round(distKm * 100.0) / 100.0)
-                        .build();
+        // 📍 위치 인덱스로 반경 내(공개 도서 보유) 사용자를 먼저 추린 뒤 DB 조회
+        Map<Long, Double> nearby = userGeoIndex.findWithinRadius(
+                me.getLatitude(), me.getLongitude(), MatchingScoreCalculator.MAX_DISTANCE_KM, myUserId);
 
-                result.add(dto);
-            }
-        }
+        List<MatchingDto> result = matchingCandidateEngine.findCandidates(me, nearby);
 
         return result.stream()
                 .sorted(Comparator.comparingDouble(MatchingDto::getScore).reversed())
@@ -141,65 +118,162 @@ public class MatchingService {
 
         Users partner = userService.getUserById(receiverId);
 
-        Optional<ChatRoom> existing = chatRoomRepository.findByParticipants(senderId, receiverId);
-        if (existing.isPresent()) {
-            return buildSimpleResponse(existing.get().getId(), partner);
-        }
-
+        // 이미 있는 채팅방이면 기존 방 반환 (참여자 쌍 유니크 제약 기준)
         ChatRoom chatRoom = chatRoomService.createChatRoomFromSimple(senderId, receiverId);
         return buildSimpleResponse(chatRoom.getId(), partner);
     }
 
-    public MatchingPageResponseDto findPagedCandidates(Long myUserId, int page, int size, String sort) {
-        List<MatchingDto> all = findMatchingCandidates(myUserId);
+    /**
+     * 📋 매칭 후보 페이지 조회
+     *
+     * 사용자별 스냅샷에서 페이지를 잘라 제공합니다.
+     * - cursor가 없으면 page 번호 기준으로 조회 (필요 시 스냅샷 재계산)
+     * - cursor가 있으면 커서가 가리키는 스냅샷에서 마지막 후보 다음부터 조회
+     *   (해당 스냅샷이 교체되었다면 새 스냅샷에서 같은 정렬 위치 다음부터 이어서 조회)
+     */
+    public MatchingPageResponseDto findPagedCandidates(Long myUserId, int page, int size, String sort, String cursor) {
+        MatchingSortType sortType = MatchingSortType.from(sort);
+
+        MatchingSnapshot snapshot;
+        boolean stale;
+        int fromIndex;
+
+        if (cursor != null && !cursor.isBlank()) {
+            MatchingCursor decoded = MatchingCursor.decode(cursor);
+            if (decoded.getSort() != sortType) {
+                throw new MatchingException(MatchingErrorCode.INVALID_CURSOR);
+            }
 
-        all = switch (sort.toLowerCase()) {
-            case "distance" -> all.stream()
-                    .sorted(Comparator.comparingDouble(MatchingDto::getDistanceKm))
-                    .toList();
-            default -> all.stream()
-                    .sorted(Comparator.comparingDouble(MatchingDto::getScore).reversed())
-                    .toList();
-        };
+            MatchingSnapshot pinned = matchingSnapshotCache.findByVersion(myUserId, decoded.getSnapshotVersion());
+            if (pinned != null) {
+                snapshot = pinned;
+                stale = matchingSnapshotCache.isStale(pinned);
+            } else {
+                snapshot = matchingSnapshotCache.getOrCompute(myUserId, () -> findMatchingCandidates(myUserId));
+                stale = true;
+            }
+            fromIndex = snapshot.indexAfter(decoded);
+        } else {
+            snapshot = matchingSnapshotCache.getOrCompute(myUserId, () -> findMatchingCandidates(myUserId));
+            stale = false;
+            fromIndex = Math.max(page - 1, 0) * size;
+        }
 
+        List<MatchingDto> all = snapshot.sorted(sortType);
         int total = all.size();
-        int fromIndex = Math.min((page - 1) * size, total);
-        int toIndex = Math.min(page * size, total);
+        fromIndex = Math.min(fromIndex, total);
+        int toIndex = Math.min(fromIndex + size, total);
         List<MatchingDto> pageResult = all.subList(fromIndex, toIndex);
 
+        String nextCursor = null;
+        if (toIndex < total && !pageResult.isEmpty()) {
+            MatchingDto last = pageResult.get(pageResult.size() - 1);
+            nextCursor = new MatchingCursor(sortType, snapshot.getVersion(), sortType.keyOf(last), last.getUserId()).encode();
+        }
+
         return MatchingPageResponseDto.builder()
                 .candidates(pageResult)
                 .totalPages((int) Math.ceil((double) total / size))
-                .currentPage(page)
+                .currentPage(fromIndex / size + 1)
                 .results(total)
+                .nextCursor(nextCursor)
+                .stale(stale)
                 .build();
     }
 
     public List<NearbyUserResponseDto> findNearbyUsers(Users me) {
-        List<Users> others = userRepository.findAllExcept(me.getUserId());
-
-        return others.stream()
-                .filter(u -> u.getLatitude() != null && u.getLongitude() != null)
-                .filter(u -> libraryRepository.countByUserAndIsPublicTrue(u) > 0)
-                .map(u -> new AbstractMap.SimpleEntry<>(u,
-                        MatchingScoreCalculator.calculateDistance(me.getLatitude(), me.getLongitude(),
-                                u.getLatitude(), u.getLongitude())))
-                .filter(entry -> entry.getValue() <= 20.0)
-                .sorted(Map.Entry.comparingByValue())
-                .limit(10)
-                .map(entry -> new NearbyUserResponseDto(entry.getKey(), entry.getValue()))
+        if (me.getLatitude() == null || me.getLongitude() == null) {
+            return List.of();
+        }
+
+        // 📍 위치 인덱스에서 가까운 10명을 고른 뒤 해당 사용자만 조회
+        List<Map.Entry<Long, Double>> nearest = userGeoIndex.findNearest(
+                me.getLatitude(), me.getLongitude(), 10, MatchingScoreCalculator.MAX_DISTANCE_KM, me.getUserId());
+
+        Map<Long, Users> usersById = userRepository.findAllById(nearest.stream().map(Map.Entry::getKey).toList())
+                .stream()
+                .collect(Collectors.toMap(Users::getUserId, u -> u));
+
+        return nearest.stream()
+                .filter(entry -> usersById.containsKey(entry.getKey()))
+                .map(entry -> new NearbyUserResponseDto(usersById.get(entry.getKey()), entry.getValue()))
                 .collect(Collectors.toList());
     }
 
+    /**
+     * 🔁 내가 포함된 3~4인 교환 사이클 조회
+     *
+     * 사이클 구성은 주기적으로 미리 계산된 결과를 사용하고, 도서 정보는 현재 간선 기준으로 채웁니다.
+     * 그 사이 찜/서재가 바뀌어 끊어진 사이클은 제외합니다.
+     */
+    @Transactional(readOnly = true)
+    public List<ExchangeCycleDto> findExchangeCycles(Long myUserId) {
+        List<ExchangeCycle> cycles = exchangeCycleFinder.findCyclesOf(myUserId);
+        if (cycles.isEmpty()) {
+            return List.of();
+        }
+
+        Set<Long> participantIds = new HashSet<>();
+        for (ExchangeCycle cycle : cycles) {
+            for (long userId : cycle.getUserIds()) {
+                participantIds.add(userId);
+            }
+        }
+
+        Map<Long, Users> usersById = userRepository.findAllById(participantIds).stream()
+                .collect(Collectors.toMap(Users::getUserId, u -> u));
+
+        // wisher → holder → (도서 ID → 제목)
+        Map<Long, Map<Long, Map<Long, String>>> books = new HashMap<>();
+        for (MatchEdgeDetail edge : matchEdgeRepository.findDetailsAmong(participantIds)) {
+            books.computeIfAbsent(edge.getWisherId(), id -> new HashMap<>())
+                    .computeIfAbsent(edge.getHolderId(), id -> new LinkedHashMap<>())
+                    .putIfAbsent(edge.getBookId(), edge.getTitle());
+        }
+
+        List<ExchangeCycleDto> result = new ArrayList<>();
+        for (ExchangeCycle cycle : cycles) {
+            long[] userIds = cycle.getUserIds();
+            int offset = 0;
+            while (userIds[offset] != myUserId) offset++;
+
+            List<ExchangeCycleDto.Member> members = new ArrayList<>();
+            for (int i = 0; i < userIds.length; i++) {
+                long wisherId = userIds[(offset + i) % userIds.length];
+                long holderId = userIds[(offset + i + 1) % userIds.length];
+                Users wisher = usersById.get(wisherId);
+                Map<Long, String> wanted = books.getOrDefault(wisherId, Map.of()).get(holderId);
+                if (wisher == null || wanted == null || wanted.isEmpty()) break;
+
+                members.add(ExchangeCycleDto.Member.builder()
+                        .userId(wisher.getUserId())
+                        .nickname(wisher.getNickname())
+                        .profileImageUrl(wisher.getProfileImageUrl())
+                        .temperature(wisher.getTemperature())
+                        .wantedBookIds(new ArrayList<>(wanted.keySet()))
+                        .wantedBookNames(new ArrayList<>(wanted.values()))
+                        .build());
+            }
+            if (members.size() != userIds.length) continue;
+
+            result.add(ExchangeCycleDto.builder()
+                    .length(userIds.length)
+                    .totalDistanceKm(Math.round(cycle.getTotalDistanceKm() * 10.0) / 10.0)
+                    .members(members)
+                    .build());
+        }
+        return result;
+    }
+
     public NeighborLibraryResponseDto getNeighborLibrary(Long targetUserId, Long viewerUserId) {
         Users targetUser = userService.getUserById(targetUserId);
-        Users viewer = userService.getUserById(viewerUserId);
 
         List<Library> publicBooks = libraryRepository.findByUserAndIsPublicTrueOrderByRegisteredAtDesc(targetUser);
-        List<Long> wishedBookIds = wishRepository.findBookIdsByUser(viewer);
 
+        // 💖 찜 여부는 도서 역색인의 비트 검사로 확인
         List<NeighborLibraryResponseDto.BookWithLikeDto> books = publicBooks.stream()
-                .map(lib -> NeighborLibraryResponseDto.BookWithLikeDto.from(lib, wishedBookIds.contains(lib.getBook().getId())))
+                .map(lib -> NeighborLibraryResponseDto.BookWithLikeDto.from(lib,
+                        bookInvertedIndex.isWishedBy(lib.getBook().getId(), viewerUserId)))
                 .toList();
 
         return NeighborLibraryResponseDto.builder()
@@ -0,0 +1,101 @@
+package com.ssafy.bookshy.domain.matching.sync;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bookshy.domain.book.event.WishChangedEvent;
+import com.ssafy.bookshy.domain.library.event.LibraryChangedEvent;
+import com.ssafy.bookshy.domain.users.event.UserLocationChangedEvent;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * 🛰️ 매칭용 메모리 인덱스 서버 간 동기화
+ *
+ * 위치 인덱스와 도서 역색인은 서버마다 메모리에 따로 있으므로, 한 서버에서 커밋된 변경을 다른 서버에도 알려야 합니다.
+ * - 이 서버에서 커밋된 변경 이벤트를 Redis 채널(matching:index)로 발행합니다. (origin = 이 서버 ID)
+ * - 다른 서버가 발행한 변경을 받아 {@link RemoteIndexChangeEvent}로 이 서버에 다시 발행합니다. 자기 자신이 발행한 것은 무시합니다.
+ *
+ * pub/sub은 전달을 보장하지 않으므로(구독 끊김, 재시작 등) 각 인덱스는 주기적인 전체 적재로 누락을 바로잡습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MatchingIndexSync implements MessageListener {
+
+    static final String CHANNEL = "matching:index";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final ApplicationEventPublisher applicationEventPublisher;
+    private final ObjectMapper objectMapper;
+
+    private final String nodeId = UUID.randomUUID().toString();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CHANNEL));
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLocationChanged(UserLocationChangedEvent event) {
+        publish(RemoteIndexChangeEvent.Type.LOCATION, event.getUserId(), null);
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleLibraryChanged(LibraryChangedEvent event) {
+        publish(RemoteIndexChangeEvent.Type.LIBRARY, event.getUserId(), event.getBookId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleWishChanged(WishChangedEvent event) {
+        publish(RemoteIndexChangeEvent.Type.WISH, event.getUserId(), event.getBookId());
+    }
+
+    private void publish(RemoteIndexChangeEvent.Type type, Long userId, Long bookId) {
+        try {
+            Map<String, Object> envelope = new HashMap<>();
+            envelope.put("origin", nodeId);
+            envelope.put("type", type.name());
+            envelope.put("userId", userId);
+            envelope.put("bookId", bookId);
+            redisTemplate.convertAndSend(CHANNEL, objectMapper.writeValueAsString(envelope));
+        } catch (Exception e) {
+            // 전체 적재 주기에 반영되므로 요청 흐름은 막지 않음
+            log.error("❌ 매칭 인덱스 변경 발행 실패 - type: {}, userId: {}", type, userId, e);
+        }
+    }
+
+    /**
+     * 📥 다른 서버에서 커밋된 변경을 이 서버의 인덱스 리스너에 전달
+     */
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        try {
+            JsonNode envelope = objectMapper.readTree(new String(message.getBody(), StandardCharsets.UTF_8));
+            if (nodeId.equals(envelope.path("origin").asText())) {
+                return;
+            }
+            applicationEventPublisher.publishEvent(new RemoteIndexChangeEvent(
+                    RemoteIndexChangeEvent.Type.valueOf(envelope.path("type").asText()),
+                    envelope.path("userId").asLong(),
+                    envelope.hasNonNull("bookId") ? envelope.path("bookId").asLong() : null));
+        } catch (Exception e) {
+            log.error("❌ 매칭 인덱스 변경 수신 처리 실패", e);
+        }
+    }
+}
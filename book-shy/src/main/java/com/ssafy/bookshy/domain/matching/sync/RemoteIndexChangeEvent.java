@@ -0,0 +1,25 @@
+package com.ssafy.bookshy.domain.matching.sync;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 🛰️ 다른 서버에서 커밋된 변경 중 매칭용 메모리 인덱스에 영향을 주는 변경
+ *
+ * {@link MatchingIndexSync}가 Redis 채널에서 받아 이 서버에 다시 발행합니다.
+ * 인덱스 리스너는 값 자체가 아닌 (userId, bookId)를 받아 DB에서 현재 상태를 다시 읽어 반영합니다.
+ *
+ * - bookId: LOCATION 변경에서는 null
+ */
+@Getter
+@RequiredArgsConstructor
+public class RemoteIndexChangeEvent {
+
+    public enum Type {
+        LOCATION, LIBRARY, WISH
+    }
+
+    private final Type type;
+    private final Long userId;
+    private final Long bookId;
+}
@@ -3,9 +3,22 @@ package com.ssafy.bookshy.domain.matching.util;
 import com.ssafy.bookshy.domain.users.entity.Users;
 
 import java.time.LocalDateTime;
+import java.time.ZoneId;
 
 public class MatchingScoreCalculator {
 
+    // 매칭·이웃 조회에 사용하는 최대 거리 (km)
+    public static final double MAX_DISTANCE_KM = 20.0;
+
+    // 배치 API에서 값이 없음을 나타내는 값
+    public static final float NO_TEMPERATURE = Float.NaN;
+    public static final long NO_LAST_ACTIVE = Long.MIN_VALUE;
+
+    private static final double EARTH_RADIUS_KM = 6371.0;
+    private static final long DAY_MILLIS = 24L * 60 * 60 * 1000;
+    // 근사 거리가 이 값을 넘으면 정확한 거리를 계산하지 않음 (근사 오차 여유 5%)
+    private static final double PREFILTER_KM = MAX_DISTANCE_KM * 1.05;
+
     public static double calculateDistance(double lat1, double lon1, double lat2, double lon2) {
         double R = 6371.0;
         double dLat = Math.toRadians(lat2 - lat1);
@@ -22,12 +35,16 @@ public class MatchingScoreCalculator {
         else if (km <= 5) return 4.0;
         else if (km <= 10) return 3.0;
         else if (km <= 15) return 2.0;
-        else if (km <= 20) return 1.0;
+        else if (km <= MAX_DISTANCE_KM) return 1.0;
         return 0.0;
     }
 
     public static double temperatureScore(Float temperature) {
         if (temperature == null) return 0.0;
+        return temperatureScore(temperature.floatValue());
+    }
+
+    public static double temperatureScore(float temperature) {
         if (temperature >= 30) {
             return Math.min((temperature - 30) * 0.1, 4.0);
         }
@@ -42,6 +59,18 @@ public class MatchingScoreCalculator {
         return 0.0;
     }
 
+    public static double activityScore(long lastActiveEpochMillis, long nowEpochMillis) {
+        if (lastActiveEpochMillis == NO_LAST_ACTIVE) return 0.0;
+        if (lastActiveEpochMillis > nowEpochMillis - 3 * DAY_MILLIS) return 4.0;
+        if (lastActiveEpochMillis > nowEpochMillis - 7 * DAY_MILLIS) return 2.0;
+        return 0.0;
+    }
+
+    public static long toEpochMillis(LocalDateTime time) {
+        if (time == null) return NO_LAST_ACTIVE;
+        return time.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+    }
+
     public static double totalScore(Users me, Users other) {
         if (me.getLatitude() == null || me.getLongitude() == null ||
                 other.getLatitude() == null || other.getLongitude() == null) {
@@ -63,4 +92,66 @@ public class MatchingScoreCalculator {
 
         return Math.min(percentScore, 100.0);
     }
+
+    /**
+     * 🧮 다수 후보의 점수를 한 번에 계산합니다.
+     *
+     * - 후보 정보는 원시 배열로 받습니다. 온도가 없으면 {@link #NO_TEMPERATURE}, 최근 활동이 없으면 {@link #NO_LAST_ACTIVE}
+     * - 현재 시각은 호출부에서 한 번만 구해 전달합니다.
+     * - 등장방형(equirectangular) 근사 거리로 반경을 충분히 벗어난 후보는 하버사인 계산을 생략합니다.
+     *
+     * @param scoresOut    후보별 점수(0~100)를 채울 배열
+     * @param distancesOut 후보별 거리(km)를 채울 배열, 필요 없으면 null
+     */
+    public static void scoreBatch(double myLat, double myLon,
+                                  double[] lats, double[] lons, float[] temperatures, long[] lastActiveEpochMillis,
+                                  int count, long nowEpochMillis,
+                                  double[] scoresOut, double[] distancesOut) {
+        double myLatRad = Math.toRadians(myLat);
+        double myLonRad = Math.toRadians(myLon);
+        double cosMyLat = Math.cos(myLatRad);
+
+        for (int i = 0; i < count; i++) {
+            double latRad = Math.toRadians(lats[i]);
+            double dLat = latRad - myLatRad;
+            double dLon = Math.toRadians(lons[i]) - myLonRad;
+
+            // 1️⃣ 근사 거리로 반경 밖 후보 제외
+            double x = dLon * cosMyLat;
+            double distKm = EARTH_RADIUS_KM * Math.sqrt(x * x + dLat * dLat);
+
+            // 2️⃣ 반경 근처라면 정확한 하버사인 거리
+            if (distKm <= PREFILTER_KM) {
+                double sinLat = Math.sin(dLat / 2);
+                double sinLon = Math.sin(dLon / 2);
+                double a = sinLat * sinLat + cosMyLat * Math.cos(latRad) * sinLon * sinLon;
+                distKm = EARTH_RADIUS_KM * 2 * Math.atan2(Math.sqrt(a), Math.sqrt(1 - a));
+            }
+
+            scoresOut[i] = batchScore(distKm, temperatures[i], lastActiveEpochMillis[i], nowEpochMillis);
+            if (distancesOut != null) {
+                distancesOut[i] = distKm;
+            }
+        }
+    }
+
+    /**
+     * 🧮 거리를 이미 알고 있는 다수 후보의 점수를 한 번에 계산합니다. (위치 인덱스가 계산한 거리 재사용, 거리 계산 없음)
+     *
+     * @param distancesKm 후보별 거리(km)
+     * @param scoresOut   후보별 점수(0~100)를 채울 배열
+     */
+    public static void scoreBatch(double[] distancesKm, float[] temperatures, long[] lastActiveEpochMillis,
+                                  int count, long nowEpochMillis, double[] scoresOut) {
+        for (int i = 0; i < count; i++) {
+            scoresOut[i] = batchScore(distancesKm[i], temperatures[i], lastActiveEpochMillis[i], nowEpochMillis);
+        }
+    }
+
+    private static double batchScore(double distKm, float temperature, long lastActiveEpochMillis, long nowEpochMillis) {
+        double rawScore = distanceScore(distKm)
+                + temperatureScore(temperature)
+                + activityScore(lastActiveEpochMillis, nowEpochMillis);
+        return Math.min((rawScore / 14.0) * 100.0, 100.0);
+    }
 }
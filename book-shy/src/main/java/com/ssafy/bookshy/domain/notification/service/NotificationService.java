@@ -1,6 +1,7 @@
 package com.ssafy.bookshy.domain.notification.service;
 
 import com.google.auth.oauth2.GoogleCredentials;
+import com.ssafy.bookshy.common.http.OutboundHttpClient;
 import com.ssafy.bookshy.domain.notification.dto.ChatNotificationFcmDto;
 import com.ssafy.bookshy.domain.notification.dto.FcmMessageTemplate;
 import com.ssafy.bookshy.domain.notification.dto.FcmNotificationType;
@@ -12,12 +13,11 @@ import com.ssafy.bookshy.domain.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.json.JSONObject;
-import org.springframework.http.*;
 import org.springframework.stereotype.Service;
-import org.springframework.web.client.RestTemplate;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.net.URI;
 import java.util.List;
 import java.util.Map;
 
@@ -26,11 +26,14 @@ import java.util.Map;
 @RequiredArgsConstructor
 public class NotificationService {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-
+    private static final String UPSTREAM = "fcm";
     private static final String FIREBASE_SCOPE = "https://www.googleapis.com/auth/firebase.messaging";
     private static final String FCM_API_URL_TEMPLATE = "https://fcm.googleapis.com/v1/projects/%s/messages:send";
     private final UserRepository userRepository;
+    private final OutboundHttpClient outboundHttpClient;
+
+    // 🔑 한 번 읽은 자격 증명을 재사용 (액세스 토큰은 만료 시에만 다시 발급)
+    private volatile GoogleCredentials credentials;
 
     public void sendTestNotification(Long userId, FcmNotificationType type) {
         sendFcm(userId, type, Map.of(
@@ -114,14 +117,7 @@ public class NotificationService {
         }
 
         try {
-            String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
-            if (credentialsPath == null || credentialsPath.isBlank()) {
-                throw new NotificationException(NotificationErrorCode.FIREBASE_CREDENTIALS_MISSING);
-            }
-
-            GoogleCredentials credentials = GoogleCredentials
-                    .fromStream(new FileInputStream(credentialsPath))
-                    .createScoped(List.of(FIREBASE_SCOPE));
+            GoogleCredentials credentials = loadCredentials();
             credentials.refreshIfExpired();
             String accessToken = credentials.getAccessToken().getTokenValue();
 
@@ -140,16 +136,19 @@ public class NotificationService {
             JSONObject payload = new JSONObject();
             payload.put("message", messageBody);
 
-            HttpHeaders headers = new HttpHeaders();
-            headers.setContentType(MediaType.APPLICATION_JSON);
-            headers.setBearerAuth(accessToken);
-
             String projectId = System.getenv("FIREBASE_PROJECT_ID");
-            String apiUrl = String.format(FCM_API_URL_TEMPLATE, projectId);
-
-            HttpEntity<String> request = new HttpEntity<>(payload.toString(), headers);
-            ResponseEntity<String> response = restTemplate.postForEntity(apiUrl, request, String.class);
-            log.info("✅ v1 FCM 푸시 전송 성공: {}", response.getBody());
+            URI apiUri = URI.create(String.format(FCM_API_URL_TEMPLATE, projectId));
+
+            // 📤 전송은 비동기로 처리하고 결과는 로그로 남김 (호출 스레드는 응답을 기다리지 않음)
+            outboundHttpClient.postJson(UPSTREAM, apiUri, Map.of("Authorization", "Bearer " + accessToken),
+                            payload.toString(), null)
+                    .whenComplete((body, ex) -> {
+                        if (ex != null) {
+                            log.error("❌ v1 FCM 푸시 전송 실패 - userId: {}, type: {}", userId, type, ex);
+                        } else {
+                            log.info("✅ v1 FCM 푸시 전송 성공: {}", body);
+                        }
+                    });
 
         } catch (IOException e) {
             throw new NotificationException(NotificationErrorCode.FIREBASE_AUTH_FAILED);
@@ -158,4 +157,23 @@ public class NotificationService {
             throw new NotificationException(NotificationErrorCode.FIREBASE_SEND_FAILED);
         }
     }
+
+    private GoogleCredentials loadCredentials() throws IOException {
+        GoogleCredentials loaded = credentials;
+        if (loaded != null) {
+            return loaded;
+        }
+        synchronized (this) {
+            if (credentials == null) {
+                String credentialsPath = System.getenv("GOOGLE_APPLICATION_CREDENTIALS");
+                if (credentialsPath == null || credentialsPath.isBlank()) {
+                    throw new NotificationException(NotificationErrorCode.FIREBASE_CREDENTIALS_MISSING);
+                }
+                try (FileInputStream in = new FileInputStream(credentialsPath)) {
+                    credentials = GoogleCredentials.fromStream(in).createScoped(List.of(FIREBASE_SCOPE));
+                }
+            }
+            return credentials;
+        }
+    }
 }
@@ -84,11 +84,7 @@ public class BookRecommendByAuthor {
             }
 
             // 3. 사용자의 위시리스트에 있는 알라딘 아이템 ID 목록 가져오기
-            Set<Long> wishListAladinItemIds = wishRepository.findAllByUser(user)
-                    .stream()
-                    .map(wish -> wish.getBook().getItemId())
-                    .filter(Objects::nonNull) // null이 아닌 값만 처리
-                    .collect(Collectors.toSet());
+            Set<Long> wishListAladinItemIds = new HashSet<>(wishRepository.findItemIdsByUserId(user.getUserId()));
 
             // 4. 위시리스트에 없는 책들만 필터링
             List<BookListResponseDto> availableBooks = authorBooks.stream()
@@ -142,11 +138,7 @@ public class BookRecommendByAuthor {
      */
     private List<BookListResponseDto> convertToBookListResponseDto(List<BookResponseDto> books, Users user) {
         // 사용자의 위시리스트에 있는 알라딘 아이템 ID 목록 가져오기
-        Set<Long> wishListAladinItemIds = wishRepository.findAllByUser(user)
-                .stream()
-                .map(wish -> wish.getBook().getItemId())
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        Set<Long> wishListAladinItemIds = new HashSet<>(wishRepository.findItemIdsByUserId(user.getUserId()));
 
         return books.stream()
                 .filter(book -> {
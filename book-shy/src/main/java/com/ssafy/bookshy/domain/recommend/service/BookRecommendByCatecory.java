@@ -33,6 +33,7 @@ public class BookRecommendByCatecory {
     private final AladinClient aladinClient;
     private final WishRepository wishRepository;
     private final UserRepository usersRepository;
+    private final RecommendFanOut recommendFanOut;
 
     /**
      * 사용자 맞춤형 책 추천 메인 메소드
@@ -89,11 +90,7 @@ public class BookRecommendByCatecory {
      */
     private List<BookListResponseDto> selectRandomBooksExcludingWish(List<BookResponseDto> categoryBooks, Users user, int recommendCount) {
         // 사용자의 위시리스트에 있는 책 ID 목록 가져오기 (itemId 사용)
-        Set<Long> wishListItemIds = wishRepository.findAllByUser(user)
-                .stream()
-                .map(wish -> wish.getBook().getItemId())
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        Set<Long> wishListItemIds = new HashSet<>(wishRepository.findItemIdsByUserId(user.getUserId()));
 
         // 위시리스트에 없는 책들만 필터링
         List<BookResponseDto> availableBooks = categoryBooks.stream()
@@ -140,11 +137,7 @@ public class BookRecommendByCatecory {
      */
     private List<BookListResponseDto> convertToBookListResponseDto(List<BookResponseDto> books, Users user) {
         // 사용자의 위시리스트에 있는 책 ID 목록 가져오기
-        Set<Long> wishListItemIds = wishRepository.findAllByUser(user)
-                .stream()
-                .map(wish -> wish.getBook().getItemId())
-                .filter(Objects::nonNull)
-                .collect(Collectors.toSet());
+        Set<Long> wishListItemIds = new HashSet<>(wishRepository.findItemIdsByUserId(user.getUserId()));
 
         return books.stream()
                 .map(book -> BookListResponseDto.builder()
@@ -222,38 +215,59 @@ public class BookRecommendByCatecory {
             return categoryFrequency;
         }
 
-        // 각 책의 카테고리 조회
-        for (Long bookId : bookIds) {
-            try {
-                // PostgreSQL에서 카테고리 조회 (books 테이블의 PK는 book_id)
-                String sql = "SELECT category FROM books WHERE book_id = ?";
-                String category = jdbcTemplate.queryForObject(sql, String.class, bookId);
-
-                if (category != null && !category.isEmpty()) {
-                    // 메인 카테고리 추출 및 빈도수 증가
-                    String mainCategory = extractMainCategory(category);
-                    categoryFrequency.put(mainCategory, categoryFrequency.getOrDefault(mainCategory, 0) + 1);
-                }
-            } catch (Exception e) {
-                log.warn("책 ID {}의 DB 카테고리 조회 실패, 알라딘 API로 시도합니다: {}", bookId, e.getMessage());
-
-                // DB에서 조회 실패 시 알라딘 API로 시도
-                try {
-                    BookResponseDto book = aladinClient.searchByItemIdToDto(bookId);
-                    if (book != null && book.getCategory() != null && !book.getCategory().isEmpty()) {
-                        String mainCategory = extractMainCategory(book.getCategory());
-                        categoryFrequency.put(mainCategory, categoryFrequency.getOrDefault(mainCategory, 0) + 1);
-                    }
-                } catch (Exception apiEx) {
-                    log.error("책 ID {}의 알라딘 API 카테고리 조회도 실패: {}", bookId, apiEx.getMessage());
+        // PostgreSQL에서 카테고리 한 번에 조회 (books 테이블의 PK는 book_id)
+        Map<Long, String> dbCategories = findCategories(bookIds);
+
+        // DB에 없는 책은 알라딘 API로 동시 조회
+        List<Long> missingIds = bookIds.stream()
+                .filter(bookId -> !dbCategories.containsKey(bookId))
+                .distinct()
+                .collect(Collectors.toList());
+        Map<Long, String> apiCategories = new HashMap<>();
+        if (!missingIds.isEmpty()) {
+            log.warn("책 ID {}의 DB 카테고리 조회 실패, 알라딘 API로 시도합니다.", missingIds);
+            for (BookResponseDto book : recommendFanOut.searchByItemIds(missingIds)) {
+                if (book.getItemId() != null && book.getCategory() != null) {
+                    apiCategories.put(book.getItemId(), book.getCategory());
                 }
             }
         }
 
+        // 책마다 메인 카테고리 추출 및 빈도수 증가
+        for (Long bookId : bookIds) {
+            String category = dbCategories.containsKey(bookId) ? dbCategories.get(bookId) : apiCategories.get(bookId);
+            if (category != null && !category.isEmpty()) {
+                String mainCategory = extractMainCategory(category);
+                categoryFrequency.put(mainCategory, categoryFrequency.getOrDefault(mainCategory, 0) + 1);
+            }
+        }
+
         log.info("총 {}개의 카테고리가 발견되었습니다: {}", categoryFrequency.size(), categoryFrequency.keySet());
         return categoryFrequency;
     }
 
+    /**
+     * 책 ID 목록의 카테고리를 한 번의 쿼리로 조회
+     *
+     * @return 책 ID별 카테고리 (DB에 없는 책은 포함되지 않음, 카테고리가 비어 있으면 null)
+     */
+    private Map<Long, String> findCategories(List<Long> bookIds) {
+        Map<Long, String> categories = new HashMap<>();
+        try {
+            List<Long> distinctIds = bookIds.stream().distinct().collect(Collectors.toList());
+            String placeholders = String.join(",", Collections.nCopies(distinctIds.size(), "?"));
+            String sql = "SELECT book_id, category FROM books WHERE book_id IN (" + placeholders + ")";
+            jdbcTemplate.query(sql,
+                    rs -> {
+                        categories.put(rs.getLong("book_id"), rs.getString("category"));
+                    },
+                    distinctIds.toArray());
+        } catch (Exception e) {
+            log.warn("책 카테고리 DB 조회 실패, 알라딘 API로 시도합니다: {}", e.getMessage());
+        }
+        return categories;
+    }
+
     /**
      * 복합 카테고리 문자열에서 메인 카테고리만 추출
      * 예: "소설/시/에세이 > 한국소설" -> "소설"
@@ -26,6 +26,7 @@ public class BookRecommendBySimilar {
 
     private final RestHighLevelClient elasticsearchClient;
     private final AladinClient aladinClient;
+    private final RecommendFanOut recommendFanOut;
 
     /**
      * 유사 사용자 기반 책 추천
@@ -92,18 +93,11 @@ public class BookRecommendBySimilar {
             // 6. 랜덤하게 섞어서 선택
             Collections.shuffle(recommendableBookIds);
 
-            // 7. 요청 개수만큼 선택하고 책 정보 가져오기
-            List<BookResponseDto> result = new ArrayList<>();
-            for (int i = 0; i < Math.min(recommendCount, recommendableBookIds.size()); i++) {
-                try {
-                    BookResponseDto book = aladinClient.searchByItemIdToDto(recommendableBookIds.get(i));
-                    if (book != null && book.getTitle() != null) {
-                        result.add(book);
-                    }
-                } catch (Exception e) {
-                    log.warn("책 정보 조회 실패: {}", e.getMessage());
-                }
-            }
+            // 7. 요청 개수만큼 선택하고 책 정보 동시 조회
+            List<Long> selectedBookIds = recommendableBookIds.subList(0, Math.min(recommendCount, recommendableBookIds.size()));
+            List<BookResponseDto> result = recommendFanOut.searchByItemIds(selectedBookIds).stream()
+                    .filter(book -> book.getTitle() != null)
+                    .collect(Collectors.toList());
 
             // 결과가 없으면 베스트셀러로 대체
             if (result.isEmpty()) {
@@ -3,14 +3,16 @@ package com.ssafy.bookshy.domain.recommend.service;
 import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
 import com.ssafy.bookshy.domain.book.dto.BookListTotalResponseDto;
 import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
-import com.ssafy.bookshy.external.aladin.AladinClient;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
-import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
 
 /**
  * 사용자 맞춤형 책 추천 서비스
@@ -27,35 +29,28 @@ public class BookRecommendationService {
     private static final List<Long> DEFAULT_BOOK_IDS = Arrays.asList(
             615014L, 245127051L, 40869703L, 25843736L, 347098533L
     );
-    private final AladinClient aladinClient;
+    private final RecommendFanOut recommendFanOut;
     private final BookRecommendByCatecory bookRecommendByCatecory;
     private final BookRecommendByAuthor bookRecommendByAuthor;
     private final BookRecommendBySimilar bookRecommendBySimilar;
 
     /**
      * 종합 추천 목록을 가져오는 메소드
-     * 3가지 추천 타입(카테고리, 작가, 유사 유저)의 책을 모두 조회
+     * 3가지 추천 타입(카테고리, 작가, 유사 유저)의 책을 동시에 조회하고, 마감 시간 안에 끝난 결과만 합침
+     * 기본 추천 도서 조회도 함께 시작해 두고, 추천 결과가 없을 때만 사용 (같은 마감 시간 안에서)
      *
      * @param userId 사용자 ID
      * @return 종합 추천 정보
      */
     public BookListTotalResponseDto getAllRecommendations(Long userId) {
-        // 각 추천 타입별로 책 목록 조회
-        List<BookListResponseDto> categoryRecs = bookRecommendByCatecory.getCategoryBasedRecommendations(userId, 4);
-        List<BookListResponseDto> authorRecs = bookRecommendByAuthor.getAuthorBasedRecommendations(userId, 2);
-        List<BookListResponseDto> similarUserRecs = bookRecommendBySimilar.getSimilarUserRecommendations(userId, 4);
-
-        // 모든 추천 결과를 하나의 리스트로 합침
-        List<BookListResponseDto> allRecommendations = new ArrayList<>();
-        allRecommendations.addAll(categoryRecs);
-        allRecommendations.addAll(authorRecs);
-        allRecommendations.addAll(similarUserRecs);
+        // 각 추천 타입별로 책 목록 조회 (결과 순서: 카테고리 → 작가 → 유사 유저)
+        Map<String, Supplier<List<BookListResponseDto>>> sources = new LinkedHashMap<>();
+        sources.put("category", () -> bookRecommendByCatecory.getCategoryBasedRecommendations(userId, 4));
+        sources.put("author", () -> bookRecommendByAuthor.getAuthorBasedRecommendations(userId, 2));
+        sources.put("similar", () -> bookRecommendBySimilar.getSimilarUserRecommendations(userId, 4));
 
         // 추천 결과가 없는 경우 기본 추천 도서 제공
-        if (allRecommendations.isEmpty()) {
-            log.info("사용자 {}에 대한 맞춤 추천 결과가 없어 기본 추천 도서를 제공합니다.", userId);
-            allRecommendations = getDefaultRecommendations();
-        }
+        List<BookListResponseDto> allRecommendations = recommendFanOut.collect(sources, this::getDefaultRecommendations);
 
         // 종합 응답 DTO 생성
         return BookListTotalResponseDto.builder()
@@ -70,27 +65,15 @@ public class BookRecommendationService {
      * @return 기본 추천 도서 목록
      */
     private List<BookListResponseDto> getDefaultRecommendations() {
-        List<BookListResponseDto> defaultBooks = new ArrayList<>();
+        // 기본 추천 도서 ID로 도서 정보 동시 조회
+        List<BookListResponseDto> defaultBooks = recommendFanOut.searchByItemIds(DEFAULT_BOOK_IDS).stream()
+                .filter(book -> book.getItemId() != null)
+                .map(this::convertToBookListResponseDto)
+                .collect(Collectors.toList());
 
-        try {
-            // 기본 추천 도서 ID로 도서 정보 조회
-            for (Long itemId : DEFAULT_BOOK_IDS) {
-                // BookResponseDto를 가져옴
-                BookResponseDto bookResponseDto = aladinClient.searchByItemIdToDto(itemId);
-                if (bookResponseDto != null && bookResponseDto.getItemId() != null) {
-                    // BookResponseDto를 BookListResponseDto로 변환
-                    BookListResponseDto bookListDto = convertToBookListResponseDto(bookResponseDto);
-                    defaultBooks.add(bookListDto);
-                }
-            }
-
-            if (defaultBooks.isEmpty()) {
-                log.warn("기본 추천 도서 정보를 가져오는 데 실패했습니다.");
-            }
-        } catch (Exception e) {
-            log.error("기본 추천 도서 조회 중 오류 발생: {}", e.getMessage(), e);
+        if (defaultBooks.isEmpty()) {
+            log.warn("기본 추천 도서 정보를 가져오는 데 실패했습니다.");
         }
-
         return defaultBooks;
     }
 
@@ -0,0 +1,212 @@
+package com.ssafy.bookshy.domain.recommend.service;
+
+import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
+import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
+import com.ssafy.bookshy.external.aladin.AladinClient;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 🎯 추천 작업 동시 실행 (fan-out)
+ *
+ * - 추천 유형(카테고리/작가/유사 유저)을 recommendExecutor에서 동시에 실행하고, 마감 시간(deadline-ms)까지 끝난 결과만 합칩니다.
+ * - 추천 후보 도서의 알라딘 단건 조회를 recommendLookupExecutor에서 동시에 실행하고, lookup-timeout-ms까지 끝난 결과만 사용합니다.
+ * - 마감 시간을 넘긴 작업은 결과에서 제외할 뿐 중단하지 않으며, 알라딘 응답은 캐시에 남아 다음 요청에서 재사용됩니다.
+ * - 대체 추천(fallback)은 추천 유형과 함께 미리 시작하여 같은 마감 시간을 공유합니다.
+ *   추천 유형이 모두 비었을 때 그제서야 시작하면 응답 시간이 마감 시간 + 조회 제한 시간까지 늘어나기 때문입니다.
+ *   (응답 시간 분포 비교: RecommendFanOutBenchmark)
+ *
+ * 지표: recommend.source (source, outcome=success|late|error|rejected),
+ * recommend.fan-out (result=complete|partial|fallback)
+ */
+@Slf4j
+@Component
+public class RecommendFanOut {
+
+    private final AladinClient aladinClient;
+    private final ThreadPoolTaskExecutor recommendExecutor;
+    private final ThreadPoolTaskExecutor lookupExecutor;
+    private final MeterRegistry meterRegistry;
+    private final long deadlineMs;
+    private final long lookupTimeoutMs;
+
+    public RecommendFanOut(AladinClient aladinClient,
+                           @Qualifier("recommendExecutor") ThreadPoolTaskExecutor recommendExecutor,
+                           @Qualifier("recommendLookupExecutor") ThreadPoolTaskExecutor lookupExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${recommend.fan-out.deadline-ms:3000}") long deadlineMs,
+                           @Value("${recommend.lookup.timeout-ms:2000}") long lookupTimeoutMs) {
+        this.aladinClient = aladinClient;
+        this.recommendExecutor = recommendExecutor;
+        this.lookupExecutor = lookupExecutor;
+        this.meterRegistry = meterRegistry;
+        this.deadlineMs = deadlineMs;
+        this.lookupTimeoutMs = lookupTimeoutMs;
+    }
+
+    /**
+     * 추천 유형별 작업을 동시에 실행하고, 마감 시간 안에 끝난 결과를 등록 순서대로 합쳐 반환합니다.
+     *
+     * @param sources 추천 유형 이름 → 추천 작업 (순서 유지를 위해 LinkedHashMap 권장)
+     * @return 마감 시간 안에 끝난 추천 결과 (끝나지 못했거나 실패한 유형은 제외)
+     */
+    public List<BookListResponseDto> collect(Map<String, Supplier<List<BookListResponseDto>>> sources) {
+        return collect(sources, null);
+    }
+
+    /**
+     * 추천 유형별 작업과 대체 추천을 함께 시작하고, 추천 유형 결과가 모두 비었으면 대체 추천 결과를 반환합니다.
+     * 대체 추천도 같은 마감 시간 안에 끝난 경우에만 사용합니다.
+     *
+     * @param fallback 추천 유형 결과가 없을 때 사용할 추천 (null이면 사용하지 않음)
+     */
+    public List<BookListResponseDto> collect(Map<String, Supplier<List<BookListResponseDto>>> sources,
+                                             Supplier<List<BookListResponseDto>> fallback) {
+        Timer.Sample total = Timer.start(meterRegistry);
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(deadlineMs);
+
+        Map<String, CompletableFuture<List<BookListResponseDto>>> futures = new LinkedHashMap<>();
+        sources.forEach((source, task) -> futures.put(source, submitSource(source, task, deadline)));
+        CompletableFuture<List<BookListResponseDto>> fallbackFuture =
+                fallback != null ? submitSource("fallback", fallback, deadline) : null;
+        awaitUntil(futures.values(), deadline);
+
+        List<BookListResponseDto> books = new ArrayList<>();
+        boolean partial = false;
+        for (Map.Entry<String, CompletableFuture<List<BookListResponseDto>>> entry : futures.entrySet()) {
+            List<BookListResponseDto> result = resultOrNull(entry.getValue());
+            if (result == null) {
+                partial = true;
+                log.warn("⏱️ 추천 유형 {} 결과를 {}ms 안에 받지 못해 제외합니다.", entry.getKey(), deadlineMs);
+                continue;
+            }
+            books.addAll(result);
+        }
+
+        boolean usedFallback = false;
+        if (books.isEmpty() && fallbackFuture != null) {
+            awaitUntil(List.of(fallbackFuture), deadline);
+            List<BookListResponseDto> result = resultOrNull(fallbackFuture);
+            if (result != null) {
+                log.info("추천 유형 결과가 없어 대체 추천 {}권을 사용합니다.", result.size());
+                books.addAll(result);
+                usedFallback = true;
+            } else {
+                log.warn("⏱️ 대체 추천 결과를 {}ms 안에 받지 못했습니다.", deadlineMs);
+            }
+        }
+
+        total.stop(Timer.builder("recommend.fan-out")
+                .tag("result", usedFallback ? "fallback" : partial ? "partial" : "complete")
+                .publishPercentileHistogram()
+                .register(meterRegistry));
+        return books;
+    }
+
+    /**
+     * 알라딘 itemId 목록을 동시에 조회하고, 제한 시간 안에 조회된 도서를 입력 순서대로 반환합니다.
+     * 조회 실패, 시간 초과, 도서 없음은 결과에서 제외합니다.
+     */
+    public List<BookResponseDto> searchByItemIds(List<Long> itemIds) {
+        if (itemIds.isEmpty()) {
+            return List.of();
+        }
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(lookupTimeoutMs);
+
+        List<CompletableFuture<BookResponseDto>> futures = new ArrayList<>(itemIds.size());
+        for (Long itemId : itemIds) {
+            futures.add(submit(lookupExecutor, () -> lookUp(itemId)));
+        }
+        awaitUntil(futures, deadline);
+
+        List<BookResponseDto> books = new ArrayList<>(itemIds.size());
+        for (int i = 0; i < futures.size(); i++) {
+            CompletableFuture<BookResponseDto> future = futures.get(i);
+            BookResponseDto book = resultOrNull(future);
+            if (book != null) {
+                books.add(book);
+            } else if (!future.isDone()) {
+                log.warn("⏱️ 책 ID {} 조회가 {}ms 안에 끝나지 않아 제외합니다.", itemIds.get(i), lookupTimeoutMs);
+            }
+        }
+        return books;
+    }
+
+    private BookResponseDto lookUp(Long itemId) {
+        try {
+            return aladinClient.searchByItemIdToDto(itemId);
+        } catch (Exception e) {
+            log.warn("책 ID {} 조회 실패: {}", itemId, e.getMessage());
+            return null;
+        }
+    }
+
+    private CompletableFuture<List<BookListResponseDto>> submitSource(String source,
+                                                                      Supplier<List<BookListResponseDto>> task,
+                                                                      long deadline) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        CompletableFuture<List<BookListResponseDto>> future = submit(recommendExecutor, task);
+        future.whenComplete((result, e) -> {
+            String outcome;
+            if (e instanceof TaskRejectedException) {
+                outcome = "rejected";
+            } else if (e != null) {
+                outcome = "error";
+                log.error("추천 유형 {} 실행 중 오류 발생: {}", source, e.getMessage());
+            } else {
+                outcome = System.nanoTime() > deadline ? "late" : "success";
+            }
+            sample.stop(Timer.builder("recommend.source")
+                    .tag("source", source)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        });
+        return future;
+    }
+
+    // 풀과 큐가 가득 차 거절되면 실패한 future로 돌려줌 (요청 스레드에서 대신 실행하지 않음)
+    private static <T> CompletableFuture<T> submit(Executor executor, Supplier<T> task) {
+        try {
+            return CompletableFuture.supplyAsync(task, executor);
+        } catch (TaskRejectedException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private static void awaitUntil(Collection<? extends CompletableFuture<?>> futures, long deadline) {
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(Math.max(0, deadline - System.nanoTime()), TimeUnit.NANOSECONDS);
+        } catch (TimeoutException | ExecutionException e) {
+            // 마감 시간 초과 또는 일부 실패: 끝난 결과만 사용
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static <T> T resultOrNull(CompletableFuture<T> future) {
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return null;
+        }
+        return future.join();
+    }
+}
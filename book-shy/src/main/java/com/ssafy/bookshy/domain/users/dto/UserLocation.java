@@ -0,0 +1,7 @@
+package com.ssafy.bookshy.domain.users.dto;
+
+public interface UserLocation {
+    Long getUserId();
+    Double getLatitude();
+    Double getLongitude();
+}
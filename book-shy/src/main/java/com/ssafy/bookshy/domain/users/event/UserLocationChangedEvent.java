@@ -0,0 +1,13 @@
+package com.ssafy.bookshy.domain.users.event;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * 📍 사용자의 주소(위도/경도)가 변경되었을 때 발행되는 이벤트
+ */
+@Getter
+@RequiredArgsConstructor
+public class UserLocationChangedEvent {
+    private final Long userId;
+}
@@ -1,5 +1,6 @@
 package com.ssafy.bookshy.domain.users.repository;
 
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
 import com.ssafy.bookshy.domain.users.entity.Users;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
@@ -18,6 +19,17 @@ public interface UserRepository extends JpaRepository<Users, Long> {
 
     Users findByNickname(String nickname);
 
-    @Query("SELECT u FROM Users u WHERE u.userId <> :userId")
-    List<Users> findAllExcept(@Param("userId") Long userId);
+    /**
+     * 📍 위치가 등록되어 있고 공개 서재 도서가 1권 이상인 사용자들의 좌표 조회 (위치 인덱스 적재용)
+     */
+    @Query("""
+    SELECT u.userId AS userId, u.latitude AS latitude, u.longitude AS longitude FROM Users u
+    WHERE u.latitude IS NOT NULL
+    AND u.longitude IS NOT NULL
+    AND EXISTS (SELECT 1 FROM Library l WHERE l.user = u AND l.isPublic = true)
+    """)
+    List<UserLocation> findLocationsWithPublicLibrary();
+
+    @Query("SELECT u.userId AS userId, u.latitude AS latitude, u.longitude AS longitude FROM Users u WHERE u.userId = :userId")
+    Optional<UserLocation> findLocationByUserId(@Param("userId") Long userId);
 }
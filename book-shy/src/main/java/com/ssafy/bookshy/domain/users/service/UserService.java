@@ -7,9 +7,11 @@ import com.ssafy.bookshy.domain.users.dto.JwtTokenDto;
 import com.ssafy.bookshy.domain.users.dto.UserProfileResponseDto;
 import com.ssafy.bookshy.domain.users.dto.UserProfileUpdateRequestDto;
 import com.ssafy.bookshy.domain.users.entity.Users;
+import com.ssafy.bookshy.domain.users.event.UserLocationChangedEvent;
 import com.ssafy.bookshy.domain.users.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
@@ -24,6 +26,9 @@ import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -36,6 +41,7 @@ public class UserService {
 
     private final UserRepository userRepository;
     private final JwtProvider jwtProvider;
+    private final ApplicationEventPublisher applicationEventPublisher;
 
     /**
      * 🔍 사용자 ID로 사용자 엔티티를 조회합니다.
@@ -79,6 +85,23 @@ public class UserService {
         return getUserById(userId).getNickname();
     }
 
+    /**
+     * 🧑‍🤝‍🧑 여러 사용자의 닉네임을 한 번에 조회합니다.
+     *
+     * @param userIds 사용자 ID 목록
+     * @return Map<사용자 ID, 닉네임> (존재하지 않는 사용자는 제외)
+     */
+    public Map<Long, String> getNicknamesByIds(Collection<Long> userIds) {
+        Map<Long, String> nicknames = new HashMap<>();
+        if (userIds.isEmpty()) {
+            return nicknames;
+        }
+        for (Users user : userRepository.findAllById(userIds)) {
+            nicknames.put(user.getUserId(), user.getNickname());
+        }
+        return nicknames;
+    }
+
     /**
      * 🖼️ 사용자 ID로 프로필 이미지 URL을 조회합니다.
      *
@@ -131,6 +154,8 @@ public class UserService {
                 dto.getLatitude(),
                 dto.getLongitude()
         );
+        applicationEventPublisher.publishEvent(new UserLocationChangedEvent(userId));
+
         String accessToken = jwtProvider.generateToken(user.getNickname(), user.getUserId());
         String refreshToken = jwtProvider.generateRefreshToken(user.getNickname(), user.getUserId());
 
@@ -218,6 +243,7 @@ public class UserService {
                 latitude,
                 longitude
         );
+        applicationEventPublisher.publishEvent(new UserLocationChangedEvent(userId));
     }
 
 }
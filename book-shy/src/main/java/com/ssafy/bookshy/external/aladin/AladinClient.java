@@ -1,19 +1,17 @@
 package com.ssafy.bookshy.external.aladin;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bookshy.common.http.OutboundHttpClient;
 import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
 import com.ssafy.bookshy.domain.book.dto.BookListTotalResponseDto;
 import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
-import org.apache.commons.text.StringEscapeUtils;
 import org.apache.commons.text.similarity.LevenshteinDistance;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
-import org.springframework.web.client.RestTemplate;
 import org.springframework.web.util.UriComponentsBuilder;
 
+import java.net.URI;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -22,8 +20,12 @@ import java.util.List;
 @Slf4j
 public class AladinClient {
 
-    private final RestTemplate restTemplate = new RestTemplate();
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private static final String UPSTREAM = "aladin";
+
+    private final OutboundHttpClient outboundHttpClient;
+    private final AladinResponseParser aladinResponseParser;
+    private final AladinItemCache aladinItemCache;
+    private final AladinSingleFlight aladinSingleFlight;
 
     @Value("${aladin.ttb.key}")
     private String ttbKey;
@@ -31,61 +33,58 @@ public class AladinClient {
     @Value("${aladin.api.base-url}")
     private String baseUrl;
 
-    public JsonNode searchByItemId(Long itemId) {
+    /**
+     * 📖 itemId로 도서 조회 (AladinItemCache 경유)
+     *
+     * @throws AladinException 도서가 없으면 ITEM_NOT_FOUND, 호출/파싱 실패 시 API_CALL_FAILED
+     */
+    public BookResponseDto searchByItemIdToDto(Long itemId) {
+        return BookResponseDto.fromAladin(cachedItem("itemId:" + itemId, "ItemId", String.valueOf(itemId)));
+    }
+
+    public BookResponseDto searchByIsbn13(String isbn13) {
+        return BookResponseDto.fromAladin(cachedItem("isbn13:" + isbn13, "ISBN13", isbn13), false);
+    }
+
+    private AladinItem cachedItem(String cacheKey, String itemIdType, String itemId) {
+        AladinItem item = aladinItemCache.get(cacheKey, () -> lookUp(itemIdType, itemId));
+        if (item == null) {
+            throw new AladinException(AladinErrorCode.ITEM_NOT_FOUND);
+        }
+        return item;
+    }
+
+    // 단건 조회 원본 호출 (응답은 여기서 한 번만 파싱): 도서가 없으면 null (캐시에서 ITEM_NOT_FOUND로 기억)
+    private AladinItem lookUp(String itemIdType, String itemId) {
         try {
             String url = UriComponentsBuilder
                     .fromHttpUrl(baseUrl + "/ItemLookUp.aspx")
                     .queryParam("ttbkey", ttbKey)
-                    .queryParam("ItemIdType", "ItemId")
+                    .queryParam("ItemIdType", itemIdType)
                     .queryParam("ItemId", itemId)
                     .queryParam("OptResult", "bookinfo")
                     .queryParam("output", "js")
+                    .build()
                     .toUriString();
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
-            return objectMapper.readTree(clean);
+            List<AladinItem> items = aladinResponseParser.parseItems(fetch("ItemLookUp", itemIdType + "=" + itemId, url));
+            return items.isEmpty() ? null : items.get(0);
         } catch (Exception e) {
             throw new AladinException(AladinErrorCode.API_CALL_FAILED);
         }
     }
 
-    public BookResponseDto searchByIsbn13(String isbn13) {
+    private List<BookResponseDto> parseBooks(byte[] body) {
         try {
-            String url = String.format(
-                    "%s/ItemLookUp.aspx?ttbkey=%s&ItemIdType=ISBN13&ItemId=%s&OptResult=bookinfo&output=js",
-                    baseUrl, ttbKey, isbn13
-            );
-
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
-
-            JsonNode root = objectMapper.readTree(clean);
-            JsonNode itemArray = root.path("item");
-            if (itemArray.isArray() && itemArray.size() > 0) {
-                JsonNode item = itemArray.get(0);
-                return BookResponseDto.fromAladin(item, false);
-            }
-
-            throw new AladinException(AladinErrorCode.ITEM_NOT_FOUND);
-
-        } catch (AladinException ae) {
-            throw ae;
+            return aladinResponseParser.parseBooks(body);
         } catch (Exception e) {
             throw new AladinException(AladinErrorCode.API_CALL_FAILED);
         }
     }
 
-    public BookResponseDto searchByItemIdToDto(Long itemId) {
+    private List<BookListResponseDto> parseBookList(byte[] body) {
         try {
-            JsonNode node = this.searchByItemId(itemId);
-            JsonNode itemArray = node.path("item");
-            if (itemArray.isArray() && itemArray.size() > 0) {
-                return BookResponseDto.fromAladin(itemArray.get(0));
-            }
-            throw new AladinException(AladinErrorCode.ITEM_NOT_FOUND);
-        } catch (AladinException ae) {
-            throw ae;
+            return aladinResponseParser.parseBookList(body);
         } catch (Exception e) {
             throw new AladinException(AladinErrorCode.API_CALL_FAILED);
         }
@@ -99,17 +98,12 @@ public class AladinClient {
         try {
             String url = String.format(
                     "%s/ItemSearch.aspx?ttbkey=%s&Query=%s&QueryType=Title&MaxResults=50&Sort=Accuracy&output=js",
-                    baseUrl, ttbKey, query
+                    baseUrl, ttbKey, normalizeQuery(query)
             );
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
+            byte[] body = fetch("ItemSearch", "Title|" + normalizeQuery(query), url);
 
-            JsonNode items = objectMapper.readTree(clean).path("item");
-            List<BookResponseDto> list = new ArrayList<>();
-            for (JsonNode it : items) {
-                list.add(BookResponseDto.fromAladin(it));
-            }
+            List<BookResponseDto> list = parseBooks(body);
 
             if (list.isEmpty()) {
                 throw new AladinException(AladinErrorCode.NO_SEARCH_RESULT);
@@ -132,14 +126,11 @@ public class AladinClient {
         try {
             String url = String.format(
                     "%s/ItemSearch.aspx?ttbkey=%s&Query=%s&QueryType=Keyword&SearchTarget=Book&MaxResults=50&Start=%d&OptResult=bookinfo&Sort=Accuracy&output=js",
-                    baseUrl, ttbKey, query, start
+                    baseUrl, ttbKey, normalizeQuery(query), start
             );
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
+            byte[] body = fetch("ItemSearch", "Keyword|" + normalizeQuery(query) + "|" + start, url);
 
-            JsonNode root = objectMapper.readTree(clean);
-            JsonNode items = root.path("item");
             List<BookListResponseDto> result = new ArrayList<>();
 
             String[] tokens = tokenizeQuery(query);
@@ -150,10 +141,10 @@ public class AladinClient {
 
             String queryChosung = extractChosung(queryNormalized);
 
-            for (JsonNode it : items) {
-                String title = it.path("title").asText("").toLowerCase();
-                String author = it.path("author").asText("").toLowerCase();
-                String publisher = it.path("publisher").asText("").toLowerCase();
+            for (BookListResponseDto book : parseBookList(body)) {
+                String title = lowerOrEmpty(book.getTitle());
+                String author = lowerOrEmpty(book.getAuthor());
+                String publisher = lowerOrEmpty(book.getPublisher());
 
                 String titleNormalized = title.replaceAll("\\s+", "");
                 String authorNormalized = author.replaceAll("\\s+", "");
@@ -201,7 +192,7 @@ public class AladinClient {
                 }
 
                 if (match) {
-                    result.add(BookListResponseDto.from(it));
+                    result.add(book);
                 }
             }
 
@@ -225,22 +216,18 @@ public class AladinClient {
         try {
             String url = String.format(
                     "%s/ItemSearch.aspx?ttbkey=%s&Query=%s&QueryType=Keyword&SearchTarget=Book&MaxResults=50&Start=%d&OptResult=bookinfo&Sort=Accuracy&output=js",
-                    baseUrl, ttbKey, query, start
+                    baseUrl, ttbKey, normalizeQuery(query), start
             );
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
-
-            JsonNode root = objectMapper.readTree(clean);
-            JsonNode items = root.path("item");
+            byte[] body = fetch("ItemSearch", "Keyword|" + normalizeQuery(query) + "|" + start, url);
 
             List<BookListResponseDto> result = new ArrayList<>();
             String[] tokens = tokenizeQuery(query);
 
-            for (JsonNode it : items) {
-                String title = it.path("title").asText("").toLowerCase();
-                String author = it.path("author").asText("").toLowerCase();
-                String publisher = it.path("publisher").asText("").toLowerCase();
+            for (BookListResponseDto book : parseBookList(body)) {
+                String title = lowerOrEmpty(book.getTitle());
+                String author = lowerOrEmpty(book.getAuthor());
+                String publisher = lowerOrEmpty(book.getPublisher());
 
                 boolean allMatch = true;
                 for (String token : tokens) {
@@ -251,7 +238,7 @@ public class AladinClient {
                 }
 
                 if (allMatch) {
-                    result.add(BookListResponseDto.from(it));
+                    result.add(book);
                 }
             }
 
@@ -270,26 +257,21 @@ public class AladinClient {
         }
 
         try {
+            String normalizedCategory = normalizeQuery(category);
+            int maxResults = Math.min(count * 2, 50);
             String url = String.format(
                     "%s/ItemSearch.aspx?ttbkey=%s&Query=%s&QueryType=Keyword&SearchTarget=Book&MaxResults=%d&Start=1&Sort=SalesPoint&output=js&OptResult=bookinfo",
-                    baseUrl, ttbKey, category, Math.min(count * 2, 50)
+                    baseUrl, ttbKey, normalizedCategory, maxResults
             );
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
-
-            JsonNode root = objectMapper.readTree(clean);
-            JsonNode items = root.path("item");
+            byte[] body = fetch("ItemSearch", "SalesPoint|" + normalizedCategory + "|" + maxResults, url);
 
             List<BookResponseDto> recommendedBooks = new ArrayList<>();
 
-            if (items.isArray() && items.size() > 0) {
-                for (JsonNode item : items) {
-                    BookResponseDto book = BookResponseDto.fromAladin(item);
-                    if (book.getIsbn13() != null && !book.getIsbn13().isEmpty()) {
-                        recommendedBooks.add(book);
-                        if (recommendedBooks.size() >= count) break;
-                    }
+            for (BookResponseDto book : parseBooks(body)) {
+                if (book.getIsbn13() != null && !book.getIsbn13().isEmpty()) {
+                    recommendedBooks.add(book);
+                    if (recommendedBooks.size() >= count) break;
                 }
             }
 
@@ -309,16 +291,11 @@ public class AladinClient {
                     baseUrl, ttbKey, count
             );
 
-            String raw = restTemplate.getForObject(url, String.class);
-            String clean = preprocessResponse(raw);
-
-            JsonNode root = objectMapper.readTree(clean);
-            JsonNode items = root.path("item");
+            byte[] body = fetch("ItemList", "Bestseller|" + count, url);
 
             List<BookResponseDto> recommendedBooks = new ArrayList<>();
 
-            for (JsonNode item : items) {
-                BookResponseDto book = BookResponseDto.fromAladin(item);
+            for (BookResponseDto book : parseBooks(body)) {
                 recommendedBooks.add(book);
                 if (recommendedBooks.size() >= count) break;
             }
@@ -332,11 +309,22 @@ public class AladinClient {
         }
     }
 
-    private String preprocessResponse(String raw) {
-        return StringEscapeUtils.unescapeHtml4(raw)
-                .replace("\\'", "'")
-                .replaceAll("[\\n\\r\\t]", " ")
-                .replaceAll("[\\u0000-\\u001F]", " ");
+    // 같은 요청이 동시에 들어오면 알라딘 호출 한 번의 응답을 함께 사용
+    // 연결 풀·시간 제한은 OutboundHttpClient 설정을 따름 (시간 초과 시 API_CALL_FAILED)
+    // 본문은 문자열로 바꾸지 않고 바이트 그대로 파서에 넘김
+    private byte[] fetch(String endpoint, String params, String url) {
+        URI uri = UriComponentsBuilder.fromUriString(url).build().encode().toUri();
+        return aladinSingleFlight.execute(endpoint, endpoint + "?" + params,
+                () -> outboundHttpClient.getBytes(UPSTREAM, uri).join());
+    }
+
+    // 앞뒤 공백 제거 + 연속 공백 하나로 (같은 검색어는 같은 키·같은 요청)
+    private String normalizeQuery(String query) {
+        return query == null ? "" : query.trim().replaceAll("\\s+", " ");
+    }
+
+    private String lowerOrEmpty(String value) {
+        return value == null ? "" : value.toLowerCase();
     }
 
     private String[] tokenizeQuery(String query) {
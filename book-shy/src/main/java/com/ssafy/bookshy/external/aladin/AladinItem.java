@@ -0,0 +1,21 @@
+package com.ssafy.bookshy.external.aladin;
+
+/**
+ * 📖 알라딘 응답의 item 한 건에서 사용하는 필드만 담은 값
+ *
+ * 문자열 필드는 HTML 엔티티 디코딩과 제어 문자 치환이 끝난 상태입니다.
+ * itemPage는 bookinfo(없으면 subInfo)의 쪽수이며, 0 이하이면 null입니다.
+ */
+public record AladinItem(
+        long itemId,
+        String title,
+        String author,
+        String publisher,
+        String cover,
+        String description,
+        String pubDate,
+        String categoryName,
+        String isbn13,
+        Integer itemPage
+) {
+}
@@ -0,0 +1,224 @@
+package com.ssafy.bookshy.external.aladin;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * 📚 알라딘 도서 메타데이터 2단 캐시 (itemId / ISBN13 단건 조회)
+ *
+ * - 파싱이 끝난 AladinItem을 보관하므로 조회 시 알라딘 응답을 다시 파싱하지 않습니다.
+ * - 1단: 프로세스 내 Caffeine(W-TinyLFU) 캐시, 최대 local.max-size건 (AladinItem 객체 그대로)
+ * - 2단: Redis (aladin:item:v2:{키}), 서버 간 공유 (AladinItem JSON)
+ * - 조회 후 refresh-after가 지난 항목은 기존 값을 그대로 반환하고 백그라운드에서 다시 불러옵니다. (stale-while-revalidate)
+ * - 도서가 없는 응답(ITEM_NOT_FOUND)은 negative-ttl 동안 캐시하여 같은 ID로 반복 호출하지 않습니다.
+ * - API 호출 실패는 캐시하지 않습니다.
+ *
+ * 지표: aladin.cache.gets (result=local_hit|redis_hit|miss), aladin.cache.load (result=found|not_found|error),
+ * aladin.item.local.* (Caffeine 통계)
+ */
+@Slf4j
+@Component
+public class AladinItemCache {
+
+    // v1은 알라딘 응답 원문을 저장하던 형식
+    private static final String KEY_PREFIX = "aladin:item:v2:";
+
+    private final RedisTemplate<String, String> redisTemplate;
+    private final ObjectReader itemReader;
+    private final ObjectWriter itemWriter;
+    private final ThreadPoolTaskExecutor refreshExecutor;
+    private final MeterRegistry meterRegistry;
+    private final Cache<String, Entry> local;
+    private final Set<String> refreshing = ConcurrentHashMap.newKeySet();
+
+    private final Duration ttl;
+    private final Duration negativeTtl;
+    private final Duration refreshAfter;
+
+    private final Counter localHits;
+    private final Counter redisHits;
+    private final Counter misses;
+
+    public AladinItemCache(RedisTemplate<String, String> redisTemplate,
+                           ObjectMapper objectMapper,
+                           @Qualifier("aladinRefreshExecutor") ThreadPoolTaskExecutor refreshExecutor,
+                           MeterRegistry meterRegistry,
+                           @Value("${aladin.cache.local.max-size:10000}") long localMaxSize,
+                           @Value("${aladin.cache.local.ttl-seconds:3600}") long localTtlSeconds,
+                           @Value("${aladin.cache.ttl-seconds:604800}") long ttlSeconds,
+                           @Value("${aladin.cache.negative-ttl-seconds:600}") long negativeTtlSeconds,
+                           @Value("${aladin.cache.refresh-after-seconds:21600}") long refreshAfterSeconds) {
+        this.redisTemplate = redisTemplate;
+        this.itemReader = objectMapper.readerFor(AladinItem.class);
+        this.itemWriter = objectMapper.writerFor(AladinItem.class);
+        this.refreshExecutor = refreshExecutor;
+        this.meterRegistry = meterRegistry;
+        this.ttl = Duration.ofSeconds(ttlSeconds);
+        this.negativeTtl = Duration.ofSeconds(negativeTtlSeconds);
+        this.refreshAfter = Duration.ofSeconds(refreshAfterSeconds);
+
+        Duration localTtl = Duration.ofSeconds(localTtlSeconds);
+        this.local = Caffeine.newBuilder()
+                .maximumSize(localMaxSize)
+                .expireAfter(new Expiry<String, Entry>() {
+                    @Override
+                    public long expireAfterCreate(String key, Entry entry, long currentTime) {
+                        return (entry.isNotFound() ? negativeTtl : localTtl).toNanos();
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String key, Entry entry, long currentTime, long currentDuration) {
+                        return expireAfterCreate(key, entry, currentTime);
+                    }
+
+                    @Override
+                    public long expireAfterRead(String key, Entry entry, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, local, "aladin.item.local");
+
+        this.localHits = gets("local_hit");
+        this.redisHits = gets("redis_hit");
+        this.misses = gets("miss");
+    }
+
+    /**
+     * 🔍 캐시에서 조회하고, 없으면 loader로 불러와 두 단계에 모두 저장합니다.
+     *
+     * @param key    조회 키 (예: "itemId:123", "isbn13:978...")
+     * @param loader 알라딘에서 도서를 불러옴, 도서가 없으면 null
+     * @return 도서 (없으면 null)
+     */
+    public AladinItem get(String key, Supplier<AladinItem> loader) {
+        Entry entry = local.getIfPresent(key);
+        if (entry != null) {
+            localHits.increment();
+        } else {
+            entry = readRedis(key);
+            if (entry != null) {
+                redisHits.increment();
+                local.put(key, entry);
+            } else {
+                misses.increment();
+                return load(key, loader).item();
+            }
+        }
+
+        if (!entry.isNotFound() && entry.isOlderThan(refreshAfter)) {
+            refreshAsync(key, loader);
+        }
+        return entry.item();
+    }
+
+    private Entry load(String key, Supplier<AladinItem> loader) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String result = "error";
+        try {
+            Entry entry = new Entry(loader.get(), System.currentTimeMillis());
+            result = entry.isNotFound() ? "not_found" : "found";
+            local.put(key, entry);
+            writeRedis(key, entry);
+            return entry;
+        } finally {
+            sample.stop(Timer.builder("aladin.cache.load")
+                    .tag("result", result)
+                    .register(meterRegistry));
+        }
+    }
+
+    // 같은 키는 한 번만 다시 불러오며, 실패하면 기존 값을 유지
+    private void refreshAsync(String key, Supplier<AladinItem> loader) {
+        if (!refreshing.add(key)) {
+            return;
+        }
+        try {
+            refreshExecutor.execute(() -> {
+                try {
+                    load(key, loader);
+                } catch (Exception e) {
+                    log.warn("⚠️ 알라딘 캐시 갱신 실패, 기존 값 유지 - key: {}, reason: {}", key, e.getMessage());
+                } finally {
+                    refreshing.remove(key);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            refreshing.remove(key);
+        }
+    }
+
+    private Entry readRedis(String key) {
+        try {
+            return decode(redisTemplate.opsForValue().get(KEY_PREFIX + key));
+        } catch (Exception e) {
+            log.warn("⚠️ 알라딘 캐시 Redis 조회 실패 - key: {}, reason: {}", key, e.getMessage());
+            return null;
+        }
+    }
+
+    private void writeRedis(String key, Entry entry) {
+        try {
+            redisTemplate.opsForValue().set(KEY_PREFIX + key, encode(entry), entry.isNotFound() ? negativeTtl : ttl);
+        } catch (Exception e) {
+            log.warn("⚠️ 알라딘 캐시 Redis 저장 실패 - key: {}, reason: {}", key, e.getMessage());
+        }
+    }
+
+    private Counter gets(String result) {
+        return Counter.builder("aladin.cache.gets")
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    // Redis 값: "불러온 시각(ms)|AladinItem JSON" (도서가 없으면 JSON 부분이 빈 문자열)
+    private String encode(Entry entry) throws JsonProcessingException {
+        return entry.loadedAt() + "|" + (entry.item() != null ? itemWriter.writeValueAsString(entry.item()) : "");
+    }
+
+    private Entry decode(String value) throws JsonProcessingException {
+        if (value == null) {
+            return null;
+        }
+        int separator = value.indexOf('|');
+        String json = value.substring(separator + 1);
+        AladinItem item = json.isEmpty() ? null : itemReader.readValue(json);
+        return new Entry(item, Long.parseLong(value.substring(0, separator)));
+    }
+
+    /**
+     * 캐시 항목: 도서(없으면 null) + 불러온 시각
+     */
+    private record Entry(AladinItem item, long loadedAt) {
+
+        boolean isNotFound() {
+            return item == null;
+        }
+
+        boolean isOlderThan(Duration age) {
+            return System.currentTimeMillis() - loadedAt > age.toMillis();
+        }
+    }
+}
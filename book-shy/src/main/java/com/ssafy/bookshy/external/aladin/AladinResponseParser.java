@@ -0,0 +1,257 @@
+package com.ssafy.bookshy.external.aladin;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonFactoryBuilder;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
+import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
+import org.apache.commons.text.StringEscapeUtils;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * 🧾 알라딘 응답(output=js) 스트리밍 파서
+ *
+ * - 응답 본문을 문자열로 만들지 않고 바이트에서 바로 토큰을 읽습니다. (문자셋은 Jackson이 자동 감지, 알라딘은 UTF-8)
+ * - item 한 건의 필드는 파싱마다 하나만 만드는 ItemFields에 모았다가 응답 DTO로 바로 옮깁니다.
+ *   목록 DTO에 쓰지 않는 필드(pubDate, categoryName, isbn13, 쪽수)는 문자열로 만들지 않고 건너뜁니다.
+ * - 알라딘 응답의 비표준 표현은 파서 설정으로 허용합니다.
+ *   (문자열 안의 \' 같은 임의 escape, 문자열 안의 줄바꿈·탭 등 escape되지 않은 제어 문자)
+ * - HTML 엔티티 디코딩과 제어 문자 → 공백 치환은 응답 전체가 아닌, 사용하는 문자열 필드에만 적용합니다.
+ *
+ * 모든 메서드는 item이 없으면(오류 응답 포함) 빈 목록을 반환하고, JSON 형식이 아니면 IOException을 던집니다.
+ */
+@Component
+public class AladinResponseParser {
+
+    private final JsonFactory jsonFactory = new JsonFactoryBuilder()
+            .enable(JsonReadFeature.ALLOW_BACKSLASH_ESCAPING_ANY_CHARACTER)
+            .enable(JsonReadFeature.ALLOW_UNESCAPED_CONTROL_CHARS)
+            .build();
+
+    /**
+     * 단건 조회(ItemLookUp)용: AladinItemCache에 저장할 AladinItem 목록
+     */
+    public List<AladinItem> parseItems(byte[] body) throws IOException {
+        return parse(jsonFactory.createParser(body), true, ItemFields::toItem);
+    }
+
+    /**
+     * 검색·추천용: BookResponseDto 목록 (isLiked = false)
+     */
+    public List<BookResponseDto> parseBooks(byte[] body) throws IOException {
+        return parse(jsonFactory.createParser(body), true, ItemFields::toBook);
+    }
+
+    /**
+     * 목록 검색용: BookListResponseDto 목록
+     */
+    public List<BookListResponseDto> parseBookList(byte[] body) throws IOException {
+        return parse(jsonFactory.createParser(body), false, ItemFields::toBookListItem);
+    }
+
+    // 문자열 본문 경로 (바이트 경로와의 비교 벤치마크·테스트용)
+    List<AladinItem> parseItems(String body) throws IOException {
+        return parse(jsonFactory.createParser(body), true, ItemFields::toItem);
+    }
+
+    private <T> List<T> parse(JsonParser source, boolean detail, Function<ItemFields, T> mapper) throws IOException {
+        List<T> items = new ArrayList<>();
+        try (JsonParser parser = source) {
+            if (parser.nextToken() != JsonToken.START_OBJECT) {
+                return items;
+            }
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String name = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if ("item".equals(name) && value == JsonToken.START_ARRAY) {
+                    readItemArray(parser, detail, mapper, items);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+        }
+        return items;
+    }
+
+    private <T> void readItemArray(JsonParser parser, boolean detail, Function<ItemFields, T> mapper,
+                                   List<T> items) throws IOException {
+        ItemFields fields = new ItemFields();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY && token != null) {
+            if (token == JsonToken.START_OBJECT) {
+                fields.reset();
+                readItem(parser, detail, fields);
+                items.add(mapper.apply(fields));
+            } else {
+                parser.skipChildren();
+            }
+        }
+    }
+
+    // START_OBJECT에서 시작해 END_OBJECT까지 읽음 (detail = false이면 목록 DTO에 쓰는 필드만)
+    private void readItem(JsonParser parser, boolean detail, ItemFields fields) throws IOException {
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            switch (name) {
+                case "itemId" -> fields.itemId = parser.getValueAsLong(0L);
+                case "title" -> fields.title = text(parser);
+                case "author" -> fields.author = text(parser);
+                case "publisher" -> fields.publisher = text(parser);
+                case "cover" -> fields.cover = text(parser);
+                case "description" -> fields.description = text(parser);
+                default -> {
+                    if (detail) {
+                        readDetail(parser, name, fields);
+                    } else {
+                        parser.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private void readDetail(JsonParser parser, String name, ItemFields fields) throws IOException {
+        switch (name) {
+            case "pubDate" -> fields.pubDate = text(parser);
+            case "categoryName" -> fields.categoryName = text(parser);
+            case "isbn13" -> fields.isbn13 = text(parser);
+            case "bookinfo" -> {
+                fields.hasBookinfo = true;
+                fields.bookinfoPage = itemPage(parser);
+            }
+            case "subInfo" -> fields.subInfoPage = itemPage(parser);
+            default -> parser.skipChildren();
+        }
+    }
+
+    // bookinfo / subInfo 객체의 itemPage (0 이하이면 null)
+    private Integer itemPage(JsonParser parser) throws IOException {
+        if (parser.currentToken() != JsonToken.START_OBJECT) {
+            parser.skipChildren();
+            return null;
+        }
+        int page = 0;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String name = parser.currentName();
+            parser.nextToken();
+            if ("itemPage".equals(name)) {
+                page = parser.getValueAsInt(0);
+            } else {
+                parser.skipChildren();
+            }
+        }
+        return page > 0 ? page : null;
+    }
+
+    private String text(JsonParser parser) throws IOException {
+        JsonToken token = parser.currentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            parser.skipChildren();
+            return null;
+        }
+        return sanitize(parser.getText());
+    }
+
+    // HTML 엔티티 디코딩 후 제어 문자(U+0000~U+001F)를 공백으로 치환, 해당 문자가 없으면 원본 그대로 반환
+    private static String sanitize(String value) {
+        if (value.indexOf('&') >= 0) {
+            value = StringEscapeUtils.unescapeHtml4(value);
+        }
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) < 0x20) {
+                return replaceControlChars(value);
+            }
+        }
+        return value;
+    }
+
+    private static String replaceControlChars(String value) {
+        char[] chars = value.toCharArray();
+        for (int i = 0; i < chars.length; i++) {
+            if (chars[i] < 0x20) {
+                chars[i] = ' ';
+            }
+        }
+        return new String(chars);
+    }
+
+    // item 한 건을 읽는 동안의 필드 (파싱마다 하나를 만들어 item마다 초기화해 재사용)
+    private static final class ItemFields {
+        long itemId;
+        String title;
+        String author;
+        String publisher;
+        String cover;
+        String description;
+        String pubDate;
+        String categoryName;
+        String isbn13;
+        Integer bookinfoPage;
+        Integer subInfoPage;
+        boolean hasBookinfo;
+
+        void reset() {
+            itemId = 0L;
+            title = null;
+            author = null;
+            publisher = null;
+            cover = null;
+            description = null;
+            pubDate = null;
+            categoryName = null;
+            isbn13 = null;
+            bookinfoPage = null;
+            subInfoPage = null;
+            hasBookinfo = false;
+        }
+
+        // bookinfo의 쪽수, bookinfo가 없으면 subInfo의 쪽수
+        Integer itemPage() {
+            return hasBookinfo ? bookinfoPage : subInfoPage;
+        }
+
+        AladinItem toItem() {
+            return new AladinItem(itemId, title, author, publisher, cover, description, pubDate,
+                    categoryName, isbn13, itemPage());
+        }
+
+        // BookResponseDto.fromAladin(AladinItem)과 같은 매핑
+        BookResponseDto toBook() {
+            return BookResponseDto.builder()
+                    .itemId        (itemId)
+                    .title         (title)
+                    .author        (author)
+                    .publisher     (publisher)
+                    .coverImageUrl (cover)
+                    .description   (description)
+                    .pubDate       (pubDate)
+                    .category      (BookResponseDto.extractMiddleCategory(categoryName))
+                    .pageCount     (itemPage())
+                    .isbn13        (isbn13)
+                    .isLiked(false)
+                    .build();
+        }
+
+        BookListResponseDto toBookListItem() {
+            return BookListResponseDto.builder()
+                    .itemId(itemId)
+                    .title(title)
+                    .author(author)
+                    .publisher(publisher)
+                    .coverImageUrl(cover)
+                    .description(description)
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.bookshy.external.aladin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * 🛬 알라딘 동일 요청 합치기 (single-flight)
+ *
+ * - 같은 키(엔드포인트 + 정규화된 파라미터)의 호출이 진행 중이면 새로 호출하지 않고 그 결과를 함께 받습니다.
+ * - 먼저 도착한 요청(leader)이 자기 스레드에서 호출하고, 나머지(follower)는 leader 호출이 시간 제한으로 끝날 때까지 기다립니다.
+ *   대기 시간 = 풀 대기 + 연결 + 응답 시간 제한(http.client.*) + 여유(wait-slack-ms)
+ *   (더 짧으면 leader는 아직 정상적으로 기다리는 중인데 follower만 먼저 실패함)
+ * - 결과는 공유만 하고 보관하지 않습니다. (보관은 AladinItemCache 담당)
+ *
+ * 지표: aladin.singleflight.calls (endpoint, role=leader|follower), aladin.singleflight.timeouts (endpoint)
+ * 키 단위 태그는 카디널리티가 무한하므로 엔드포인트 단위로 집계합니다.
+ */
+@Slf4j
+@Component
+public class AladinSingleFlight {
+
+    private final MeterRegistry meterRegistry;
+    private final ConcurrentHashMap<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+    private final long waitMs;
+
+    public AladinSingleFlight(MeterRegistry meterRegistry,
+                              @Value("${http.client.pool-timeout-ms:1000}") long poolTimeoutMs,
+                              @Value("${http.client.connect-timeout-ms:2000}") long connectTimeoutMs,
+                              @Value("${http.client.response-timeout-ms:5000}") long responseTimeoutMs,
+                              @Value("${aladin.single-flight.wait-slack-ms:500}") long waitSlackMs) {
+        this.meterRegistry = meterRegistry;
+        this.waitMs = poolTimeoutMs + connectTimeoutMs + responseTimeoutMs + waitSlackMs;
+    }
+
+    /**
+     * @param endpoint 알라딘 엔드포인트 (지표 태그)
+     * @param key      같은 응답을 돌려받는 요청끼리 같은 키
+     * @param call     실제 호출
+     * @throws AladinException follower가 대기 시간 안에 결과를 받지 못한 경우 API_CALL_FAILED
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String endpoint, String key, Supplier<T> call) {
+        CompletableFuture<Object> mine = new CompletableFuture<>();
+        CompletableFuture<Object> existing = inFlight.putIfAbsent(key, mine);
+
+        if (existing == null) {
+            count(endpoint, "leader");
+            try {
+                T result = call.get();
+                mine.complete(result);
+                return result;
+            } catch (RuntimeException e) {
+                mine.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(key, mine);
+            }
+        }
+
+        count(endpoint, "follower");
+        try {
+            return (T) existing.get(waitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            Counter.builder("aladin.singleflight.timeouts")
+                    .tag("endpoint", endpoint)
+                    .register(meterRegistry)
+                    .increment();
+            log.warn("⚠️ 알라딘 동일 요청 대기 시간 초과 - key: {}", key);
+            throw new AladinException(AladinErrorCode.API_CALL_FAILED);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            throw new AladinException(AladinErrorCode.API_CALL_FAILED);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AladinException(AladinErrorCode.API_CALL_FAILED);
+        }
+    }
+
+    long waitMs() {
+        return waitMs;
+    }
+
+    private void count(String endpoint, String role) {
+        Counter.builder("aladin.singleflight.calls")
+                .tag("endpoint", endpoint)
+                .tag("role", role)
+                .register(meterRegistry)
+                .increment();
+    }
+}
@@ -4,6 +4,7 @@ import com.ssafy.bookshy.kafka.dto.*;
 import lombok.RequiredArgsConstructor;
 import org.apache.kafka.clients.consumer.ConsumerConfig;
 import org.apache.kafka.clients.producer.ProducerConfig;
+import org.apache.kafka.common.TopicPartition;
 import org.apache.kafka.common.serialization.StringDeserializer;
 import org.apache.kafka.common.serialization.StringSerializer;
 import org.springframework.context.annotation.Bean;
@@ -13,7 +14,10 @@ import org.springframework.kafka.annotation.EnableKafka;
 import org.springframework.kafka.config.ConcurrentKafkaListenerContainerFactory;
 import org.springframework.kafka.core.*;
 import org.springframework.kafka.listener.ContainerProperties;
+import org.springframework.kafka.listener.DeadLetterPublishingRecoverer;
+import org.springframework.kafka.listener.DefaultErrorHandler;
 import org.springframework.kafka.support.serializer.JsonDeserializer;
+import org.springframework.kafka.support.ExponentialBackOffWithMaxRetries;
 import org.springframework.kafka.support.serializer.JsonSerializer;
 
 import java.util.HashMap;
@@ -41,6 +45,17 @@ public class KafkaConfig {
         props.put(ProducerConfig.KEY_SERIALIZER_CLASS_CONFIG, StringSerializer.class);
         props.put(ProducerConfig.VALUE_SERIALIZER_CLASS_CONFIG, JsonSerializer.class);
         props.put(JsonSerializer.ADD_TYPE_INFO_HEADERS, false); // 타입 헤더 생략
+        // 기본 파티셔너: 키가 있으면 murmur2 해시로 파티션 고정 (채팅방/매칭 단위 순서 보장)
+        props.put(ProducerConfig.PARTITIONER_IGNORE_KEYS_CONFIG, false);
+
+        // 배치·압축·멱등성 (kafka.producer.*로 조정)
+        props.put(ProducerConfig.LINGER_MS_CONFIG, env.getProperty("kafka.producer.linger-ms", Integer.class, 5));
+        props.put(ProducerConfig.BATCH_SIZE_CONFIG, env.getProperty("kafka.producer.batch-size", Integer.class, 32_768));
+        props.put(ProducerConfig.COMPRESSION_TYPE_CONFIG, env.getProperty("kafka.producer.compression-type", "lz4"));
+        props.put(ProducerConfig.ENABLE_IDEMPOTENCE_CONFIG, env.getProperty("kafka.producer.idempotence", Boolean.class, true));
+        props.put(ProducerConfig.ACKS_CONFIG, "all"); // 멱등성 필수 조건
+        // 브로커 장애 시 send()가 메타데이터·버퍼 대기로 요청 스레드를 오래 막지 않도록 제한
+        props.put(ProducerConfig.MAX_BLOCK_MS_CONFIG, env.getProperty("kafka.producer.max-block-ms", Integer.class, 1_000));
         return props;
     }
 
@@ -76,47 +91,122 @@ public class KafkaConfig {
      * ✅ Generic ConsumerFactory
      */
     private <T> ConsumerFactory<String, T> consumerFactory(Class<T> clazz, String groupId) {
+        return consumerFactory(clazz, baseConsumerProps(groupId));
+    }
+
+    private <T> ConsumerFactory<String, T> consumerFactory(Class<T> clazz, Map<String, Object> props) {
         JsonDeserializer<T> deserializer = new JsonDeserializer<>(clazz);
         deserializer.addTrustedPackages("*");
         deserializer.setRemoveTypeHeaders(false);
         deserializer.setUseTypeMapperForKey(true);
-        return new DefaultKafkaConsumerFactory<>(baseConsumerProps(groupId), new StringDeserializer(), deserializer);
+        return new DefaultKafkaConsumerFactory<>(props, new StringDeserializer(), deserializer);
     }
 
     /**
      * ✅ Generic ListenerFactory
+     *
+     * @param name concurrency 설정 키 (kafka.listener.concurrency.{name})
      */
-    private <T> ConcurrentKafkaListenerContainerFactory<String, T> listenerFactory(Class<T> clazz, String groupId) {
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> listenerFactory(Class<T> clazz, String groupId, String name) {
+        return listenerFactory(consumerFactory(clazz, groupId), name);
+    }
+
+    private <T> ConcurrentKafkaListenerContainerFactory<String, T> listenerFactory(ConsumerFactory<String, T> consumerFactory, String name) {
         ConcurrentKafkaListenerContainerFactory<String, T> factory = new ConcurrentKafkaListenerContainerFactory<>();
-        factory.setConsumerFactory(consumerFactory(clazz, groupId));
-        // 환경에 따라 concurrency 값 조정
-        if ("prod".equals(env.getProperty("spring.profiles.active"))) {
-            factory.setConcurrency(1);  // 프로덕션 환경에서는 1개만 사용
-        } else {
-            factory.setConcurrency(3);  // 개발 환경에서는 3개 사용 (기존과 동일)
-        }
+        factory.setConsumerFactory(consumerFactory);
+        factory.setConcurrency(concurrency(name));
         factory.getContainerProperties().setAckMode(ContainerProperties.AckMode.MANUAL_IMMEDIATE);
         return factory;
     }
 
+    /**
+     * ✅ 팩토리별 concurrency
+     * - 이벤트가 집계 ID 키로 파티션에 고정되므로, 파티션 수까지 늘려도 키 단위 순서가 유지됩니다.
+     * - 설정이 없으면 kafka.listener.concurrency.default, 그것도 없으면 prod 1 / 그 외 3
+     */
+    private int concurrency(String name) {
+        int fallback = "prod".equals(env.getProperty("spring.profiles.active")) ? 1 : 3;
+        Integer defaultConcurrency = env.getProperty("kafka.listener.concurrency.default", Integer.class, fallback);
+        return env.getProperty("kafka.listener.concurrency." + name, Integer.class, defaultConcurrency);
+    }
+
+    /**
+     * ✅ 배치 리스너 에러 핸들러
+     * - 리스너가 BatchListenerFailedException(index)을 던지면 그 앞 레코드는 커밋하고, 실패 레코드부터 다시 전달
+     * - 실패 레코드는 kafka.listener.retry.* 간격으로 재시도하고, 그래도 실패하면 {토픽}.DLT로 보낸 뒤 다음 레코드부터 처리
+     * - 다른 예외는 배치 전체를 재시도한 뒤 배치의 레코드를 모두 DLT로 보냄 (재시도가 끝나도 버리지 않음)
+     */
+    private DefaultErrorHandler batchErrorHandler(KafkaTemplate<String, Object> kafkaTemplate) {
+        // 파티션 -1: DLT 파티션 수가 원본과 달라도 Kafka가 파티션을 고름
+        DeadLetterPublishingRecoverer recoverer = new DeadLetterPublishingRecoverer(kafkaTemplate,
+                (record, ex) -> new TopicPartition(record.topic() + ".DLT", -1));
+
+        ExponentialBackOffWithMaxRetries backOff = new ExponentialBackOffWithMaxRetries(
+                env.getProperty("kafka.listener.retry.max-retries", Integer.class, 5));
+        backOff.setInitialInterval(env.getProperty("kafka.listener.retry.initial-interval-ms", Long.class, 1_000L));
+        backOff.setMultiplier(2.0);
+        backOff.setMaxInterval(env.getProperty("kafka.listener.retry.max-interval-ms", Long.class, 10_000L));
+        return new DefaultErrorHandler(recoverer, backOff);
+    }
+
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, BookCreatedDto> bookListenerFactory() {
-        return listenerFactory(BookCreatedDto.class, env.getProperty("spring.kafka.consumer.book-group-id"));
+        return listenerFactory(BookCreatedDto.class, env.getProperty("spring.kafka.consumer.book-group-id"), "book");
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, MatchSuccessDto> matchListenerFactory() {
-        return listenerFactory(MatchSuccessDto.class, env.getProperty("spring.kafka.consumer.match-group-id"));
+        return listenerFactory(MatchSuccessDto.class, env.getProperty("spring.kafka.consumer.match-group-id"), "match");
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, TradeSuccessDto> tradeListenerFactory() {
-        return listenerFactory(TradeSuccessDto.class, env.getProperty("spring.kafka.consumer.trade-group-id"));
+        return listenerFactory(TradeSuccessDto.class, env.getProperty("spring.kafka.consumer.trade-group-id"), "trade");
     }
 
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, ChatMessageKafkaDto> chatListenerFactory() {
-        return listenerFactory(ChatMessageKafkaDto.class, env.getProperty("spring.kafka.consumer.chat-group-id"));
+        return listenerFactory(ChatMessageKafkaDto.class, env.getProperty("spring.kafka.consumer.chat-group-id"), "chat");
+    }
+
+    /**
+     * ✅ 채팅 메시지 배치 ListenerFactory
+     * - poll 한 번에 최대 kafka.chat.batch.max-poll-records건을 List로 전달
+     * - 같은 chat-group-id를 사용하므로 단건 리스너와는 kafka.chat.batch.enabled로 하나만 기동
+     * - 저장할 수 없는 메시지는 재시도 후 DLT로 보내고 나머지는 계속 처리 (batchErrorHandler)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, ChatMessageKafkaDto> chatBatchListenerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        Map<String, Object> props = baseConsumerProps(env.getProperty("spring.kafka.consumer.chat-group-id"));
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, env.getProperty("kafka.chat.batch.max-poll-records", Integer.class, 500));
+
+        ConcurrentKafkaListenerContainerFactory<String, ChatMessageKafkaDto> factory =
+                listenerFactory(consumerFactory(ChatMessageKafkaDto.class, props), "chat");
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(batchErrorHandler(kafkaTemplate));
+        return factory;
+    }
+
+    /**
+     * ✅ 추천 로그 배치 ListenerFactory (Elasticsearch bulk 색인용)
+     * - 한 번의 poll = 한 번의 bulk: 건수(max-actions), 바이트(min-bytes), 대기 시간(flush-interval-ms) 중 먼저 충족되는 시점에 전달
+     * - 같은 recommend-group-id를 사용하므로 단건 리스너와는 kafka.recommend.bulk.enabled로 하나만 기동
+     * - 색인되지 않는 문서는 재시도 후 DLT로 보내고 나머지는 계속 처리 (batchErrorHandler)
+     */
+    @Bean
+    public ConcurrentKafkaListenerContainerFactory<String, RecommendMessageKafkaDto> recommendBatchListenerFactory(
+            KafkaTemplate<String, Object> kafkaTemplate) {
+        Map<String, Object> props = baseConsumerProps(env.getProperty("spring.kafka.consumer.recommend-group-id"));
+        props.put(ConsumerConfig.MAX_POLL_RECORDS_CONFIG, env.getProperty("kafka.recommend.bulk.max-actions", Integer.class, 1_000));
+        props.put(ConsumerConfig.FETCH_MIN_BYTES_CONFIG, env.getProperty("kafka.recommend.bulk.min-bytes", Integer.class, 64 * 1024));
+        props.put(ConsumerConfig.FETCH_MAX_WAIT_MS_CONFIG, env.getProperty("kafka.recommend.bulk.flush-interval-ms", Integer.class, 1_000));
+
+        ConcurrentKafkaListenerContainerFactory<String, RecommendMessageKafkaDto> factory =
+                listenerFactory(consumerFactory(RecommendMessageKafkaDto.class, props), "recommend");
+        factory.setBatchListener(true);
+        factory.setCommonErrorHandler(batchErrorHandler(kafkaTemplate));
+        return factory;
     }
 
     //recommend 그룹을 생성함
@@ -124,7 +214,7 @@ public class KafkaConfig {
     @Bean
     public ConcurrentKafkaListenerContainerFactory<String, RecommendMessageKafkaDto> recommendListenerFactory() {
         //env.getProperty("spring.kafka.consumer.recommend-group-id")에서 그룹 ID를 가져옴
-        return listenerFactory(RecommendMessageKafkaDto.class, env.getProperty("spring.kafka.consumer.recommend-group-id"));
+        return listenerFactory(RecommendMessageKafkaDto.class, env.getProperty("spring.kafka.consumer.recommend-group-id"), "recommend");
     }
 
 }
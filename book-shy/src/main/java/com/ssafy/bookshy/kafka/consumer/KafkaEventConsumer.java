@@ -1,9 +1,10 @@
 package com.ssafy.bookshy.kafka.consumer;
 
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
 import com.ssafy.bookshy.domain.chat.dto.ChatMessageResponseDto;
-import com.ssafy.bookshy.domain.chat.dto.ChatRoomDto;
 import com.ssafy.bookshy.domain.chat.dto.ChatRoomUserIds;
 import com.ssafy.bookshy.domain.chat.entity.ChatRoom;
+import com.ssafy.bookshy.domain.chat.inbox.ChatInboxUpdateDispatcher;
 import com.ssafy.bookshy.domain.chat.service.ChatMessageService;
 import com.ssafy.bookshy.domain.chat.service.ChatRoomService;
 import com.ssafy.bookshy.domain.notification.dto.ChatNotificationFcmDto;
@@ -22,13 +23,17 @@ import org.elasticsearch.client.RestHighLevelClient;
 import org.elasticsearch.xcontent.XContentType;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.kafka.annotation.KafkaListener;
+import org.springframework.kafka.listener.BatchListenerFailedException;
 import org.springframework.kafka.support.Acknowledgment;
-import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 @Slf4j
 @Service
@@ -37,10 +42,12 @@ public class KafkaEventConsumer {
 
     private final ChatMessageService chatMessageService;
     private final ChatRoomService chatRoomService;
-    private final SimpMessagingTemplate messagingTemplate;
+    private final WebSocketRelay webSocketRelay;
     private final RestHighLevelClient elasticsearchClient;
     private final UserRepository userRepository;
     private final NotificationService notificationService;
+    private final RecommendEventBulkIndexer recommendEventBulkIndexer;
+    private final ChatInboxUpdateDispatcher chatInboxUpdateDispatcher;
 
     @Value("${app.developer.id}")
     private String developerId;
@@ -107,8 +114,9 @@ public class KafkaEventConsumer {
         }
     }
 
-    // 실시간 채팅 메시지 수신 처리
-    @KafkaListener(topics = "#{@kafkaTopicResolver.getChatMessageTopic()}", containerFactory = "chatListenerFactory")
+    // 실시간 채팅 메시지 수신 처리 (단건, kafka.chat.batch.enabled=false일 때만 기동)
+    @KafkaListener(topics = "#{@kafkaTopicResolver.getChatMessageTopic()}", containerFactory = "chatListenerFactory",
+            autoStartup = "#{!${kafka.chat.batch.enabled:true}}")
     public void listenChatMessage(ConsumerRecord<String, ChatMessageKafkaDto> record, Acknowledgment ack) {
         try {
             ChatMessageKafkaDto dto = record.value();
@@ -120,7 +128,7 @@ public class KafkaEventConsumer {
 
             // 해당 채팅방 구독자에게 메시지 전송
             String destination = "/topic/chat/" + dto.getChatRoomId();
-            messagingTemplate.convertAndSend(destination, saved);
+            webSocketRelay.send(destination, saved);
             log.info("📢 [KafkaConsumer] ChatMessage sent to WebSocket destination '{}'", destination);
 
             // 채팅 목록 갱신용 브로드캐스트
@@ -130,11 +138,8 @@ public class KafkaEventConsumer {
                     ? userIds.getUserBId()
                     : userIds.getUserAId();
 
-            // 각 사용자에게 채팅 목록 갱신 WebSocket 전송
-            ChatRoomDto chatRoomDto = chatRoomService.getChatRoomDtoByKafkaEvent(dto);
-
-            messagingTemplate.convertAndSend("/topic/chat/user/" + senderId, chatRoomDto);
-            messagingTemplate.convertAndSend("/topic/chat/user/" + receiverId, chatRoomDto);
+            // 각 사용자에게 채팅 목록 갱신 예약 (짧은 구간 단위로 묶어서 전송)
+            chatInboxUpdateDispatcher.enqueue(dto.getChatRoomId(), senderId, receiverId);
 
             log.info("✅ [KafkaConsumer] 채팅 보낸이 Id: '{}', 받는이 Id: '{}'", senderId, receiverId);
 
@@ -165,8 +170,137 @@ public class KafkaEventConsumer {
         }
     }
 
-    // 실시간 로깅 메시지 수신 처리
-    @KafkaListener(topics = "#{@kafkaTopicResolver.getRecommendEventTopic()}", containerFactory = "recommendListenerFactory")
+    /**
+     * 📦 실시간 채팅 메시지 배치 수신 처리
+     *
+     * 1. poll 한 번의 메시지를 수신 순서대로 일괄 저장 (채팅방별 순서 유지)
+     * 2. 채팅방 구독자에게 메시지를 순서대로 전송
+     * 3. 채팅 목록 갱신과 FCM 알림은 채팅방별 마지막 메시지 기준으로 한 번씩만 전송
+     * 4. 배치 전체를 한 번에 커밋
+     *
+     * - 일괄 저장이 실패하면(한 트랜잭션이라 일부만 저장되지 않음) 한 건씩 다시 저장하고,
+     *   저장되지 않는 레코드를 만나면 BatchListenerFailedException으로 그 위치를 알림
+     *   → 에러 핸들러가 앞선 레코드는 커밋, 실패 레코드는 재시도 후 DLT, 나머지는 다시 전달 (KafkaConfig#batchErrorHandler)
+     * - 저장 이후의 전송·알림 실패는 재전달하면 메시지가 중복 저장되므로 로그만 남기고 커밋
+     */
+    @KafkaListener(topics = "#{@kafkaTopicResolver.getChatMessageTopic()}", containerFactory = "chatBatchListenerFactory",
+            autoStartup = "${kafka.chat.batch.enabled:true}")
+    public void listenChatMessageBatch(List<ConsumerRecord<String, ChatMessageKafkaDto>> records, Acknowledgment ack) {
+        List<ChatMessageKafkaDto> dtos = records.stream()
+                .map(ConsumerRecord::value)
+                .filter(Objects::nonNull)
+                .toList();
+        log.info("📥 [KafkaConsumer] Received {} chat messages in batch", dtos.size());
+
+        // 1️⃣ 일괄 저장 (실패 시 한 건씩 저장)
+        List<ChatMessageResponseDto> savedMessages;
+        try {
+            savedMessages = chatMessageService.saveMessagesFromKafka(dtos);
+        } catch (Exception e) {
+            log.warn("⚠️ [KafkaConsumer] 채팅 메시지 일괄 저장 실패, 한 건씩 저장 - records: {}", records.size(), e);
+            savedMessages = saveChatMessagesOneByOne(records);
+        }
+
+        int rooms = relayChatMessages(savedMessages);
+
+        ack.acknowledge();
+        log.info("✅ [KafkaConsumer] Batch committed - records: {}, rooms: {}", records.size(), rooms);
+    }
+
+    // 수신 순서대로 한 건씩 저장, 실패한 레코드의 위치를 BatchListenerFailedException으로 알림 (앞서 저장된 메시지는 전송 후)
+    private List<ChatMessageResponseDto> saveChatMessagesOneByOne(List<ConsumerRecord<String, ChatMessageKafkaDto>> records) {
+        List<ChatMessageResponseDto> savedMessages = new ArrayList<>();
+        for (int i = 0; i < records.size(); i++) {
+            ChatMessageKafkaDto dto = records.get(i).value();
+            if (dto == null) continue;
+            try {
+                savedMessages.addAll(chatMessageService.saveMessagesFromKafka(List.of(dto)));
+            } catch (Exception e) {
+                relayChatMessages(savedMessages);
+                throw new BatchListenerFailedException("채팅 메시지 저장 실패 - roomId: " + dto.getChatRoomId(), e, i);
+            }
+        }
+        return savedMessages;
+    }
+
+    /**
+     * 2️⃣ 저장된 메시지를 채팅방 구독자에게 순서대로 전송
+     * 3️⃣ 채팅방별 마지막 메시지 기준으로 채팅 목록 갱신 + FCM 알림
+     *
+     * @return 메시지가 있었던 채팅방 수
+     */
+    private int relayChatMessages(List<ChatMessageResponseDto> savedMessages) {
+        Map<Long, ChatMessageResponseDto> lastByRoom = new LinkedHashMap<>();
+        for (ChatMessageResponseDto saved : savedMessages) {
+            try {
+                webSocketRelay.send("/topic/chat/" + saved.getChatRoomId(), saved);
+            } catch (Exception e) {
+                log.error("❌ [KafkaConsumer] 채팅 메시지 전송 실패 - roomId: {}, messageId: {}",
+                        saved.getChatRoomId(), saved.getId(), e);
+            }
+            lastByRoom.put(saved.getChatRoomId(), saved);
+        }
+
+        for (ChatMessageResponseDto last : lastByRoom.values()) {
+            try {
+                notifyChatRoomUpdated(last);
+            } catch (Exception e) {
+                log.error("❌ [KafkaConsumer] 채팅 목록 갱신/알림 실패 - roomId: {}", last.getChatRoomId(), e);
+            }
+        }
+        return lastByRoom.size();
+    }
+
+    private void notifyChatRoomUpdated(ChatMessageResponseDto last) {
+        Long chatRoomId = last.getChatRoomId();
+        Long senderId = last.getSenderId();
+        ChatRoomUserIds userIds = chatRoomService.getUserIdsByChatRoomId(chatRoomId);
+        Long receiverId = userIds.getUserAId().equals(senderId)
+                ? userIds.getUserBId()
+                : userIds.getUserAId();
+        chatInboxUpdateDispatcher.enqueue(chatRoomId, senderId, receiverId);
+
+        if (!senderId.equals(receiverId)) {
+            String preview = last.getContent() != null ? last.getContent() : "";
+            if (preview.length() > 50) {
+                preview = preview.substring(0, 47) + "...";
+            }
+
+            notificationService.sendChatNotification(ChatNotificationFcmDto.builder()
+                    .receiverId(receiverId)
+                    .senderNickName(last.getSenderNickname() != null ? last.getSenderNickname() : "알 수 없음")
+                    .content(preview)
+                    .chatRoomId(chatRoomId)
+                    .build()
+            );
+        }
+    }
+
+    /**
+     * 📦 추천 로그 배치 수신 처리 (Elasticsearch bulk 색인)
+     *
+     * - poll 한 번의 레코드를 bulk로 색인한 뒤 성공이 확인되면 커밋
+     * - 일부 문서 색인 실패 시 에러 핸들러가 첫 실패 레코드 앞까지 커밋하고, 실패 레코드는 재시도 후 DLT로 보냄
+     * - bulk 요청 실패 시 같은 배치를 다시 전달 (문서 ID가 고정이라 중복 저장 없음)
+     * - 저장 대상 환경이 아니면 색인 없이 커밋
+     */
+    @KafkaListener(topics = "#{@kafkaTopicResolver.getRecommendEventTopic()}", containerFactory = "recommendBatchListenerFactory",
+            autoStartup = "${kafka.recommend.bulk.enabled:true}")
+    public void listenRecommendEventBatch(List<ConsumerRecord<String, RecommendMessageKafkaDto>> records, Acknowledgment ack) {
+        if (!("subi".equals(developerId) || "prod".equals(activeProfile))) {
+            log.debug("⏭️ 개발자 ID '{}'는 ES 저장 대상이 아니므로 스킵 - records: {}", developerId, records.size());
+            ack.acknowledge();
+            return;
+        }
+
+        int indexed = recommendEventBulkIndexer.index(records);
+        ack.acknowledge();
+        log.info("✨ 추천 로그 bulk 색인 완료 - records: {}, indexed: {}", records.size(), indexed);
+    }
+
+    // 실시간 로깅 메시지 수신 처리 (단건, kafka.recommend.bulk.enabled=false일 때만 기동)
+    @KafkaListener(topics = "#{@kafkaTopicResolver.getRecommendEventTopic()}", containerFactory = "recommendListenerFactory",
+            autoStartup = "#{!${kafka.recommend.bulk.enabled:true}}")
     public void listenRecommendEvent(ConsumerRecord<String, RecommendMessageKafkaDto> record, Acknowledgment ack) {
         try {
             String topic = record.topic();
@@ -0,0 +1,126 @@
+package com.ssafy.bookshy.kafka.consumer;
+
+import com.ssafy.bookshy.kafka.dto.RecommendMessageKafkaDto;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.elasticsearch.action.bulk.BulkItemResponse;
+import org.elasticsearch.action.bulk.BulkRequest;
+import org.elasticsearch.action.bulk.BulkResponse;
+import org.elasticsearch.action.index.IndexRequest;
+import org.elasticsearch.client.RequestOptions;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.elasticsearch.xcontent.XContentType;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 📦 추천 로그(recommend.event) Elasticsearch bulk 색인기
+ *
+ * - Kafka 배치 한 번을 bulk 요청으로 색인하고, 요청 하나가 max-bytes를 넘으면 나누어 보냅니다.
+ * - 문서 ID는 "토픽-파티션-오프셋"으로 고정하여, 재처리 시 같은 문서를 덮어쓰도록 합니다. (중복 없음)
+ * - 일부 문서만 실패하면 첫 실패 레코드를 BatchListenerFailedException으로 알려, 에러 핸들러가
+ *   그 앞까지 커밋하고 실패 레코드는 재시도 후 DLT로 보내도록 합니다. (KafkaConfig#batchErrorHandler)
+ * - bulk 요청 자체가 실패하면 배치 전체를 다시 전달받습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RecommendEventBulkIndexer {
+
+    private static final String INDEX_NAME = "recommend.event";
+
+    private final RestHighLevelClient elasticsearchClient;
+
+    @Value("${kafka.recommend.bulk.max-bytes:5242880}")
+    private long maxBytes;
+
+    /**
+     * @return 색인한 문서 수
+     * @throws BatchListenerFailedException 일부 문서 색인 실패 시 (첫 실패 레코드)
+     * @throws IllegalStateException bulk 요청 실패 시
+     */
+    public int index(List<ConsumerRecord<String, RecommendMessageKafkaDto>> records) {
+        int indexed = 0;
+        BulkRequest bulkRequest = new BulkRequest();
+        // bulk 요청의 n번째 문서 = pending의 n번째 레코드
+        List<ConsumerRecord<String, RecommendMessageKafkaDto>> pending = new ArrayList<>();
+
+        for (ConsumerRecord<String, RecommendMessageKafkaDto> record : records) {
+            RecommendMessageKafkaDto logDto = record.value();
+            if (logDto == null) continue;
+
+            bulkRequest.add(new IndexRequest(INDEX_NAME)
+                    .id(documentId(record))
+                    .source(toSource(logDto), XContentType.JSON));
+            pending.add(record);
+
+            if (bulkRequest.estimatedSizeInBytes() >= maxBytes) {
+                indexed += flush(bulkRequest, pending);
+                bulkRequest = new BulkRequest();
+                pending = new ArrayList<>();
+            }
+        }
+
+        if (bulkRequest.numberOfActions() > 0) {
+            indexed += flush(bulkRequest, pending);
+        }
+        return indexed;
+    }
+
+    private int flush(BulkRequest bulkRequest, List<ConsumerRecord<String, RecommendMessageKafkaDto>> pending) {
+        int actions = bulkRequest.numberOfActions();
+        BulkResponse response;
+        try {
+            response = elasticsearchClient.bulk(bulkRequest, RequestOptions.DEFAULT);
+        } catch (IOException e) {
+            // 클라이언트/서버 버전 차이로 성공 응답을 파싱하지 못하는 경우는 저장 성공으로 간주 (기존 단건 색인과 동일)
+            if (e.getMessage() != null && e.getMessage().contains("Unable to parse response body")
+                    && e.getMessage().contains("200 OK")) {
+                log.warn("⚠️ ES bulk 저장 추정 성공 (응답 파싱 오류 무시): actions={}", actions);
+                return actions;
+            }
+            throw new IllegalStateException("ES bulk 요청 실패: " + e.getMessage(), e);
+        }
+
+        if (response.hasFailures()) {
+            int failed = 0;
+            BulkItemResponse firstFailure = null;
+            for (BulkItemResponse item : response.getItems()) {
+                if (!item.isFailed()) continue;
+                failed++;
+                if (firstFailure == null) {
+                    firstFailure = item; // 응답 항목은 요청 순서
+                }
+            }
+            log.error("❌ ES bulk 일부 실패 - 전체: {}, 실패: {}, 사유: {}", actions, failed, response.buildFailureMessage());
+            // 실패 레코드 뒤의 성공 문서는 다시 전달되어도 같은 문서 ID로 덮어씀
+            throw new BatchListenerFailedException("ES bulk 색인 실패 " + failed + "/" + actions + "건: "
+                    + firstFailure.getFailureMessage(), firstFailure.getFailure().getCause(),
+                    pending.get(firstFailure.getItemId()));
+        }
+
+        log.debug("✨ ES bulk 저장 성공 - actions: {}, took: {}", actions, response.getTook());
+        return actions;
+    }
+
+    // 토픽-파티션-오프셋: 같은 레코드를 다시 처리해도 같은 문서 ID
+    private String documentId(ConsumerRecord<String, RecommendMessageKafkaDto> record) {
+        return record.topic() + "-" + record.partition() + "-" + record.offset();
+    }
+
+    private Map<String, Object> toSource(RecommendMessageKafkaDto logDto) {
+        Map<String, Object> logData = new HashMap<>();
+        logData.put("eventType", logDto.getEventType());
+        logData.put("eventData", logDto.getEventData());
+        logData.put("timestamp", logDto.getTimestamp());
+        return logData;
+    }
+}
@@ -0,0 +1,40 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * 🎫 아웃박스 임대
+ *
+ * 발행할 행을 짧은 트랜잭션 안에서 임대만 하고 바로 커밋합니다. 발행(브로커 응답 대기)은 트랜잭션 밖에서 합니다.
+ * 임대는 advisory lock으로 서버 간 한 번에 하나씩만 수행하여, 같은 키의 이벤트가 서로 다른 서버에서 동시에 발행되지 않게 합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxClaimer {
+
+    private static final long CLAIM_LOCK_KEY = 0x4F5554424F58L; // "OUTBOX"
+
+    private final OutboxEventRepository outboxEventRepository;
+
+    /**
+     * @return 임대한 이벤트 (id 순). 다른 서버가 임대 중이면 빈 목록
+     */
+    @Transactional
+    public List<OutboxEvent> claim(int limit, Duration lease) {
+        if (!outboxEventRepository.tryAdvisoryXactLock(CLAIM_LOCK_KEY)) {
+            return List.of();
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<OutboxEvent> events = new ArrayList<>(outboxEventRepository.claimUnsent(limit, now, now.plus(lease)));
+        events.sort(Comparator.comparing(OutboxEvent::getId));
+        return events;
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 📮 트랜잭셔널 아웃박스 레코드
+ *
+ * 업무 데이터와 같은 트랜잭션 안에서 저장되며, {@link OutboxRelay}가 Kafka로 발행한 뒤 sentAt을 기록합니다.
+ * 업무 변경이 롤백되면 이벤트도 함께 사라지고, 커밋되면 발행될 때까지 남아 있습니다.
+ * claimedUntil은 릴레이가 발행 중인 행의 임대 만료 시각으로, 그 전까지 다른 릴레이는 이 행을 가져가지 않습니다.
+ * 운영 DDL: exec/sql/04_outbox_events.sql
+ */
+@Entity
+@Table(name = "outbox_events",
+        indexes = {
+                @Index(name = "idx_outbox_events_sent_at_id", columnList = "sent_at, id"),
+                @Index(name = "idx_outbox_events_key_id", columnList = "event_key, id")
+        })
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class OutboxEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(nullable = false)
+    private String topic;
+
+    @Column(name = "event_key")
+    private String eventKey;
+
+    @Column(nullable = false, columnDefinition = "text")
+    private String payload;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    @Column(name = "sent_at")
+    private LocalDateTime sentAt;
+
+    @Column(name = "claimed_until")
+    private LocalDateTime claimedUntil;
+
+    @Builder
+    public OutboxEvent(String topic, String eventKey, String payload) {
+        this.topic = topic;
+        this.eventKey = eventKey;
+        this.payload = payload;
+        this.createdAt = LocalDateTime.now();
+    }
+}
@@ -0,0 +1,62 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface OutboxEventRepository extends JpaRepository<OutboxEvent, Long> {
+
+    // 트랜잭션 종료 시 자동 해제되는 PostgreSQL advisory lock (다른 서버가 잡고 있으면 false)
+    @Query(value = "SELECT pg_try_advisory_xact_lock(:key)", nativeQuery = true)
+    boolean tryAdvisoryXactLock(@Param("key") long key);
+
+    /**
+     * 📤 미발행 이벤트를 저장 순서대로 최대 limit건 임대(claimed_until = until)하고 반환
+     *
+     * - 임대 중인 행과, 같은 키의 앞선 이벤트가 아직 임대 중(다른 릴레이가 발행 중)인 행은 가져가지 않습니다.
+     *   앞선 이벤트보다 뒤 이벤트가 먼저 발행되는 것을 막기 위함입니다.
+     * - 반환 순서는 보장되지 않으므로 호출 측에서 id로 정렬합니다.
+     */
+    @Query(value = """
+        UPDATE outbox_events e SET claimed_until = :until
+        WHERE e.id IN (
+            SELECT c.id FROM outbox_events c
+            WHERE c.sent_at IS NULL
+            AND (c.claimed_until IS NULL OR c.claimed_until < :now)
+            AND NOT EXISTS (
+                SELECT 1 FROM outbox_events p
+                WHERE p.event_key = c.event_key
+                AND p.id < c.id
+                AND p.sent_at IS NULL
+                AND p.claimed_until >= :now
+            )
+            ORDER BY c.id
+            LIMIT :limit
+        )
+        RETURNING *
+        """, nativeQuery = true)
+    List<OutboxEvent> claimUnsent(@Param("limit") int limit,
+                                  @Param("now") LocalDateTime now,
+                                  @Param("until") LocalDateTime until);
+
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.sentAt = :sentAt, e.claimedUntil = null WHERE e.id IN :ids")
+    int markSent(@Param("ids") Collection<Long> ids, @Param("sentAt") LocalDateTime sentAt);
+
+    // 발행하지 못한 행의 임대를 풀어 다음 주기에 바로 다시 가져가게 함
+    @Transactional
+    @Modifying
+    @Query("UPDATE OutboxEvent e SET e.claimedUntil = null WHERE e.id IN :ids AND e.sentAt IS NULL")
+    int release(@Param("ids") Collection<Long> ids);
+
+    @Modifying
+    @Query("DELETE FROM OutboxEvent e WHERE e.sentAt < :threshold")
+    int deleteSentBefore(@Param("threshold") LocalDateTime threshold);
+}
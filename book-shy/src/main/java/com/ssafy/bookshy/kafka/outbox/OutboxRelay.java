@@ -0,0 +1,137 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bookshy.kafka.producer.KafkaProducer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 🚚 아웃박스 릴레이
+ *
+ * 1. 미발행 이벤트를 저장 순서대로 최대 batch-size건 임대 (짧은 트랜잭션, 바로 커밋)
+ * 2. 트랜잭션 밖에서 발행: 키가 다른 이벤트는 동시에, 같은 키의 이벤트는 앞 이벤트의 발행이 확인된 뒤에 발행
+ *    (앞 이벤트가 실패하면 같은 키의 뒤 이벤트는 발행하지 않음 → 키 단위 순서 유지)
+ * 3. 발행이 확인된 행은 sent_at 기록, 실패·미발행 행은 임대를 풀어 다음 주기에 다시 발행
+ *    응답 대기 시간을 넘긴 행은 임대 만료 후 다시 가져감
+ *
+ * 발행 후 sent_at 기록 전에 서버가 죽으면 같은 이벤트가 한 번 더 발행될 수 있습니다. (at-least-once)
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class OutboxRelay {
+
+    private static final long SEND_TIMEOUT_SECONDS = 10;
+
+    private final OutboxClaimer outboxClaimer;
+    private final OutboxEventRepository outboxEventRepository;
+    private final KafkaProducer kafkaProducer;
+    private final ObjectMapper objectMapper;
+
+    @Value("${outbox.relay.batch-size:500}")
+    private int batchSize;
+
+    // 발행 응답 대기(SEND_TIMEOUT_SECONDS)보다 길어야 대기 중인 행을 다른 서버가 가져가지 않음
+    @Value("${outbox.relay.lease-seconds:30}")
+    private long leaseSeconds;
+
+    @Value("${outbox.relay.retention-days:7}")
+    private long retentionDays;
+
+    @Scheduled(fixedDelayString = "${outbox.relay.interval-ms:500}")
+    public void relay() {
+        List<OutboxEvent> events = outboxClaimer.claim(batchSize, Duration.ofSeconds(leaseSeconds));
+        if (events.isEmpty()) {
+            return;
+        }
+
+        List<CompletableFuture<?>> futures = sendInKeyOrder(events);
+        try {
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0]))
+                    .get(SEND_TIMEOUT_SECONDS, TimeUnit.SECONDS);
+        } catch (Exception e) {
+            // 개별 실패는 아래에서 걸러냄
+            log.warn("⚠️ 아웃박스 일부 발행 실패 또는 시간 초과: {}", e.getMessage());
+        }
+
+        List<Long> sentIds = new ArrayList<>(events.size());
+        List<Long> failedIds = new ArrayList<>();
+        for (int i = 0; i < events.size(); i++) {
+            CompletableFuture<?> future = futures.get(i);
+            if (!future.isDone()) {
+                continue; // 아직 응답 대기 중 → 임대 만료까지 유지
+            }
+            if (future.isCompletedExceptionally()) {
+                failedIds.add(events.get(i).getId());
+            } else {
+                sentIds.add(events.get(i).getId());
+            }
+        }
+
+        if (!sentIds.isEmpty()) {
+            outboxEventRepository.markSent(sentIds, LocalDateTime.now());
+        }
+        if (!failedIds.isEmpty()) {
+            outboxEventRepository.release(failedIds);
+        }
+        log.info("🚚 아웃박스 발행 - 대상: {}, 성공: {}, 실패: {}", events.size(), sentIds.size(), failedIds.size());
+    }
+
+    /**
+     * 이벤트 순서대로 발행 결과 future를 반환합니다.
+     * 같은 키의 이벤트는 앞 이벤트가 성공해야 발행되고, 앞 이벤트가 실패하면 발행 없이 실패로 끝납니다.
+     * 키가 없는 이벤트는 순서 제약 없이 바로 발행합니다.
+     */
+    List<CompletableFuture<?>> sendInKeyOrder(List<OutboxEvent> events) {
+        Map<String, CompletableFuture<?>> lastByKey = new HashMap<>();
+        List<CompletableFuture<?>> futures = new ArrayList<>(events.size());
+        for (OutboxEvent event : events) {
+            CompletableFuture<?> future;
+            CompletableFuture<?> previous = event.getEventKey() != null ? lastByKey.get(event.getEventKey()) : null;
+            if (previous == null) {
+                future = send(event);
+            } else {
+                future = previous.thenCompose(ignored -> send(event));
+            }
+            if (event.getEventKey() != null) {
+                lastByKey.put(event.getEventKey(), future);
+            }
+            futures.add(future);
+        }
+        return futures;
+    }
+
+    // 🧹 보관 기간이 지난 발행 완료 이벤트 정리 (매일 새벽 4시)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeSent() {
+        int deleted = outboxEventRepository.deleteSentBefore(LocalDateTime.now().minusDays(retentionDays));
+        log.info("🧹 발행 완료 아웃박스 정리 - 삭제: {}", deleted);
+    }
+
+    // 저장된 JSON을 그대로 본문으로 보내기 위해 JsonNode로 읽어 전달 (문자열로 보내면 이중 인코딩됨)
+    private CompletableFuture<SendResult<String, Object>> send(OutboxEvent event) {
+        try {
+            JsonNode payload = objectMapper.readTree(event.getPayload());
+            return kafkaProducer.sendOutboxRecord(event.getTopic(), event.getEventKey(), payload);
+        } catch (Exception e) {
+            log.error("❌ 아웃박스 이벤트 발행 준비 실패 - id: {}", event.getId(), e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * ✍️ 아웃박스 기록기
+ *
+ * 반드시 업무 트랜잭션 안에서 호출해야 하며(MANDATORY), 실제 발행은 {@link OutboxRelay}가 담당합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class OutboxWriter {
+
+    private final OutboxEventRepository outboxEventRepository;
+    private final ObjectMapper objectMapper;
+
+    /**
+     * @param topic   발행할 토픽 (KafkaTopicResolver로 결정한 실제 토픽 이름)
+     * @param key     파티션 키 (집계 ID)
+     * @param payload JSON으로 직렬화할 이벤트 본문
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void append(String topic, Long key, Object payload) {
+        try {
+            outboxEventRepository.save(OutboxEvent.builder()
+                    .topic(topic)
+                    .eventKey(key != null ? String.valueOf(key) : null)
+                    .payload(objectMapper.writeValueAsString(payload))
+                    .build());
+        } catch (JsonProcessingException e) {
+            throw new IllegalArgumentException("아웃박스 이벤트 직렬화 실패: " + payload, e);
+        }
+    }
+}
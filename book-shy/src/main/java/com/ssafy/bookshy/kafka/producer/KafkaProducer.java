@@ -5,12 +5,17 @@ import com.ssafy.bookshy.kafka.dto.*;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.kafka.core.KafkaTemplate;
+import org.springframework.kafka.support.SendResult;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.CompletableFuture;
+
 /**
  * 🚀 KafkaProducer
  * - 도메인 이벤트를 Kafka 토픽으로 발행하는 프로듀서 서비스입니다.
  * - 채팅, 책 등록, 매칭 성공, 거래 완료 이벤트를 처리합니다.
+ * - 이벤트는 집계 ID(채팅방, 매칭, 거래, 도서)를 키로 발행하여, 같은 키는 항상 같은 파티션에 순서대로 쌓입니다.
+ * - 발행은 비동기로 처리하고, 결과는 완료 콜백에서 로그와 지표(KafkaProducerMetrics)로 남깁니다.
  */
 @Slf4j
 @Service
@@ -19,58 +24,91 @@ public class KafkaProducer {
 
     private final KafkaTopicResolver kafkaTopicResolver;
     private final KafkaTemplate<String, Object> kafkaTemplate;
+    private final KafkaProducerMetrics kafkaProducerMetrics;
 
     /**
-     * 📘 책 등록 이벤트 발행
+     * 📘 책 등록 이벤트 발행 (키: 도서 ID)
      */
-    public void sendBookCreatedEvent(BookCreatedDto event) {
+    public void sendBookCreatedEvent(Long bookId, BookCreatedDto event) {
         String topicName = kafkaTopicResolver.getBookCreatedTopic();
-        sendMessage(topicName, event, "📘 BookCreatedEvent");
+        sendMessage(topicName, key(bookId), event, "📘 BookCreatedEvent");
     }
 
     /**
-     * 🤝 매칭 성공 이벤트 발행
+     * 🤝 매칭 성공 이벤트 발행 (키: 매칭 ID)
      */
     public void sendMatchSuccessEvent(MatchSuccessDto event) {
         String topicName = kafkaTopicResolver.getMatchSuccessTopic();
-        sendMessage(topicName, event, "🤝 MatchSuccessEvent");
+        sendMessage(topicName, key(event.getMatchId()), event, "🤝 MatchSuccessEvent");
     }
 
     /**
-     * 📦 교환 완료 이벤트 발행
+     * 📦 교환 완료 이벤트 발행 (키: 거래 요청 ID)
      */
-    public void sendTradeSuccessEvent(TradeSuccessDto event) {
+    public void sendTradeSuccessEvent(Long requestId, TradeSuccessDto event) {
         String topicName = kafkaTopicResolver.getTradeSuccessTopic();
-        sendMessage(topicName, event, "📦 TradeSuccessEvent");
+        sendMessage(topicName, key(requestId), event, "📦 TradeSuccessEvent");
     }
 
     /**
-     * 💬 채팅 메시지 이벤트 발행
+     * 💬 채팅 메시지 이벤트 발행 (키: 채팅방 ID → 채팅방 단위 순서 보장)
      */
     public void sendChatMessage(ChatMessageKafkaDto event) {
         String topicName = kafkaTopicResolver.getChatMessageTopic();
-        log.info("📤 [KafkaProducer] Sending chat message to topic '{}': {}", topicName, event);
-        sendMessage(topicName, event, "💬 ChatMessageEvent");
+        sendMessage(topicName, key(event.getChatRoomId()), event, "💬 ChatMessageEvent");
     }
 
     /**
-     * 💚 로깅 메시지 이벤트 발행
+     * 💚 로깅 메시지 이벤트 발행 (순서 무관, 키 없이 파티션 분산)
      */
     public void sendRecommendEvent(RecommendMessageKafkaDto event) {
         String topicName = kafkaTopicResolver.getRecommendEventTopic();
-        sendMessage(topicName, event, "💬 RecommendEvent");
+        sendMessage(topicName, null, event, "💬 RecommendEvent");
+    }
+
+    /**
+     * 📮 아웃박스 레코드 발행 (토픽·키가 이미 결정된 이벤트)
+     *
+     * @return 브로커 응답 future (OutboxRelay가 발행 완료 여부 확인에 사용)
+     */
+    public CompletableFuture<SendResult<String, Object>> sendOutboxRecord(String topicName, String key, Object message) {
+        return sendMessage(topicName, key, message, "📮 OutboxEvent");
     }
 
     /**
      * 🛠 공통 메시지 발행 메서드
+     *
+     * 브로커 응답을 기다리지 않고 반환합니다. (호출 스레드는 max.block.ms 이상 막히지 않음)
      */
-    private void sendMessage(String topicName, Object message, String eventName) {
+    private CompletableFuture<SendResult<String, Object>> sendMessage(String topicName, String key, Object message, String eventName) {
+        long startNanos = kafkaProducerMetrics.onSend(topicName);
         try {
-            // 동적 토픽 이름으로 메시지 발송
-            kafkaTemplate.send(topicName, message);
-            log.info("{} Sent to topic '{}': {}", eventName, topicName, message);
+            // 동적 토픽 이름으로 메시지 발송 (키 해시로 파티션 결정)
+            return kafkaTemplate.send(topicName, key, message)
+                    .whenComplete((result, ex) -> onComplete(topicName, key, eventName, startNanos, result, ex));
         } catch (Exception e) {
-            log.error("❌ Failed to send {} to topic '{}': {}", eventName, topicName, e.getMessage());
+            // 메타데이터 조회 시간 초과, 직렬화 실패 등 send() 자체가 실패한 경우
+            onComplete(topicName, key, eventName, startNanos, null, e);
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    private void onComplete(String topicName, String key, String eventName, long startNanos,
+                            SendResult<String, Object> result, Throwable ex) {
+        if (ex != null) {
+            kafkaProducerMetrics.onFailure(topicName, startNanos);
+            log.error("❌ Failed to send {} to topic '{}' (key={}): {}", eventName, topicName, key, ex.getMessage());
+            return;
+        }
+
+        kafkaProducerMetrics.onSuccess(topicName, startNanos);
+        if (log.isDebugEnabled()) {
+            log.debug("{} Sent to topic '{}' partition {} offset {} (key={})", eventName, topicName,
+                    result.getRecordMetadata().partition(), result.getRecordMetadata().offset(), key);
         }
     }
-}
\ No newline at end of file
+
+    private String key(Long aggregateId) {
+        return aggregateId != null ? String.valueOf(aggregateId) : null;
+    }
+}
@@ -0,0 +1,67 @@
+package com.ssafy.bookshy.kafka.producer;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * 📊 Kafka 발행 지표 (토픽별)
+ *
+ * - kafka.producer.send: 발행 요청부터 브로커 응답까지의 지연 (result=success|failure)
+ * - kafka.producer.send.failures: 발행 실패 수
+ * - kafka.producer.in-flight: 브로커 응답을 기다리는 레코드 수
+ */
+@Component
+@RequiredArgsConstructor
+public class KafkaProducerMetrics {
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> inFlightByTopic = new ConcurrentHashMap<>();
+
+    /**
+     * 발행 시작 시 호출하고, 반환된 시작 시각(ns)을 완료 콜백에 넘깁니다.
+     */
+    public long onSend(String topic) {
+        inFlight(topic).incrementAndGet();
+        return System.nanoTime();
+    }
+
+    public void onSuccess(String topic, long startNanos) {
+        complete(topic, startNanos, "success");
+    }
+
+    public void onFailure(String topic, long startNanos) {
+        complete(topic, startNanos, "failure");
+        Counter.builder("kafka.producer.send.failures")
+                .tag("topic", topic)
+                .register(meterRegistry)
+                .increment();
+    }
+
+    private void complete(String topic, long startNanos, String result) {
+        inFlight(topic).decrementAndGet();
+        Timer.builder("kafka.producer.send")
+                .tag("topic", topic)
+                .tag("result", result)
+                .register(meterRegistry)
+                .record(System.nanoTime() - startNanos, TimeUnit.NANOSECONDS);
+    }
+
+    private AtomicInteger inFlight(String topic) {
+        return inFlightByTopic.computeIfAbsent(topic, key -> {
+            AtomicInteger counter = new AtomicInteger();
+            Gauge.builder("kafka.producer.in-flight", counter, AtomicInteger::get)
+                    .tag("topic", key)
+                    .register(meterRegistry);
+            return counter;
+        });
+    }
+}
@@ -0,0 +1,59 @@
+package com.ssafy.bookshy.domain.chat.service;
+
+import com.ssafy.bookshy.domain.chat.dto.ChatInboxRow;
+import com.ssafy.bookshy.domain.chat.exception.ChatException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatInboxCursorTest {
+
+    record Row(Long id, LocalDateTime lastMessageTimestamp) implements ChatInboxRow {
+        @Override public Long getId() { return id; }
+        @Override public Long getPartnerId() { return null; }
+        @Override public String getPartnerName() { return null; }
+        @Override public String getPartnerProfileImage() { return null; }
+        @Override public Float getBookshyScore() { return null; }
+        @Override public String getLastMessage() { return null; }
+        @Override public LocalDateTime getLastMessageTimestamp() { return lastMessageTimestamp; }
+    }
+
+    @Test
+    void encode_decode_왕복() {
+        LocalDateTime time = LocalDateTime.of(2025, 5, 1, 12, 30, 15, 123_000_000);
+
+        ChatInboxCursor decoded = ChatInboxCursor.decode(ChatInboxCursor.of(new Row(7L, time)).encode());
+
+        assertThat(decoded.getSortTime()).isEqualTo(time);
+        assertThat(decoded.getChatRoomId()).isEqualTo(7L);
+    }
+
+    @Test
+    void 메시지가_없는_방은_1970년을_정렬_시간으로() {
+        ChatInboxCursor cursor = ChatInboxCursor.of(new Row(3L, null));
+
+        assertThat(ChatInboxCursor.decode(cursor.encode()).getSortTime())
+                .isEqualTo(LocalDateTime.of(1970, 1, 1, 0, 0));
+    }
+
+    @Test
+    void decode_형식이_다르면_INVALID_CURSOR() {
+        assertThatThrownBy(() -> ChatInboxCursor.decode("not-base64!"))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> ChatInboxCursor.decode(encode("2025-05-01T12:00")))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> ChatInboxCursor.decode(encode("yesterday|1")))
+                .isInstanceOf(ChatException.class);
+        assertThatThrownBy(() -> ChatInboxCursor.decode(encode("2025-05-01T12:00|abc")))
+                .isInstanceOf(ChatException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,112 @@
+package com.ssafy.bookshy.domain.chat.unread;
+
+import com.ssafy.bookshy.domain.chat.dto.ChatUnreadCountRow;
+import com.ssafy.bookshy.domain.chat.repository.ChatMessageRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.ValueOperations;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class ChatUnreadCounterTest {
+
+    private static final Long USER = 1L;
+
+    private RedisTemplate<String, String> redisTemplate;
+    private ValueOperations<String, String> values;
+    private SetOperations<String, String> sets;
+    private ChatMessageRepository chatMessageRepository;
+    private ChatUnreadCounter counter;
+
+    record CountRow(Long chatRoomId, Long unreadCount) implements ChatUnreadCountRow {
+        @Override public Long getChatRoomId() { return chatRoomId; }
+        @Override public Long getUnreadCount() { return unreadCount; }
+    }
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        redisTemplate = mock(RedisTemplate.class);
+        values = mock(ValueOperations.class);
+        sets = mock(SetOperations.class);
+        chatMessageRepository = mock(ChatMessageRepository.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        when(redisTemplate.opsForSet()).thenReturn(sets);
+        counter = new ChatUnreadCounter(redisTemplate, chatMessageRepository);
+    }
+
+    @Test
+    void getCounts_적재된_카운터는_Redis_값을_그대로_사용한다() {
+        when(values.multiGet(List.of("chat:unread:10:1", "chat:unread:20:1"))).thenReturn(List.of("3", "0"));
+
+        Map<Long, Integer> counts = counter.getCounts(List.of(10L, 20L), USER);
+
+        assertThat(counts).containsEntry(10L, 3).containsEntry(20L, 0);
+        verify(chatMessageRepository, never()).countUnreadByChatRoomIds(any(), any());
+    }
+
+    @Test
+    void getCounts_없는_카운터만_DB에서_한_번에_집계해_없는_경우에만_적재한다() {
+        when(values.multiGet(List.of("chat:unread:10:1", "chat:unread:20:1", "chat:unread:30:1")))
+                .thenReturn(Arrays.asList("2", null, null));
+        when(chatMessageRepository.countUnreadByChatRoomIds(List.of(20L, 30L), USER))
+                .thenReturn(List.of(new CountRow(20L, 5L)));
+
+        Map<Long, Integer> counts = counter.getCounts(List.of(10L, 20L, 30L), USER);
+
+        // 안 읽은 메시지가 없는 30번 방은 집계 결과에 없어도 0
+        assertThat(counts).containsEntry(10L, 2).containsEntry(20L, 5).containsEntry(30L, 0);
+        verify(values).setIfAbsent(eq("chat:unread:20:1"), eq("5"), any(Duration.class));
+        verify(values).setIfAbsent(eq("chat:unread:30:1"), eq("0"), any(Duration.class));
+        verify(values, never()).setIfAbsent(eq("chat:unread:10:1"), anyString(), any(Duration.class));
+    }
+
+    @Test
+    void getCounts_Redis_오류면_전부_DB_집계로_대체한다() {
+        when(values.multiGet(anyList())).thenThrow(new RedisConnectionFailureException("down"));
+        when(chatMessageRepository.countUnreadByChatRoomIds(List.of(10L, 20L), USER))
+                .thenReturn(List.of(new CountRow(10L, 4L)));
+
+        Map<Long, Integer> counts = counter.getCounts(List.of(10L, 20L), USER);
+
+        assertThat(counts).containsEntry(10L, 4).containsEntry(20L, 0);
+    }
+
+    @Test
+    void reset_카운터를_0으로_두고_보정_대상에_올린다() {
+        counter.reset(10L, USER);
+
+        verify(values).set(eq("chat:unread:10:1"), eq("0"), any(Duration.class));
+        verify(sets).add("chat:unread:dirty", "10:1");
+    }
+
+    @Test
+    void reconcile_보정_대상을_DB_값으로_덮어쓴다() {
+        when(sets.pop(eq("chat:unread:dirty"), anyLong())).thenReturn(List.of("10:1", "20:2"));
+        when(chatMessageRepository.countUnreadMessages(10L, 1L)).thenReturn(3);
+        when(chatMessageRepository.countUnreadMessages(20L, 2L)).thenReturn(0);
+
+        counter.reconcile();
+
+        verify(values).getAndSet("chat:unread:10:1", "3");
+        verify(values).getAndSet("chat:unread:20:2", "0");
+        verify(redisTemplate).expire(eq("chat:unread:10:1"), any(Duration.class));
+    }
+}
@@ -0,0 +1,66 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+import com.ssafy.bookshy.domain.matching.exception.MatchingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.Base64;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingCursorTest {
+
+    @Test
+    void encode_decode_왕복() {
+        MatchingCursor cursor = new MatchingCursor(MatchingSortType.DISTANCE, 42L, 3.5, 7L);
+
+        MatchingCursor decoded = MatchingCursor.decode(cursor.encode());
+
+        assertThat(decoded.getSort()).isEqualTo(MatchingSortType.DISTANCE);
+        assertThat(decoded.getSnapshotVersion()).isEqualTo(42L);
+        assertThat(decoded.getLastKey()).isEqualTo(3.5);
+        assertThat(decoded.getLastUserId()).isEqualTo(7L);
+    }
+
+    @Test
+    void decode_형식이_다르면_INVALID_CURSOR() {
+        assertThatThrownBy(() -> MatchingCursor.decode("not-base64!"))
+                .isInstanceOf(MatchingException.class);
+        assertThatThrownBy(() -> MatchingCursor.decode(
+                Base64.getUrlEncoder().encodeToString("v0|SCORE|1|1.0|1".getBytes())))
+                .isInstanceOf(MatchingException.class);
+    }
+
+    @Test
+    void indexAfter_점수순_동점은_userId로_이어서() {
+        MatchingSnapshot snapshot = new MatchingSnapshot(1L, 0L, List.of(
+                dto(1L, 90.0, 5.0),
+                dto(2L, 80.0, 1.0),
+                dto(3L, 80.0, 2.0),
+                dto(4L, 70.0, 3.0)));
+
+        // 점수순: 1(90) → 2(80) → 3(80) → 4(70)
+        assertThat(snapshot.indexAfter(new MatchingCursor(MatchingSortType.SCORE, 1L, 80.0, 2L))).isEqualTo(2);
+        assertThat(snapshot.indexAfter(new MatchingCursor(MatchingSortType.SCORE, 1L, 90.0, 1L))).isEqualTo(1);
+        assertThat(snapshot.indexAfter(new MatchingCursor(MatchingSortType.SCORE, 1L, 70.0, 4L))).isEqualTo(4);
+    }
+
+    @Test
+    void indexAfter_커서_후보가_사라진_스냅샷에서도_같은_위치_다음부터() {
+        // 이전 스냅샷의 마지막 후보(userId 3, 2.0km)가 새 스냅샷에는 없음
+        MatchingSnapshot snapshot = new MatchingSnapshot(2L, 0L, List.of(
+                dto(2L, 80.0, 1.0),
+                dto(4L, 70.0, 3.0),
+                dto(5L, 60.0, 2.5)));
+
+        // 거리순: 2(1.0) → 5(2.5) → 4(3.0)
+        int index = snapshot.indexAfter(new MatchingCursor(MatchingSortType.DISTANCE, 1L, 2.0, 3L));
+        assertThat(snapshot.sorted(MatchingSortType.DISTANCE).get(index).getUserId()).isEqualTo(5L);
+    }
+
+    private static MatchingDto dto(Long userId, double score, double distanceKm) {
+        return MatchingDto.builder().userId(userId).score(score).distanceKm(distanceKm).build();
+    }
+}
@@ -0,0 +1,116 @@
+package com.ssafy.bookshy.domain.matching.cache;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchingDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class MatchingSnapshotCacheTest {
+
+    private MatchingSnapshotCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new MatchingSnapshotCache();
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+    }
+
+    @Test
+    void getOrCompute_유효한_스냅샷은_재사용() {
+        AtomicInteger loads = new AtomicInteger();
+        MatchingSnapshot first = cache.getOrCompute(1L, () -> candidates(loads));
+        MatchingSnapshot second = cache.getOrCompute(1L, () -> candidates(loads));
+
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+    }
+
+    @Test
+    void invalidate_후에는_재계산하고_이전_버전은_커서로_찾을_수_없다() {
+        AtomicInteger loads = new AtomicInteger();
+        MatchingSnapshot first = cache.getOrCompute(1L, () -> candidates(loads));
+
+        cache.invalidate(1L);
+        assertThat(cache.isStale(first)).isTrue();
+
+        MatchingSnapshot second = cache.getOrCompute(1L, () -> candidates(loads));
+        assertThat(second.getVersion()).isGreaterThan(first.getVersion());
+        assertThat(cache.findByVersion(1L, first.getVersion())).isNull();
+        assertThat(cache.findByVersion(1L, second.getVersion())).isSameAs(second);
+        assertThat(loads).hasValue(2);
+    }
+
+    @Test
+    void getOrCompute_동시_요청은_한_번만_계산한다() throws Exception {
+        int threads = 8;
+        AtomicInteger loads = new AtomicInteger();
+        CountDownLatch loaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<MatchingSnapshot>> results = new ArrayList<>();
+            results.add(executor.submit(() -> cache.getOrCompute(1L, () -> {
+                loaderStarted.countDown();
+                await(release);
+                return candidates(loads);
+            })));
+            loaderStarted.await();
+            for (int i = 1; i < threads; i++) {
+                results.add(executor.submit(() -> cache.getOrCompute(1L, () -> candidates(loads))));
+            }
+            // 뒤따른 요청들이 진행 중인 계산에 합류할 시간을 준 뒤 계산 완료
+            Thread.sleep(100);
+            release.countDown();
+
+            MatchingSnapshot expected = results.get(0).get(5, TimeUnit.SECONDS);
+            for (Future<MatchingSnapshot> result : results) {
+                assertThat(result.get(5, TimeUnit.SECONDS)).isSameAs(expected);
+            }
+            assertThat(loads).hasValue(1);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    @Test
+    void getOrCompute_계산_중_무효화되면_결과를_stale로_남긴다() {
+        MatchingSnapshot snapshot = cache.getOrCompute(1L, () -> {
+            cache.invalidate(1L);
+            return List.of();
+        });
+
+        assertThat(cache.isStale(snapshot)).isTrue();
+    }
+
+    @Test
+    void getOrCompute_계산_실패는_전파하고_다음_요청에서_다시_계산() {
+        assertThatThrownBy(() -> cache.getOrCompute(1L, () -> {
+            throw new IllegalStateException("boom");
+        })).isInstanceOf(IllegalStateException.class);
+
+        AtomicInteger loads = new AtomicInteger();
+        cache.getOrCompute(1L, () -> candidates(loads));
+        assertThat(loads).hasValue(1);
+    }
+
+    private static List<MatchingDto> candidates(AtomicInteger loads) {
+        loads.incrementAndGet();
+        return List.of(MatchingDto.builder().userId(2L).score(50.0).distanceKm(1.0).build());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -0,0 +1,119 @@
+package com.ssafy.bookshy.domain.matching.cycle;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgePair;
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.*;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ExchangeCycleFinderTest {
+
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    record Location(Long userId, Double latitude, Double longitude) implements UserLocation {
+        @Override public Long getUserId() { return userId; }
+        @Override public Double getLatitude() { return latitude; }
+        @Override public Double getLongitude() { return longitude; }
+    }
+
+    record Edge(Long wisherId, Long holderId) implements MatchEdgePair {
+        @Override public Long getWisherId() { return wisherId; }
+        @Override public Long getHolderId() { return holderId; }
+    }
+
+    @Test
+    void findAllCycles_3인과_4인_사이클을_회전_중복_없이_찾는다() {
+        List<UserLocation> locations = new ArrayList<>();
+        for (long id = 1; id <= 7; id++) {
+            locations.add(new Location(id, LAT + id * 0.001, LON));
+        }
+        List<MatchEdgePair> edges = List.of(
+                // 1 → 2 → 3 → 1
+                new Edge(1L, 2L), new Edge(2L, 3L), new Edge(3L, 1L),
+                // 4 → 5 → 6 → 7 → 4
+                new Edge(4L, 5L), new Edge(5L, 6L), new Edge(6L, 7L), new Edge(7L, 4L),
+                // 2인 교환은 사이클로 보지 않음
+                new Edge(1L, 4L), new Edge(4L, 1L));
+
+        List<ExchangeCycle> cycles = ExchangeCycleFinder.findAllCycles(
+                ExchangeCycleGraph.build(locations, edges), Runnable::run, 3);
+
+        assertThat(cycles).extracting(cycle -> Arrays.toString(cycle.getUserIds()))
+                .containsExactlyInAnyOrder("[1, 2, 3]", "[4, 5, 6, 7]");
+    }
+
+    @Test
+    void findAllCycles_반경_밖_사용자와의_간선은_제외() {
+        List<UserLocation> locations = List.of(
+                new Location(1L, LAT, LON),
+                new Location(2L, LAT + 0.01, LON),
+                new Location(3L, LAT + 1.0, LON));   // 약 111km
+        List<MatchEdgePair> edges = List.of(new Edge(1L, 2L), new Edge(2L, 3L), new Edge(3L, 1L));
+
+        assertThat(ExchangeCycleFinder.findAllCycles(ExchangeCycleGraph.build(locations, edges), Runnable::run, 1))
+                .isEmpty();
+    }
+
+    @Test
+    void findAllCycles_시작_정점별로_탐색_순서가_아닌_순위로_상위만_남긴다() {
+        // 1 → x_i → y_i → 1 사이클 60개, 나중에 탐색되는 사이클일수록 가까움
+        int cycleCount = 60;
+        List<UserLocation> locations = new ArrayList<>();
+        List<MatchEdgePair> edges = new ArrayList<>();
+        locations.add(new Location(1L, LAT, LON));
+        for (int i = 0; i < cycleCount; i++) {
+            long x = 100 + i;
+            long y = 200 + i;
+            double offset = (cycleCount - i) * 0.001;
+            locations.add(new Location(x, LAT + offset, LON));
+            locations.add(new Location(y, LAT, LON + offset));
+            edges.add(new Edge(1L, x));
+            edges.add(new Edge(x, y));
+            edges.add(new Edge(y, 1L));
+        }
+
+        List<ExchangeCycle> cycles = ExchangeCycleFinder.findAllCycles(
+                ExchangeCycleGraph.build(locations, edges), Runnable::run, 1);
+
+        Set<Long> kept = new HashSet<>();
+        cycles.forEach(cycle -> kept.add(cycle.getUserIds()[1]));
+        assertThat(cycles).hasSize(50);
+        // 가장 먼 10개(먼저 탐색된 i = 0..9)만 빠짐
+        assertThat(kept).doesNotContain(100L, 109L).contains(110L, 159L);
+        assertThat(cycles).isSortedAccordingTo(ExchangeCycle::compareByRank);
+    }
+
+    @Test
+    void findAllCycles_풀에서_나눠_실행해도_결과가_같다() {
+        List<UserLocation> locations = new ArrayList<>();
+        List<MatchEdgePair> edges = new ArrayList<>();
+        Random random = new Random(7);
+        for (long id = 1; id <= 40; id++) {
+            locations.add(new Location(id, LAT + random.nextDouble() * 0.1, LON + random.nextDouble() * 0.1));
+        }
+        for (int i = 0; i < 200; i++) {
+            long a = 1 + random.nextInt(40);
+            long b = 1 + random.nextInt(40);
+            edges.add(new Edge(a, b));
+        }
+        ExchangeCycleGraph graph = ExchangeCycleGraph.build(locations, edges);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        try {
+            List<String> sequential = keys(ExchangeCycleFinder.findAllCycles(graph, Runnable::run, 1));
+            List<String> parallel = keys(ExchangeCycleFinder.findAllCycles(graph, pool, 16));
+            assertThat(parallel).isEqualTo(sequential);
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    private static List<String> keys(List<ExchangeCycle> cycles) {
+        return cycles.stream().map(cycle -> Arrays.toString(cycle.getUserIds())).toList();
+    }
+}
@@ -0,0 +1,113 @@
+package com.ssafy.bookshy.domain.matching.geo;
+
+import com.ssafy.bookshy.domain.users.dto.UserLocation;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class UserGeoIndexTest {
+
+    // 서울 시청 기준
+    private static final double LAT = 37.5665;
+    private static final double LON = 126.9780;
+
+    record Location(Long userId, Double latitude, Double longitude) implements UserLocation {
+        @Override public Long getUserId() { return userId; }
+        @Override public Double getLatitude() { return latitude; }
+        @Override public Double getLongitude() { return longitude; }
+    }
+
+    @Test
+    void findWithinRadius_반경_밖과_본인은_제외() {
+        UserGeoIndex index = new UserGeoIndex();
+        index.put(1L, LAT, LON);
+        index.put(2L, LAT + 0.05, LON);   // 약 5.6km
+        index.put(3L, LAT + 0.5, LON);    // 약 55km
+
+        Map<Long, Double> nearby = index.findWithinRadius(LAT, LON, 20.0, 1L);
+
+        assertThat(nearby).containsOnlyKeys(2L);
+        assertThat(nearby.get(2L)).isBetween(5.0, 6.0);
+    }
+
+    @Test
+    void put_이동하면_이전_셀에서_빠진다() {
+        UserGeoIndex index = new UserGeoIndex();
+        index.put(1L, LAT, LON);
+        index.put(1L, LAT + 1.0, LON);
+
+        assertThat(index.findWithinRadius(LAT, LON, 20.0, null)).isEmpty();
+        assertThat(index.findWithinRadius(LAT + 1.0, LON, 1.0, null)).containsOnlyKeys(1L);
+        assertThat(index.size()).isEqualTo(1);
+    }
+
+    @Test
+    void remove() {
+        UserGeoIndex index = new UserGeoIndex();
+        index.put(1L, LAT, LON);
+        index.remove(1L);
+
+        assertThat(index.contains(1L)).isFalse();
+        assertThat(index.findWithinRadius(LAT, LON, 20.0, null)).isEmpty();
+    }
+
+    @Test
+    void findNearest_거리순_k명() {
+        UserGeoIndex index = new UserGeoIndex();
+        index.put(1L, LAT + 0.10, LON);
+        index.put(2L, LAT + 0.01, LON);
+        index.put(3L, LAT + 0.05, LON);
+        index.put(4L, LAT + 0.30, LON);   // 약 33km
+
+        List<Map.Entry<Long, Double>> nearest = index.findNearest(LAT, LON, 2, 20.0, null);
+
+        assertThat(nearest).extracting(Map.Entry::getKey).containsExactly(2L, 3L);
+    }
+
+    @Test
+    void rebuild_목록으로_통째로_교체하고_위치가_없는_사용자는_건너뛴다() {
+        UserGeoIndex index = new UserGeoIndex();
+        index.put(9L, LAT, LON);
+
+        Set<Long> touched = index.rebuild(() -> List.of(
+                new Location(1L, LAT, LON),
+                new Location(2L, null, LON)));
+
+        assertThat(touched).isEmpty();
+        assertThat(index.contains(9L)).isFalse();
+        assertThat(index.contains(1L)).isTrue();
+        assertThat(index.contains(2L)).isFalse();
+    }
+
+    @Test
+    void rebuild_적재_중_바뀐_사용자를_재확인_대상으로_돌려준다() {
+        UserGeoIndex index = new UserGeoIndex();
+
+        Set<Long> touched = index.rebuild(() -> {
+            // 목록을 읽는 동안 다른 스레드의 변경이 들어온 상황
+            index.put(5L, LAT, LON);
+            index.remove(6L);
+            return List.of(new Location(1L, LAT, LON));
+        });
+
+        assertThat(touched).containsExactlyInAnyOrder(5L, 6L);
+        // 적재 결과에는 없으므로 호출부가 다시 조회해 반영해야 함
+        assertThat(index.contains(5L)).isFalse();
+    }
+
+    @Test
+    void rebuild_적재_중_다시_호출하면_건너뛴다() {
+        UserGeoIndex index = new UserGeoIndex();
+
+        index.rebuild(() -> {
+            assertThat(index.rebuild(List::of)).isEmpty();
+            return List.of(new Location(1L, LAT, LON));
+        });
+
+        assertThat(index.contains(1L)).isTrue();
+    }
+}
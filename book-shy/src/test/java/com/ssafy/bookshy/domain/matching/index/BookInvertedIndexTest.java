@@ -0,0 +1,105 @@
+package com.ssafy.bookshy.domain.matching.index;
+
+import com.ssafy.bookshy.domain.matching.dto.UserBookPair;
+import org.junit.jupiter.api.Test;
+import org.roaringbitmap.RoaringBitmap;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BookInvertedIndexTest {
+
+    record Pair(Long userId, Long bookId) implements UserBookPair {
+        @Override public Long getUserId() { return userId; }
+        @Override public Long getBookId() { return bookId; }
+    }
+
+    @Test
+    void findMutualCandidates_양방향이고_범위_안인_사용자만() {
+        BookInvertedIndex index = new BookInvertedIndex();
+        index.rebuild(
+                () -> List.of(
+                        new Pair(1L, 10L),   // 나(1)의 공개 도서 10
+                        new Pair(2L, 20L),   // 2가 내가 원하는 20 보유
+                        new Pair(3L, 20L),   // 3도 20 보유
+                        new Pair(4L, 20L)),  // 4도 20 보유
+                () -> List.of(
+                        new Pair(1L, 20L),   // 나는 20을 원함
+                        new Pair(2L, 10L),   // 2는 10을 원함 → 양방향
+                        new Pair(4L, 10L))); // 4도 10을 원함 → 양방향이지만 범위 밖
+
+        RoaringBitmap candidates = index.findMutualCandidates(1L, List.of(2L, 3L));
+
+        assertThat(candidates.toArray()).containsExactly(2);
+    }
+
+    @Test
+    void setWisher_setHolder_비트_갱신() {
+        BookInvertedIndex index = new BookInvertedIndex();
+        index.setHolder(1L, 10L, true);
+        index.setHolder(2L, 20L, true);
+        index.setWisher(1L, 20L, true);
+        index.setWisher(2L, 10L, true);
+
+        assertThat(index.isWishedBy(10L, 2L)).isTrue();
+        assertThat(index.findMutualCandidates(1L, List.of(2L)).contains(2)).isTrue();
+
+        index.setWisher(2L, 10L, false);
+
+        assertThat(index.isWishedBy(10L, 2L)).isFalse();
+        assertThat(index.findMutualCandidates(1L, List.of(2L)).isEmpty()).isTrue();
+    }
+
+    @Test
+    void rebuild_이전_색인을_통째로_교체() {
+        BookInvertedIndex index = new BookInvertedIndex();
+        index.setWisher(9L, 90L, true);
+
+        Set<BookInvertedIndex.Bit> touched = index.rebuild(List::of, () -> List.of(new Pair(1L, 10L)));
+
+        assertThat(touched).isEmpty();
+        assertThat(index.isWishedBy(90L, 9L)).isFalse();
+        assertThat(index.isWishedBy(10L, 1L)).isTrue();
+    }
+
+    @Test
+    void rebuild_적재_중_바뀐_비트를_재확인_대상으로_돌려준다() {
+        BookInvertedIndex index = new BookInvertedIndex();
+
+        Set<BookInvertedIndex.Bit> touched = index.rebuild(
+                () -> {
+                    // 목록을 읽는 동안 다른 스레드의 증분 갱신이 들어온 상황
+                    index.setHolder(2L, 20L, true);
+                    return List.of();
+                },
+                () -> {
+                    index.setWisher(3L, 30L, false);
+                    return List.of();
+                });
+
+        assertThat(touched).containsExactlyInAnyOrder(
+                new BookInvertedIndex.Bit(BookInvertedIndex.Kind.HOLDER, 2L, 20L),
+                new BookInvertedIndex.Bit(BookInvertedIndex.Kind.WISHER, 3L, 30L));
+
+        // 이후 갱신은 재확인 대상에 쌓이지 않음
+        assertThat(index.rebuild(List::of, List::of)).isEmpty();
+    }
+
+    @Test
+    void rebuild_적재_중_다시_호출하면_건너뛴다() {
+        BookInvertedIndex index = new BookInvertedIndex();
+
+        index.rebuild(() -> {
+            assertThat(index.rebuild(List::of, List::of)).isEmpty();
+            return List.of(new Pair(1L, 10L));
+        }, List::of);
+
+        assertThat(index.findMutualCandidates(2L, List.of(1L)).isEmpty()).isTrue();
+        index.setWisher(2L, 10L, true);
+        index.setHolder(2L, 11L, true);
+        index.setWisher(1L, 11L, true);
+        assertThat(index.findMutualCandidates(2L, List.of(1L)).contains(1)).isTrue();
+    }
+}
@@ -0,0 +1,49 @@
+package com.ssafy.bookshy.domain.matching.service;
+
+import com.ssafy.bookshy.domain.matching.dto.MatchEdgeBook;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class MatchingCandidateJoinTest {
+
+    record Row(Long partnerId, Long bookId, String title) implements MatchEdgeBook {
+        @Override public Long getPartnerId() { return partnerId; }
+        @Override public Long getBookId() { return bookId; }
+        @Override public String getTitle() { return title; }
+    }
+
+    @Test
+    void groupByPartner_상대별로_묶고_같은_도서는_한번만() {
+        Map<Long, Map<Long, String>> grouped = MatchingCandidateJoin.groupByPartner(List.of(
+                new Row(2L, 10L, "A"),
+                new Row(1L, 11L, "B"),
+                new Row(2L, 10L, "A"),
+                new Row(2L, 12L, "C")));
+
+        assertThat(grouped.keySet()).containsExactly(2L, 1L);
+        assertThat(grouped.get(2L).keySet()).containsExactly(10L, 12L);
+        assertThat(grouped.get(1L)).containsExactlyEntriesOf(Map.of(11L, "B"));
+    }
+
+    @Test
+    void mutualPartners_양쪽_도서가_모두_있는_상대만() {
+        Map<Long, Map<Long, String>> theirBooks = MatchingCandidateJoin.groupByPartner(List.of(
+                new Row(1L, 10L, "A"),
+                new Row(2L, 11L, "B"),
+                new Row(3L, 12L, "C")));
+        Map<Long, Map<Long, String>> myBooks = MatchingCandidateJoin.groupByPartner(List.of(
+                new Row(3L, 20L, "X"),
+                new Row(1L, 21L, "Y")));
+
+        assertThat(MatchingCandidateJoin.mutualPartners(theirBooks, myBooks)).containsExactly(1L, 3L);
+    }
+
+    @Test
+    void mutualPartners_빈_입력() {
+        assertThat(MatchingCandidateJoin.mutualPartners(Map.of(), Map.of())).isEmpty();
+    }
+}
@@ -0,0 +1,58 @@
+package com.ssafy.bookshy.domain.matching.util;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.within;
+
+class MatchingScoreCalculatorTest {
+
+    private static final double MY_LAT = 37.5665;
+    private static final double MY_LON = 126.9780;
+    private static final long DAY = 24L * 60 * 60 * 1000;
+
+    @Test
+    void scoreBatch_좌표_경로와_거리_경로의_점수가_같다() {
+        long now = System.currentTimeMillis();
+        double[] lats = {MY_LAT + 0.005, MY_LAT + 0.05, MY_LAT + 0.12, MY_LAT + 1.0};
+        double[] lons = {MY_LON, MY_LON + 0.02, MY_LON, MY_LON};
+        float[] temperatures = {36.5f, MatchingScoreCalculator.NO_TEMPERATURE, 80f, 50f};
+        long[] lastActive = {now - DAY, now - 5 * DAY, MatchingScoreCalculator.NO_LAST_ACTIVE, now};
+
+        double[] byCoordinates = new double[4];
+        double[] distances = new double[4];
+        MatchingScoreCalculator.scoreBatch(MY_LAT, MY_LON, lats, lons, temperatures, lastActive, 4, now, byCoordinates, distances);
+
+        double[] byDistances = new double[4];
+        MatchingScoreCalculator.scoreBatch(distances, temperatures, lastActive, 4, now, byDistances);
+
+        assertThat(byDistances).containsExactly(byCoordinates);
+    }
+
+    @Test
+    void scoreBatch_반경_안에서는_하버사인_거리와_같다() {
+        double lat = MY_LAT + 0.1;
+        double[] distances = new double[1];
+        MatchingScoreCalculator.scoreBatch(MY_LAT, MY_LON, new double[]{lat}, new double[]{MY_LON},
+                new float[]{MatchingScoreCalculator.NO_TEMPERATURE}, new long[]{MatchingScoreCalculator.NO_LAST_ACTIVE},
+                1, 0L, new double[1], distances);
+
+        assertThat(distances[0]).isCloseTo(MatchingScoreCalculator.calculateDistance(MY_LAT, MY_LON, lat, MY_LON), within(1e-9));
+    }
+
+    @Test
+    void scoreBatch_거리_경로_점수_구간() {
+        long now = System.currentTimeMillis();
+        double[] scores = new double[3];
+        MatchingScoreCalculator.scoreBatch(
+                new double[]{0.5, 12.0, 25.0},
+                new float[]{70f, MatchingScoreCalculator.NO_TEMPERATURE, 30f},
+                new long[]{now, now - 5 * DAY, MatchingScoreCalculator.NO_LAST_ACTIVE},
+                3, now, scores);
+
+        // (6 + 4 + 4) / 14 → 100, (2 + 0 + 2) / 14, 반경 밖(0 + 0 + 0)
+        assertThat(scores[0]).isEqualTo(100.0);
+        assertThat(scores[1]).isCloseTo(4.0 / 14.0 * 100.0, within(1e-9));
+        assertThat(scores[2]).isZero();
+    }
+}
@@ -0,0 +1,128 @@
+package com.ssafy.bookshy.external.aladin;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class AladinItemCacheTest {
+
+    private static final String KEY = "itemId:1";
+    private static final String REDIS_KEY = "aladin:item:v2:itemId:1";
+    private static final AladinItem ITEM = new AladinItem(1L, "제목", "저자", "출판사", "cover.jpg",
+            "설명", "2024-01-01", "국내도서>소설", "9780000000001", 320);
+
+    private ValueOperations<String, String> values;
+    private ThreadPoolTaskExecutor refreshExecutor;
+    private ObjectMapper objectMapper;
+    private AladinItemCache cache;
+
+    @BeforeEach
+    @SuppressWarnings("unchecked")
+    void setUp() {
+        RedisTemplate<String, String> redisTemplate = mock(RedisTemplate.class);
+        values = mock(ValueOperations.class);
+        when(redisTemplate.opsForValue()).thenReturn(values);
+        refreshExecutor = mock(ThreadPoolTaskExecutor.class);
+        doAnswer(invocation -> {
+            ((Runnable) invocation.getArgument(0)).run();
+            return null;
+        }).when(refreshExecutor).execute(any(Runnable.class));
+        objectMapper = new ObjectMapper();
+
+        cache = new AladinItemCache(redisTemplate, objectMapper, refreshExecutor, new SimpleMeterRegistry(),
+                100, 3600, 604800, 600, 21600);
+    }
+
+    @Test
+    void 미스면_한_번_불러와_두_단계에_저장하고_이후는_로컬에서_반환한다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        AladinItem first = cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return ITEM;
+        });
+        AladinItem second = cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return ITEM;
+        });
+
+        assertThat(first).isEqualTo(ITEM);
+        assertThat(second).isSameAs(first);
+        assertThat(loads).hasValue(1);
+        verify(values).set(eq(REDIS_KEY), anyString(), eq(Duration.ofSeconds(604800)));
+        verify(values, times(1)).get(REDIS_KEY);
+    }
+
+    @Test
+    void Redis에_저장된_JSON을_AladinItem으로_읽고_로더는_부르지_않는다() throws Exception {
+        when(values.get(REDIS_KEY))
+                .thenReturn(System.currentTimeMillis() + "|" + objectMapper.writeValueAsString(ITEM));
+
+        AladinItem item = cache.get(KEY, () -> {
+            throw new AssertionError("loader must not be called");
+        });
+
+        assertThat(item).isEqualTo(ITEM);
+    }
+
+    @Test
+    void 도서가_없으면_null을_짧은_TTL로_기억한다() {
+        AtomicInteger loads = new AtomicInteger();
+
+        assertThat(cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+        assertThat(cache.get(KEY, () -> {
+            loads.incrementAndGet();
+            return null;
+        })).isNull();
+
+        assertThat(loads).hasValue(1);
+        verify(values).set(eq(REDIS_KEY), anyString(), eq(Duration.ofSeconds(600)));
+    }
+
+    @Test
+    void 오래된_항목은_기존_값을_반환하고_백그라운드에서_다시_불러온다() throws Exception {
+        long loadedAt = System.currentTimeMillis() - Duration.ofHours(7).toMillis();
+        when(values.get(REDIS_KEY)).thenReturn(loadedAt + "|" + objectMapper.writeValueAsString(ITEM));
+        AladinItem refreshed = new AladinItem(1L, "새 제목", "저자", "출판사", "cover.jpg",
+                "설명", "2024-01-01", "국내도서>소설", "9780000000001", 320);
+
+        AladinItem item = cache.get(KEY, () -> refreshed);
+
+        assertThat(item).isEqualTo(ITEM);
+        verify(refreshExecutor).execute(any(Runnable.class));
+        assertThat(cache.get(KEY, () -> refreshed)).isEqualTo(refreshed);
+    }
+
+    @Test
+    void Redis_오류나_예전_형식_값은_미스로_처리한다() {
+        when(values.get(REDIS_KEY)).thenThrow(new RedisConnectionFailureException("down"));
+
+        assertThat(cache.get(KEY, () -> ITEM)).isEqualTo(ITEM);
+
+        when(values.get("aladin:item:v2:itemId:2")).thenReturn("123|{\"item\":[]");
+        assertThat(cache.get("itemId:2", () -> ITEM)).isEqualTo(ITEM);
+        verify(refreshExecutor, never()).execute(any(Runnable.class));
+    }
+}
@@ -0,0 +1,124 @@
+package com.ssafy.bookshy.external.aladin;
+
+import com.ssafy.bookshy.domain.book.dto.BookListResponseDto;
+import com.ssafy.bookshy.domain.book.dto.BookResponseDto;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class AladinResponseParserTest {
+
+    private final AladinResponseParser parser = new AladinResponseParser();
+
+    private static byte[] utf8(String json) {
+        return json.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Test
+    void 바이트_본문에서_한글_필드와_쪽수를_읽는다() throws IOException {
+        byte[] body = utf8("""
+                {"version":"20131101","totalResults":1,"item":[
+                  {"itemId":123,"title":"채식주의자","author":"한강 (지은이)","publisher":"창비",
+                   "cover":"cover.jpg","description":"설명","pubDate":"2007-10-30",
+                   "categoryName":"국내도서>소설/시/희곡>한국소설","isbn13":"9788936433598",
+                   "subInfo":{"itemPage":247},"extra":{"nested":[1,2,3]}}
+                ]}
+                """);
+
+        List<AladinItem> items = parser.parseItems(body);
+
+        assertThat(items).containsExactly(new AladinItem(123L, "채식주의자", "한강 (지은이)", "창비", "cover.jpg",
+                "설명", "2007-10-30", "국내도서>소설/시/희곡>한국소설", "9788936433598", 247));
+    }
+
+    @Test
+    void 쪽수는_bookinfo가_있으면_subInfo보다_우선하고_0이하는_null이다() throws IOException {
+        byte[] body = utf8("""
+                {"item":[
+                  {"itemId":1,"subInfo":{"itemPage":100},"bookinfo":{"itemPage":320}},
+                  {"itemId":2,"bookinfo":{"itemPage":0},"subInfo":{"itemPage":100}},
+                  {"itemId":3,"subInfo":{"itemPage":100}}
+                ]}
+                """);
+
+        List<AladinItem> items = parser.parseItems(body);
+
+        assertThat(items).extracting(AladinItem::itemPage).containsExactly(320, null, 100);
+    }
+
+    @Test
+    void 비표준_escape와_제어_문자와_HTML_엔티티를_정리한다() throws IOException {
+        byte[] body = utf8("{\"item\":[{\"itemId\":1,\"title\":\"It\\'s &lt;A&gt; &amp; B\","
+                + "\"description\":\"첫 줄\n둘째\t줄\"}]}");
+
+        BookListResponseDto book = parser.parseBookList(body).get(0);
+
+        assertThat(book.getTitle()).isEqualTo("It's <A> & B");
+        assertThat(book.getDescription()).isEqualTo("첫 줄 둘째 줄");
+    }
+
+    @Test
+    void 도서_DTO는_fromAladin과_같은_값으로_바로_만든다() throws IOException {
+        byte[] body = utf8("""
+                {"item":[{"itemId":7,"title":"제목","author":"저자","publisher":"출판사","cover":"c.jpg",
+                  "description":"설명","pubDate":"2024-01-01","categoryName":"국내도서>경제경영>투자",
+                  "isbn13":"9780000000007","bookinfo":{"itemPage":210}}]}
+                """);
+
+        BookResponseDto direct = parser.parseBooks(body).get(0);
+        BookResponseDto viaItem = BookResponseDto.fromAladin(parser.parseItems(body).get(0));
+
+        assertThat(direct).isEqualTo(viaItem);
+        assertThat(direct.getCategory()).isEqualTo("경제경영");
+        assertThat(direct.getPageCount()).isEqualTo(210);
+        assertThat(direct.getIsLiked()).isFalse();
+    }
+
+    @Test
+    void 목록_DTO는_목록에_쓰는_필드만_채운다() throws IOException {
+        byte[] body = utf8("""
+                {"item":[{"itemId":7,"title":"제목","author":"저자","publisher":"출판사","cover":"c.jpg",
+                  "description":"설명","categoryName":"국내도서>경제경영","bookinfo":{"itemPage":210}}]}
+                """);
+
+        List<BookListResponseDto> books = parser.parseBookList(body);
+
+        assertThat(books).containsExactly(BookListResponseDto.builder()
+                .itemId(7L)
+                .title("제목")
+                .author("저자")
+                .publisher("출판사")
+                .coverImageUrl("c.jpg")
+                .description("설명")
+                .build());
+    }
+
+    @Test
+    void item이_없는_오류_응답과_객체가_아닌_본문은_빈_목록이다() throws IOException {
+        assertThat(parser.parseBooks(utf8("{\"errorCode\":8,\"errorMessage\":\"잘못된 TTBKey\"}"))).isEmpty();
+        assertThat(parser.parseBooks(utf8("{\"item\":null}"))).isEmpty();
+        assertThat(parser.parseBooks(utf8("[]"))).isEmpty();
+        assertThat(parser.parseBooks(new byte[0])).isEmpty();
+    }
+
+    @Test
+    void JSON이_아니면_IOException을_던진다() {
+        assertThatThrownBy(() -> parser.parseBookList(utf8("<html>error</html>")))
+                .isInstanceOf(IOException.class);
+        assertThatThrownBy(() -> parser.parseItems(utf8("{\"item\":[{\"title\":\"끊긴")))
+                .isInstanceOf(IOException.class);
+    }
+
+    @Test
+    void 문자열_경로와_바이트_경로의_결과가_같다() throws IOException {
+        String json = "{\"item\":[{\"itemId\":1,\"title\":\"소년이 온다\",\"isbn13\":\"9788936434120\"},"
+                + "{\"itemId\":2,\"title\":\"작별하지 않는다\",\"bookinfo\":{\"itemPage\":332}}]}";
+
+        assertThat(parser.parseItems(utf8(json))).isEqualTo(parser.parseItems(json));
+    }
+}
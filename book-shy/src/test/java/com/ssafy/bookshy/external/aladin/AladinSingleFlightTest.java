@@ -0,0 +1,143 @@
+package com.ssafy.bookshy.external.aladin;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.fail;
+
+class AladinSingleFlightTest {
+
+    private final ExecutorService executor = Executors.newFixedThreadPool(4);
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Test
+    void 대기_시간은_풀_대기_연결_응답_제한과_여유의_합이다() {
+        AladinSingleFlight singleFlight = new AladinSingleFlight(new SimpleMeterRegistry(), 1000, 2000, 5000, 500);
+
+        assertThat(singleFlight.waitMs()).isEqualTo(8500);
+    }
+
+    @Test
+    void 진행_중인_같은_키는_한_번만_호출하고_결과를_함께_받는다() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AladinSingleFlight singleFlight = new AladinSingleFlight(registry, 1000, 1000, 1000, 0);
+        AtomicInteger calls = new AtomicInteger();
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("ItemLookUp", "key", () -> {
+                    calls.incrementAndGet();
+                    leaderStarted.countDown();
+                    await(release);
+                    return "body";
+                }), executor);
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        CompletableFuture<String> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("ItemLookUp", "key", () -> {
+                    calls.incrementAndGet();
+                    return "other";
+                }), executor);
+        awaitFollower(registry);
+        release.countDown();
+
+        assertThat(leader.get(1, TimeUnit.SECONDS)).isEqualTo("body");
+        assertThat(follower.get(1, TimeUnit.SECONDS)).isEqualTo("body");
+        assertThat(calls).hasValue(1);
+    }
+
+    @Test
+    void 끝난_호출은_보관하지_않아_다음_요청은_다시_호출한다() {
+        AladinSingleFlight singleFlight = new AladinSingleFlight(new SimpleMeterRegistry(), 1000, 1000, 1000, 0);
+        AtomicInteger calls = new AtomicInteger();
+
+        singleFlight.execute("ItemLookUp", "key", calls::incrementAndGet);
+        singleFlight.execute("ItemLookUp", "key", calls::incrementAndGet);
+
+        assertThat(calls).hasValue(2);
+    }
+
+    @Test
+    void leader의_예외는_follower에게도_그대로_전달된다() throws Exception {
+        SimpleMeterRegistry registry = new SimpleMeterRegistry();
+        AladinSingleFlight singleFlight = new AladinSingleFlight(registry, 1000, 1000, 1000, 0);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture<Object> leader = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("ItemLookUp", "key", () -> {
+                    leaderStarted.countDown();
+                    await(release);
+                    throw new AladinException(AladinErrorCode.API_CALL_FAILED);
+                }), executor);
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        CompletableFuture<Object> follower = CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("ItemLookUp", "key", () -> "other"), executor);
+        awaitFollower(registry);
+        release.countDown();
+
+        assertThatThrownBy(() -> follower.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(AladinException.class);
+        assertThatThrownBy(() -> leader.get(1, TimeUnit.SECONDS)).hasCauseInstanceOf(AladinException.class);
+    }
+
+    @Test
+    void follower는_대기_시간이_지나면_API_CALL_FAILED() throws Exception {
+        AladinSingleFlight singleFlight = new AladinSingleFlight(new SimpleMeterRegistry(), 10, 10, 10, 0);
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        CompletableFuture.supplyAsync(() ->
+                singleFlight.execute("ItemLookUp", "key", () -> {
+                    leaderStarted.countDown();
+                    await(release);
+                    return "late";
+                }), executor);
+        assertThat(leaderStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        try {
+            assertThatThrownBy(() -> singleFlight.execute("ItemLookUp", "key", () -> "other"))
+                    .isInstanceOf(AladinException.class);
+        } finally {
+            release.countDown();
+        }
+    }
+
+    // follower로 등록(진행 중인 호출을 찾음)된 뒤에 leader를 풀어야 follower가 새 leader가 되지 않음
+    private static void awaitFollower(SimpleMeterRegistry registry) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (true) {
+            Counter followers = registry.find("aladin.singleflight.calls").tag("role", "follower").counter();
+            if (followers != null && followers.count() >= 1) {
+                return;
+            }
+            if (System.nanoTime() > deadline) {
+                fail("follower가 5초 안에 등록되지 않음");
+            }
+            Thread.sleep(1);
+        }
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
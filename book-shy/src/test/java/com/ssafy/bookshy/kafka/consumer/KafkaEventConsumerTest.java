@@ -0,0 +1,124 @@
+package com.ssafy.bookshy.kafka.consumer;
+
+import com.ssafy.bookshy.common.websocket.WebSocketRelay;
+import com.ssafy.bookshy.domain.chat.dto.ChatMessageResponseDto;
+import com.ssafy.bookshy.domain.chat.inbox.ChatInboxUpdateDispatcher;
+import com.ssafy.bookshy.domain.chat.service.ChatMessageService;
+import com.ssafy.bookshy.domain.chat.service.ChatRoomService;
+import com.ssafy.bookshy.domain.notification.service.NotificationService;
+import com.ssafy.bookshy.domain.users.repository.UserRepository;
+import com.ssafy.bookshy.kafka.dto.ChatMessageKafkaDto;
+import org.apache.kafka.clients.consumer.ConsumerRecord;
+import org.elasticsearch.client.RestHighLevelClient;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.kafka.listener.BatchListenerFailedException;
+import org.springframework.kafka.support.Acknowledgment;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class KafkaEventConsumerTest {
+
+    private ChatMessageService chatMessageService;
+    private WebSocketRelay webSocketRelay;
+    private Acknowledgment ack;
+    private KafkaEventConsumer consumer;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageService = mock(ChatMessageService.class);
+        webSocketRelay = mock(WebSocketRelay.class);
+        ack = mock(Acknowledgment.class);
+        consumer = new KafkaEventConsumer(chatMessageService, mock(ChatRoomService.class), webSocketRelay,
+                mock(RestHighLevelClient.class), mock(UserRepository.class), mock(NotificationService.class),
+                mock(RecommendEventBulkIndexer.class), mock(ChatInboxUpdateDispatcher.class));
+    }
+
+    @Test
+    void 일괄_저장이_성공하면_전송하고_커밋한다() {
+        List<ConsumerRecord<String, ChatMessageKafkaDto>> records = List.of(record(0, 1L, "a"), record(1, 2L, "b"));
+        when(chatMessageService.saveMessagesFromKafka(any())).thenReturn(List.of(saved(10L, 1L), saved(11L, 2L)));
+
+        consumer.listenChatMessageBatch(records, ack);
+
+        verify(webSocketRelay).send(eq("/topic/chat/1"), any());
+        verify(webSocketRelay).send(eq("/topic/chat/2"), any());
+        verify(ack).acknowledge();
+    }
+
+    @Test
+    void 일괄_저장이_실패하면_한_건씩_저장하고_저장되지_않는_레코드의_위치를_알린다() {
+        ChatMessageKafkaDto good = dto(1L, "a");
+        ChatMessageKafkaDto bad = dto(2L, "too long");
+        ChatMessageKafkaDto after = dto(3L, "c");
+        List<ConsumerRecord<String, ChatMessageKafkaDto>> records =
+                List.of(record(0, good), record(1, bad), record(2, after));
+        when(chatMessageService.saveMessagesFromKafka(List.of(good, bad, after)))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+        when(chatMessageService.saveMessagesFromKafka(List.of(good))).thenReturn(List.of(saved(10L, 1L)));
+        when(chatMessageService.saveMessagesFromKafka(List.of(bad)))
+                .thenThrow(new DataIntegrityViolationException("value too long"));
+
+        assertThatThrownBy(() -> consumer.listenChatMessageBatch(records, ack))
+                .isInstanceOfSatisfying(BatchListenerFailedException.class, e -> assertThat(e.getIndex()).isEqualTo(1));
+
+        // 앞서 저장된 메시지는 전송, 실패 레코드 뒤는 저장하지 않음 (에러 핸들러가 다시 전달)
+        verify(webSocketRelay).send(eq("/topic/chat/1"), any());
+        verify(chatMessageService, never()).saveMessagesFromKafka(List.of(after));
+        verify(ack, never()).acknowledge();
+    }
+
+    @Test
+    void 한_건씩_저장이_모두_성공하면_커밋한다() {
+        ChatMessageKafkaDto first = dto(1L, "a");
+        ChatMessageKafkaDto second = dto(2L, "b");
+        List<ConsumerRecord<String, ChatMessageKafkaDto>> records = List.of(record(0, first), record(1, second));
+        when(chatMessageService.saveMessagesFromKafka(List.of(first, second)))
+                .thenThrow(new IllegalStateException("deadlock"));
+        when(chatMessageService.saveMessagesFromKafka(List.of(first))).thenReturn(List.of(saved(10L, 1L)));
+        when(chatMessageService.saveMessagesFromKafka(List.of(second))).thenReturn(List.of(saved(11L, 2L)));
+
+        consumer.listenChatMessageBatch(records, ack);
+
+        verify(webSocketRelay, times(2)).send(anyString(), any());
+        verify(ack).acknowledge();
+    }
+
+    private static ChatMessageKafkaDto dto(Long chatRoomId, String content) {
+        return ChatMessageKafkaDto.builder()
+                .chatRoomId(chatRoomId)
+                .senderId(100L)
+                .content(content)
+                .type("chat")
+                .build();
+    }
+
+    private static ConsumerRecord<String, ChatMessageKafkaDto> record(long offset, Long chatRoomId, String content) {
+        return record(offset, dto(chatRoomId, content));
+    }
+
+    private static ConsumerRecord<String, ChatMessageKafkaDto> record(long offset, ChatMessageKafkaDto dto) {
+        return new ConsumerRecord<>("chat.message", 0, offset, String.valueOf(dto.getChatRoomId()), dto);
+    }
+
+    private static ChatMessageResponseDto saved(Long id, Long chatRoomId) {
+        return ChatMessageResponseDto.builder()
+                .id(id)
+                .chatRoomId(chatRoomId)
+                .senderId(100L)
+                .content("content")
+                .build();
+    }
+}
@@ -0,0 +1,102 @@
+package com.ssafy.bookshy.kafka.outbox;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ssafy.bookshy.kafka.producer.KafkaProducer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.kafka.support.SendResult;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class OutboxRelayTest {
+
+    private OutboxClaimer outboxClaimer;
+    private OutboxEventRepository outboxEventRepository;
+    private KafkaProducer kafkaProducer;
+    private OutboxRelay relay;
+
+    @BeforeEach
+    void setUp() {
+        outboxClaimer = mock(OutboxClaimer.class);
+        outboxEventRepository = mock(OutboxEventRepository.class);
+        kafkaProducer = mock(KafkaProducer.class);
+        relay = new OutboxRelay(outboxClaimer, outboxEventRepository, kafkaProducer, new ObjectMapper());
+        ReflectionTestUtils.setField(relay, "batchSize", 500);
+        ReflectionTestUtils.setField(relay, "leaseSeconds", 30L);
+    }
+
+    @Test
+    void relay_같은_키의_앞_이벤트가_실패하면_뒤_이벤트는_발행하지_않고_임대를_푼다() {
+        OutboxEvent first = event(1L, "room-1");
+        OutboxEvent second = event(2L, "room-1");
+        OutboxEvent other = event(3L, "room-2");
+        when(outboxClaimer.claim(anyInt(), any(Duration.class))).thenReturn(List.of(first, second, other));
+        when(kafkaProducer.sendOutboxRecord(eq("topic"), eq("room-1"), any()))
+                .thenReturn(CompletableFuture.failedFuture(new IllegalStateException("broker down")));
+        when(kafkaProducer.sendOutboxRecord(eq("topic"), eq("room-2"), any())).thenReturn(sent());
+
+        relay.relay();
+
+        // room-1은 첫 이벤트만 시도
+        verify(kafkaProducer, times(1)).sendOutboxRecord(eq("topic"), eq("room-1"), any());
+        verify(outboxEventRepository).markSent(eq(List.of(3L)), any());
+        verify(outboxEventRepository).release(List.of(1L, 2L));
+    }
+
+    @Test
+    void relay_모두_성공하면_임대를_풀지_않고_sent로_기록한다() {
+        when(outboxClaimer.claim(anyInt(), any(Duration.class)))
+                .thenReturn(List.of(event(1L, "room-1"), event(2L, "room-1"), event(3L, null)));
+        when(kafkaProducer.sendOutboxRecord(eq("topic"), any(), any())).thenReturn(sent());
+
+        relay.relay();
+
+        verify(outboxEventRepository).markSent(eq(List.of(1L, 2L, 3L)), any());
+        verify(outboxEventRepository, never()).release(any());
+    }
+
+    @Test
+    void sendInKeyOrder_같은_키는_앞_이벤트_발행이_확인된_뒤에_발행한다() {
+        CompletableFuture<SendResult<String, Object>> firstAck = new CompletableFuture<>();
+        when(kafkaProducer.sendOutboxRecord(eq("topic"), eq("room-1"), any()))
+                .thenReturn(firstAck)
+                .thenReturn(sent());
+        when(kafkaProducer.sendOutboxRecord(eq("topic"), eq("room-2"), any())).thenReturn(sent());
+
+        List<CompletableFuture<?>> futures = relay.sendInKeyOrder(
+                List.of(event(1L, "room-1"), event(2L, "room-1"), event(3L, "room-2")));
+
+        // 다른 키는 바로 발행, 같은 키의 두 번째는 대기
+        verify(kafkaProducer, times(1)).sendOutboxRecord(eq("topic"), eq("room-1"), any());
+        assertThat(futures.get(1)).isNotDone();
+        assertThat(futures.get(2)).isCompleted();
+
+        firstAck.complete(null);
+
+        verify(kafkaProducer, times(2)).sendOutboxRecord(eq("topic"), eq("room-1"), any());
+        assertThat(futures.get(1)).isCompleted();
+    }
+
+    private static CompletableFuture<SendResult<String, Object>> sent() {
+        return CompletableFuture.completedFuture(null);
+    }
+
+    private static OutboxEvent event(Long id, String key) {
+        OutboxEvent event = OutboxEvent.builder().topic("topic").eventKey(key).payload("{\"id\":" + id + "}").build();
+        ReflectionTestUtils.setField(event, "id", id);
+        return event;
+    }
+}
@@ -1,5 +1,5 @@
 import { useEffect, useRef, useState, useCallback, useLayoutEffect } from 'react';
-import { ChatMessage, RegisterSchedulePayload } from '@/types/chat/chat.ts';
+import { ChatMessage, ImageProcessedPayload, RegisterSchedulePayload } from '@/types/chat/chat.ts';
 import ChatMessageItem from './ChatMessageItem.tsx';
 import ChatInput from './ChatInput.tsx';
 import ChatRoomHeader from './ChatRoomHeader.tsx';
@@ -133,11 +133,13 @@ function ChatRoom({ myBookId, myBookName, otherBookId, otherBookName }: Props) {
   }, [numericRoomId]);
 
   const onRead = useCallback(
-    (payload: { readerId: number; messageIds: number[] }) => {
+    (payload: { readerId: number; lastReadMessageId: number }) => {
       if (payload.readerId === userId) return;
       setMessages((prev) =>
         prev.map((msg) =>
-          payload.messageIds.includes(Number(msg.id)) ? { ...msg, read: true } : msg,
+          msg.senderId !== payload.readerId && Number(msg.id) <= payload.lastReadMessageId
+            ? { ...msg, read: true }
+            : msg,
         ),
       );
     },
@@ -170,7 +172,13 @@ function ChatRoom({ myBookId, myBookName, otherBookId, otherBookName }: Props) {
   );
 
   const { sendMessage } = useStomp(numericRoomId, onMessage, onRead);
-  const { subscribeCalendarTopic, subscribeEmojiTopic, unsubscribe, isConnected } = useWebSocket();
+  const {
+    subscribeCalendarTopic,
+    subscribeEmojiTopic,
+    subscribeImageTopic,
+    unsubscribe,
+    isConnected,
+  } = useWebSocket();
 
   useEffect(() => {
     if (!isConnected || isNaN(numericRoomId)) return;
@@ -224,6 +232,31 @@ function ChatRoom({ myBookId, myBookName, otherBookId, otherBookName }: Props) {
     return () => unsubscribe(sub);
   }, [numericRoomId, subscribeEmojiTopic, unsubscribe, isConnected]);
 
+  // 🖼️ 서버에서 썸네일 변환이 끝나면 원본 대신 썸네일로 교체
+  useEffect(() => {
+    if (!isConnected || isNaN(numericRoomId)) return;
+
+    const sub = subscribeImageTopic(
+      numericRoomId,
+      ({ messageId, thumbnailUrl, mediumUrl, imageStatus }: ImageProcessedPayload) => {
+        setMessages((prev) =>
+          prev.map((msg) =>
+            Number(msg.id) === messageId
+              ? {
+                  ...msg,
+                  thumbnailUrl: thumbnailUrl ?? msg.thumbnailUrl,
+                  mediumUrl: mediumUrl ?? msg.mediumUrl,
+                  imageStatus,
+                }
+              : msg,
+          ),
+        );
+      },
+    );
+
+    return () => unsubscribe(sub);
+  }, [numericRoomId, subscribeImageTopic, unsubscribe, isConnected]);
+
   useEffect(() => {
     const container = messagesEndRef.current?.parentElement;
     if (!container) return;
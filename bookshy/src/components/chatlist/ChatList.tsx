@@ -25,40 +25,46 @@ function ChatList() {
   }, [location.pathname, refetch]);
 
   useEffect(() => {
-    const subscription = subscribeUser(myUserId, (msg: ChatRoomSummary) => {
-      console.log('📨 WebSocket 수신:', msg);
+    const subscription = subscribeUser(myUserId, (rooms: ChatRoomSummary[]) => {
+      console.log('📨 WebSocket 수신:', rooms);
       queryClient.setQueryData(['chatList'], (prev: any) => {
         if (!Array.isArray(prev)) return prev;
 
-        const exists = prev.some((room: any) => room.id === msg.id);
+        let next = prev;
+        rooms.forEach((msg) => {
+          const exists = next.some((room: any) => room.id === msg.id);
 
-        if (!exists) {
-          return [
-            ...prev,
-            {
-              id: msg.id,
-              partnerName: msg.partnerName || '상대방',
-              partnerProfileImage: '',
-              lastMessage: msg.lastMessage,
-              lastMessageTime: msg.lastMessageTime,
-              unreadCount: 1,
-            },
-          ];
-        }
-
-        return prev.map((room: any) =>
-          room.id === msg.id
-            ? {
-                ...room,
+          if (!exists) {
+            next = [
+              ...next,
+              {
+                id: msg.id,
+                partnerName: msg.partnerName || '상대방',
+                partnerProfileImage: msg.partnerProfileImage || '',
                 lastMessage: msg.lastMessage,
                 lastMessageTime: msg.lastMessageTime,
-                unreadCount:
-                  window.location.pathname !== `/chat/${msg.id}`
-                    ? (room.unreadCount || 0) + 1
-                    : room.unreadCount,
-              }
-            : room,
-        );
+                unreadCount: msg.unreadCount,
+              },
+            ];
+            return;
+          }
+
+          // 안 읽은 메시지 수는 서버 카운터 값을 그대로 사용 (보고 있는 채팅방은 유지)
+          next = next.map((room: any) =>
+            room.id === msg.id
+              ? {
+                  ...room,
+                  lastMessage: msg.lastMessage,
+                  lastMessageTime: msg.lastMessageTime,
+                  unreadCount:
+                    window.location.pathname !== `/chat/${msg.id}`
+                      ? msg.unreadCount
+                      : room.unreadCount,
+                }
+              : room,
+          );
+        });
+        return next;
       });
     });
 
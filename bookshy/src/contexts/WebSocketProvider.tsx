@@ -1,7 +1,12 @@
 import React, { createContext, useContext, useEffect, useRef, useState, useCallback } from 'react';
 import SockJS from 'sockjs-client';
 import { CompatClient, IMessage, Stomp } from '@stomp/stompjs';
-import { ChatRoomSummary, EmojiUpdatePayload, ReadPayload } from '@/types/chat/chat';
+import {
+  ChatRoomSummary,
+  EmojiUpdatePayload,
+  ImageProcessedPayload,
+  ReadPayload,
+} from '@/types/chat/chat';
 
 const SOCKET_URL = import.meta.env.VITE_SOCKET_URL;
 
@@ -12,7 +17,7 @@ interface WebSocketContextValue {
   ) => { unsubscribe: () => void } | null;
   subscribeUser: (
     userId: number,
-    onMessage: (msg: ChatRoomSummary) => void,
+    onMessage: (rooms: ChatRoomSummary[]) => void,
   ) => { unsubscribe: () => void } | null;
   subscribeReadTopic: (
     roomId: number,
@@ -26,6 +31,10 @@ interface WebSocketContextValue {
     roomId: number,
     onEmojiUpdate: (payload: EmojiUpdatePayload) => void,
   ) => { unsubscribe: () => void } | null;
+  subscribeImageTopic: (
+    roomId: number,
+    onImageProcessed: (payload: ImageProcessedPayload) => void,
+  ) => { unsubscribe: () => void } | null;
   unsubscribe: (sub: { unsubscribe: () => void } | null) => void;
   sendMessage: (roomId: number, senderId: number, content: string, type: string) => void;
   isConnected: boolean;
@@ -115,11 +124,12 @@ export const WebSocketProvider: React.FC<React.PropsWithChildren<object>> = ({ c
   );
 
   const subscribeUser = useCallback(
-    (userId: number, onMessage: (message: ChatRoomSummary) => void) => {
+    (userId: number, onMessage: (rooms: ChatRoomSummary[]) => void) => {
       return subscribe(`/topic/chat/user/${userId}`, (frame) => {
         try {
-          const msg = JSON.parse(frame.body);
-          onMessage(msg);
+          // 서버가 짧은 구간 동안 바뀐 채팅방을 묶어서 배열로 전송
+          const body = JSON.parse(frame.body);
+          onMessage(Array.isArray(body) ? body : [body]);
         } catch (e) {
           console.error('❌ User message parsing failed', e);
         }
@@ -170,6 +180,20 @@ export const WebSocketProvider: React.FC<React.PropsWithChildren<object>> = ({ c
     [subscribe],
   );
 
+  const subscribeImageTopic = useCallback(
+    (roomId: number, onImageProcessed: (payload: ImageProcessedPayload) => void) => {
+      return subscribe(`/topic/chat/image/${roomId}`, (frame) => {
+        try {
+          const payload = JSON.parse(frame.body);
+          onImageProcessed(payload);
+        } catch (e) {
+          console.error('❌ Image message parsing failed', e);
+        }
+      });
+    },
+    [subscribe],
+  );
+
   const unsubscribe = useCallback((sub: { unsubscribe: () => void } | null) => {
     if (sub) sub.unsubscribe();
   }, []);
@@ -191,6 +215,7 @@ export const WebSocketProvider: React.FC<React.PropsWithChildren<object>> = ({ c
         subscribeReadTopic,
         subscribeCalendarTopic,
         subscribeEmojiTopic,
+        subscribeImageTopic,
         unsubscribe,
         sendMessage,
         isConnected,
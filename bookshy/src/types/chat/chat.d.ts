@@ -19,6 +19,8 @@ export interface ChatMessage {
   content: string | null;
   imageUrl?: string;
   thumbnailUrl?: string;
+  mediumUrl?: string;
+  imageStatus?: ImageStatus;
   type: 'text' | 'image' | 'notice' | 'info';
   timestamp: string;
   isRead: boolean;
@@ -41,7 +43,7 @@ export interface RegisterSchedulePayload {
 }
 
 interface ReadPayload {
-  messageIds: number[];
+  lastReadMessageId: number;
   readerId: number;
 }
 
@@ -52,6 +54,15 @@ export interface EmojiUpdatePayload {
   updatedBy: number;
 }
 
+export type ImageStatus = 'PROCESSING' | 'READY' | 'FAILED';
+
+export interface ImageProcessedPayload {
+  messageId: number;
+  thumbnailUrl: string | null;
+  mediumUrl: string | null;
+  imageStatus: ImageStatus;
+}
+
 export type CalendarType = 'EXCHANGE' | 'RENTAL';
 
 export interface ChatCalendarEventDto {
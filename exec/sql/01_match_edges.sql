@@ -0,0 +1,33 @@
+-- =====================================================================
+-- 🔗 매칭 간선 읽기 모델 (match_edges)
+--
+-- 운영(ddl-auto: validate) 배포 전에 한 번 실행합니다. 여러 번 실행해도 안전합니다.
+-- wisher가 찜한 도서를 holder가 공개 서재(library)에 보유하고 있으면 한 행입니다.
+-- 이후에는 찜·서재 변경 트랜잭션에서 애플리케이션이 증분 갱신합니다.
+-- =====================================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.match_edges (
+    edge_id    bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    wisher_id  bigint NOT NULL,
+    holder_id  bigint NOT NULL,
+    book_id    bigint NOT NULL,
+    library_id bigint NOT NULL,
+    CONSTRAINT uk_match_edges_wisher_library UNIQUE (wisher_id, library_id)
+);
+
+CREATE INDEX IF NOT EXISTS idx_match_edges_wisher_holder ON public.match_edges (wisher_id, holder_id);
+CREATE INDEX IF NOT EXISTS idx_match_edges_holder_wisher ON public.match_edges (holder_id, wisher_id);
+CREATE INDEX IF NOT EXISTS idx_match_edges_library ON public.match_edges (library_id);
+
+-- 초기 적재: 공개 서재 × 찜 (본인 도서 제외)
+INSERT INTO public.match_edges (wisher_id, holder_id, book_id, library_id)
+SELECT w.user_id, l.user_id, l.book_id, l.library_id
+FROM public.libraries l
+JOIN public.wish_books w ON w.book_id = l.book_id
+WHERE l.is_public = true
+AND w.user_id <> l.user_id
+ON CONFLICT (wisher_id, library_id) DO NOTHING;
+
+COMMIT;
@@ -0,0 +1,9 @@
+-- =====================================================================
+-- 💬 채팅 기록 keyset 페이지 조회용 인덱스
+--
+-- (chat_room_id, timestamp, id) 순서로 이전/이후 페이지를 인덱스 범위 스캔으로 읽습니다.
+-- 운영 중 쓰기 잠금을 피하기 위해 CONCURRENTLY로 생성하므로 트랜잭션 블록 밖에서 실행합니다.
+-- =====================================================================
+
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_message_room_timestamp_id
+    ON public.chat_message (chat_room_id, "timestamp", id);
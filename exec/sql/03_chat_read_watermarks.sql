@@ -0,0 +1,35 @@
+-- =====================================================================
+-- 👁️ 채팅방 참여자별 읽음 위치 (chat_read_watermarks)
+--
+-- (채팅방, 사용자)마다 마지막으로 읽은 메시지 ID 한 행. 갱신은 INSERT ... ON CONFLICT upsert로만 합니다.
+-- 기존 chat_message.is_read는 이전 데이터 호환용으로 남겨 두고 더 이상 갱신하지 않습니다.
+-- =====================================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.chat_read_watermarks (
+    id                   bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    chat_room_id         bigint NOT NULL,
+    user_id              bigint NOT NULL,
+    last_read_message_id bigint NOT NULL,
+    updated_at           timestamp(6) without time zone,
+    CONSTRAINT uk_chat_read_watermarks_room_user UNIQUE (chat_room_id, user_id)
+);
+
+-- 초기 적재: is_read로 읽음 처리된 상대 메시지 중 가장 큰 ID를 읽음 위치로
+INSERT INTO public.chat_read_watermarks (chat_room_id, user_id, last_read_message_id, updated_at)
+SELECT m.chat_room_id, p.user_id, MAX(m.id), now()
+FROM public.chat_message m
+JOIN public.chat_room r ON r.id = m.chat_room_id
+CROSS JOIN LATERAL (VALUES (r.user_a_id), (r.user_b_id)) AS p(user_id)
+WHERE m.is_read = true
+AND p.user_id IS NOT NULL
+AND m.sender_id <> p.user_id
+GROUP BY m.chat_room_id, p.user_id
+ON CONFLICT (chat_room_id, user_id) DO NOTHING;
+
+COMMIT;
+
+-- 읽음 위치 이후 상대 메시지 수(안 읽은 수) 범위 조회용, 트랜잭션 블록 밖에서 실행
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_message_room_id
+    ON public.chat_message (chat_room_id, id);
@@ -0,0 +1,29 @@
+-- =====================================================================
+-- 📮 트랜잭셔널 아웃박스 (outbox_events)
+--
+-- 운영(ddl-auto: validate) 배포 전에 한 번 실행합니다. 여러 번 실행해도 안전합니다.
+-- 업무 트랜잭션에서 기록한 이벤트를 OutboxRelay가 Kafka로 발행하고 sent_at을 채웁니다.
+-- claimed_until은 발행 중인 행의 임대 만료 시각입니다.
+-- =====================================================================
+
+BEGIN;
+
+CREATE TABLE IF NOT EXISTS public.outbox_events (
+    id            bigint GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY,
+    topic         varchar(255) NOT NULL,
+    event_key     varchar(255),
+    payload       text NOT NULL,
+    created_at    timestamp(6) without time zone NOT NULL,
+    sent_at       timestamp(6) without time zone,
+    claimed_until timestamp(6) without time zone
+);
+
+-- 임대 컬럼 이전에 만들어진 테이블 보정
+ALTER TABLE public.outbox_events ADD COLUMN IF NOT EXISTS claimed_until timestamp(6) without time zone;
+
+-- 미발행 행 조회 (sent_at IS NULL ORDER BY id), 보관 기간 정리
+CREATE INDEX IF NOT EXISTS idx_outbox_events_sent_at_id ON public.outbox_events (sent_at, id);
+-- 같은 키의 앞선 미발행 이벤트 확인
+CREATE INDEX IF NOT EXISTS idx_outbox_events_key_id ON public.outbox_events (event_key, id);
+
+COMMIT;
@@ -0,0 +1,24 @@
+-- =====================================================================
+-- 🖼️ 채팅 이미지 변환 결과 컬럼 (chat_message.medium_url, image_status)
+--
+-- 운영(ddl-auto: validate) 배포 전에 한 번 실행합니다. 여러 번 실행해도 안전합니다.
+-- image_status: 이미지 메시지의 변환 상태 (PROCESSING / READY / FAILED), 이미지가 아니면 NULL
+-- 기존 이미지 메시지는 thumbnail_url이 있으면 READY, 없으면 원본만 있는 FAILED로 간주합니다.
+-- =====================================================================
+
+BEGIN;
+
+ALTER TABLE public.chat_message ADD COLUMN IF NOT EXISTS medium_url varchar(255);
+ALTER TABLE public.chat_message ADD COLUMN IF NOT EXISTS image_status varchar(20);
+
+UPDATE public.chat_message
+SET image_status = CASE WHEN thumbnail_url IS NOT NULL THEN 'READY' ELSE 'FAILED' END
+WHERE image_url IS NOT NULL
+AND image_status IS NULL;
+
+COMMIT;
+
+-- 변환 재시도 대상(PROCESSING) 조회용 부분 인덱스, 트랜잭션 블록 밖에서 실행
+CREATE INDEX CONCURRENTLY IF NOT EXISTS idx_chat_message_image_processing
+    ON public.chat_message (id)
+    WHERE image_status = 'PROCESSING';
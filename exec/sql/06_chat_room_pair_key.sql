@@ -0,0 +1,55 @@
+-- =====================================================================
+-- 🔑 채팅방 참여자 쌍 정규화 키 (chat_room.pair_low_user_id, pair_high_user_id)
+--
+-- 운영(ddl-auto: validate) 배포 전에 한 번 실행합니다. 여러 번 실행해도 안전합니다.
+-- 새 버전의 채팅방 생성(INSERT ... ON CONFLICT (pair_low_user_id, pair_high_user_id))은
+-- 아래 유니크 제약이 있어야 동작하므로 반드시 배포 전에 끝까지 실행합니다.
+--
+-- 순서
+-- 1. 키 컬럼을 NULL 허용으로 추가
+-- 2. 같은 두 사용자의 방 중 가장 오래된 방(created_at, id 순)에만 키를 채움 → 나머지 중복 방은 NULL로 남음
+--    (NULL은 유니크 제약에서 서로 다른 값이므로 기존 중복 방과 그 메시지는 그대로 조회됩니다)
+-- 3. 유니크 인덱스를 CONCURRENTLY로 만든 뒤 그 인덱스로 제약 uk_chat_room_pair 추가
+-- =====================================================================
+
+-- 1️⃣ 컬럼 추가
+ALTER TABLE public.chat_room ADD COLUMN IF NOT EXISTS pair_low_user_id bigint;
+ALTER TABLE public.chat_room ADD COLUMN IF NOT EXISTS pair_high_user_id bigint;
+
+-- 2️⃣ 쌍별 가장 오래된 방에만 키 적재 (이미 키가 있는 쌍은 건너뜀)
+BEGIN;
+
+UPDATE public.chat_room r
+SET pair_low_user_id  = LEAST(r.user_a_id, r.user_b_id),
+    pair_high_user_id = GREATEST(r.user_a_id, r.user_b_id)
+FROM (
+    SELECT DISTINCT ON (LEAST(user_a_id, user_b_id), GREATEST(user_a_id, user_b_id)) id
+    FROM public.chat_room
+    WHERE user_a_id IS NOT NULL
+    AND user_b_id IS NOT NULL
+    ORDER BY LEAST(user_a_id, user_b_id), GREATEST(user_a_id, user_b_id), created_at, id
+) oldest
+WHERE r.id = oldest.id
+AND r.pair_low_user_id IS NULL
+AND NOT EXISTS (
+    SELECT 1 FROM public.chat_room k
+    WHERE k.pair_low_user_id = LEAST(r.user_a_id, r.user_b_id)
+    AND k.pair_high_user_id = GREATEST(r.user_a_id, r.user_b_id)
+);
+
+COMMIT;
+
+-- 3️⃣ 유니크 인덱스 (트랜잭션 블록 밖에서 실행) → 제약으로 승격
+CREATE UNIQUE INDEX CONCURRENTLY IF NOT EXISTS uk_chat_room_pair
+    ON public.chat_room (pair_low_user_id, pair_high_user_id);
+
+DO $$
+BEGIN
+    IF NOT EXISTS (SELECT 1 FROM pg_constraint WHERE conname = 'uk_chat_room_pair') THEN
+        ALTER TABLE public.chat_room ADD CONSTRAINT uk_chat_room_pair UNIQUE USING INDEX uk_chat_room_pair;
+    END IF;
+END $$;
+
+-- 중복으로 남은 방 확인용
+-- SELECT LEAST(user_a_id, user_b_id) AS low, GREATEST(user_a_id, user_b_id) AS high, array_agg(id ORDER BY id)
+-- FROM public.chat_room GROUP BY 1, 2 HAVING COUNT(*) > 1;